@@ -22,5 +22,28 @@ def analyze():
     keywords = extractor.extract_keywords(review)
     return jsonify({"keywords": keywords})
 
+# 한 요청에 받을 수 있는 최대 리뷰 수 (Java 클라이언트는 이보다 작게 나눠서 보냄)
+MAX_BATCH_SIZE = 64
+
+@app.route("/analyze-batch", methods=["POST"])
+def analyze_batch():
+    data = request.get_json(silent=True) or {}
+    reviews = data.get("reviews")
+
+    if not isinstance(reviews, list):
+        return jsonify({"error": "reviews must be a list"}), 400
+    if len(reviews) > MAX_BATCH_SIZE:
+        return jsonify({"error": f"at most {MAX_BATCH_SIZE} reviews per request"}), 400
+
+    # 입력 순서대로 N개의 키워드 목록을 반환 (빈 리뷰는 빈 목록)
+    # 비어 있지 않은 리뷰는 모아서 모델을 한 번만 호출
+    results = [[] for _ in reviews]
+    targets = [i for i, review in enumerate(reviews) if isinstance(review, str) and review.strip()]
+    if targets:
+        batch_keywords = extractor.extract_keywords_batch([reviews[i] for i in targets])
+        for i, keywords in zip(targets, batch_keywords):
+            results[i] = keywords
+    return jsonify({"keywords": results})
+
 if __name__ == "__main__":
     app.run(host="0.0.0.0", port=5050)
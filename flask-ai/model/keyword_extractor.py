@@ -59,14 +59,37 @@ class KeywordExtractor:
         self.okt = Okt()
 
     def extract_keywords(self, text, top_n=7):
-        cleaned = re.sub(r"[^\w\s+가-힣]", " ", text.lower())
-
-        raw_keywords = self.kw_model.extract_keywords(
-            cleaned,
+        return self.extract_keywords_batch([text], top_n=top_n)[0]
+
+    def extract_keywords_batch(self, texts, top_n=7):
+        """
+        여러 리뷰를 KeyBERT 한 번의 호출로 임베딩/추출 (입력 순서대로 키워드 목록 반환)
+        정제 후 비어 있는 리뷰는 모델에 넘기지 않고 빈 목록을 돌려줌
+        """
+        cleaned_texts = [self.clean(text) for text in texts]
+        targets = [i for i, cleaned in enumerate(cleaned_texts) if cleaned.strip()]
+
+        results = [[] for _ in texts]
+        if not targets:
+            return results
+
+        raw_keywords_list = self.kw_model.extract_keywords(
+            docs=[cleaned_texts[i] for i in targets],
             top_n=top_n * 3,
             stop_words=None
         )
+        # KeyBERT는 문서가 1개면 목록 하나를 그대로 반환
+        if len(targets) == 1:
+            raw_keywords_list = [raw_keywords_list]
+
+        for i, raw_keywords in zip(targets, raw_keywords_list):
+            results[i] = self.select_keywords(texts[i], raw_keywords, top_n)
+        return results
+
+    def clean(self, text):
+        return re.sub(r"[^\w\s+가-힣]", " ", text.lower())
 
+    def select_keywords(self, text, raw_keywords, top_n):
         noun_keywords = []
         for word, score in raw_keywords:
             pos = self.okt.pos(word)
@@ -2,6 +2,13 @@ package autoever_2st.project.admin.controller;
 
 import autoever_2st.project.admin.dto.stats.*;
 import autoever_2st.project.admin.service.MemberService;
+import autoever_2st.project.movie.component.MovieDetailCache;
+import autoever_2st.project.review.component.KeywordExtractionQueue;
+import autoever_2st.project.review.component.KeywordResultCache;
+import autoever_2st.project.user.Service.LoginExecutor;
+import autoever_2st.project.user.Service.MemberSnapshotCache;
+import autoever_2st.project.user.jwt.TokenRevocationStore;
+import autoever_2st.project.user.jwt.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +25,13 @@ import java.util.*;
 public class AdminStaticController {
 
     private final MemberService memberService;
+    private final MovieDetailCache movieDetailCache;
+    private final KeywordExtractionQueue keywordExtractionQueue;
+    private final KeywordResultCache keywordResultCache;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final LoginExecutor loginExecutor;
 
     //가입자 추세 조회
     @GetMapping("/stats/register/{dateType}")
@@ -39,4 +53,46 @@ public class AdminStaticController {
         TotalMemberStatsDto response = memberService.getTotalMemberStats();
         return ResponseEntity.ok(response);
     }
+
+    //영화 상세 캐시 지표 조회 (적중률, 제거 수, 로딩 시간)
+    @GetMapping("/stats/cache/movie-detail")
+    public ResponseEntity<CacheStatsDto> getMovieDetailCacheStats() {
+        return ResponseEntity.ok(movieDetailCache.getStats());
+    }
+
+    //키워드 분석 캐시 지표 조회 (메모리/Mongo 적중률, 제거 수)
+    @GetMapping("/stats/cache/keyword-analysis")
+    public ResponseEntity<KeywordCacheStatsDto> getKeywordAnalysisCacheStats() {
+        return ResponseEntity.ok(keywordResultCache.getStats());
+    }
+
+    //리뷰 키워드 추출 큐 지표 조회 (대기 건수, 거절 수, 재시도/실패 수, 평균 분석 시간)
+    @GetMapping("/stats/queue/keyword-extraction")
+    public ResponseEntity<KeywordQueueStatsDto> getKeywordExtractionQueueStats() {
+        return ResponseEntity.ok(keywordExtractionQueue.getStats());
+    }
+
+    //JWT 검증 캐시 지표 조회 (적중률, 서명 검증 횟수/실패 수, 평균 검증 시간)
+    @GetMapping("/stats/cache/verified-token")
+    public ResponseEntity<CacheStatsDto> getVerifiedTokenCacheStats() {
+        return ResponseEntity.ok(verifiedTokenCache.getStats());
+    }
+
+    //인증 회원 스냅샷 캐시 지표 조회 (적중률, 무효화 수, DB 조회 수/평균 시간)
+    @GetMapping("/stats/cache/member-snapshot")
+    public ResponseEntity<CacheStatsDto> getMemberSnapshotCacheStats() {
+        return ResponseEntity.ok(memberSnapshotCache.getStats());
+    }
+
+    //JWT 폐기 목록 지표 조회 (필터 통과 수, DB 확인 수, 오탐률, 폐기 수)
+    @GetMapping("/stats/security/token-revocation")
+    public ResponseEntity<TokenRevocationStatsDto> getTokenRevocationStats() {
+        return ResponseEntity.ok(tokenRevocationStore.getStats());
+    }
+
+    //로그인 실행기 지표 조회 (대기열, 동시성 제한 거절 수, 평균 대기/인증 시간)
+    @GetMapping("/stats/login")
+    public ResponseEntity<LoginExecutorStatsDto> getLoginExecutorStats() {
+        return ResponseEntity.ok(loginExecutor.getStats());
+    }
 }
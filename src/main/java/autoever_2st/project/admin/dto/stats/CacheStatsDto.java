@@ -0,0 +1,39 @@
+package autoever_2st.project.admin.dto.stats;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class CacheStatsDto {
+    private String cacheName;
+    private Integer size;
+    private Long weight;
+    private Long maxWeight;
+    private Long hitCount;
+    private Long missCount;
+    private Double hitRatio;
+    private Long evictionCount;
+    private Long invalidationCount;
+    private Long loadCount;
+    private Long loadFailureCount;
+    private Double averageLoadMillis;
+
+    public CacheStatsDto(String cacheName, Integer size, Long weight, Long maxWeight, Long hitCount, Long missCount,
+                         Long evictionCount, Long invalidationCount, Long loadCount, Long loadFailureCount,
+                         Long totalLoadNanos) {
+        this.cacheName = cacheName;
+        this.size = size;
+        this.weight = weight;
+        this.maxWeight = maxWeight;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        long requestCount = hitCount + missCount;
+        this.hitRatio = requestCount == 0 ? 0.0 : (double) hitCount / requestCount;
+        this.evictionCount = evictionCount;
+        this.invalidationCount = invalidationCount;
+        this.loadCount = loadCount;
+        this.loadFailureCount = loadFailureCount;
+        this.averageLoadMillis = loadCount == 0 ? 0.0 : totalLoadNanos / 1_000_000.0 / loadCount;
+    }
+}
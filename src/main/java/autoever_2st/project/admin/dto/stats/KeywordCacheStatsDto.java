@@ -0,0 +1,32 @@
+package autoever_2st.project.admin.dto.stats;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class KeywordCacheStatsDto {
+    private String cacheName;
+    private Integer memorySize;
+    private Integer maxMemorySize;
+    private Long memoryHitCount;
+    private Long storeHitCount;
+    private Long missCount;
+    private Double hitRatio;
+    private Double memoryHitRatio;
+    private Long evictionCount;
+
+    public KeywordCacheStatsDto(String cacheName, Integer memorySize, Integer maxMemorySize, Long memoryHitCount,
+                                Long storeHitCount, Long missCount, Long evictionCount) {
+        this.cacheName = cacheName;
+        this.memorySize = memorySize;
+        this.maxMemorySize = maxMemorySize;
+        this.memoryHitCount = memoryHitCount;
+        this.storeHitCount = storeHitCount;
+        this.missCount = missCount;
+        long requestCount = memoryHitCount + storeHitCount + missCount;
+        this.hitRatio = requestCount == 0 ? 0.0 : (double) (memoryHitCount + storeHitCount) / requestCount;
+        this.memoryHitRatio = requestCount == 0 ? 0.0 : (double) memoryHitCount / requestCount;
+        this.evictionCount = evictionCount;
+    }
+}
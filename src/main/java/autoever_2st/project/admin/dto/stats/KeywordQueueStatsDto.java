@@ -0,0 +1,34 @@
+package autoever_2st.project.admin.dto.stats;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class KeywordQueueStatsDto {
+    private Integer queueSize;
+    private Integer capacity;
+    private Long enqueuedCount;
+    private Long rejectedCount;
+    private Long batchCount;
+    private Double averageBatchSize;
+    private Long processedCount;
+    private Long retryCount;
+    private Long failedCount;
+    private Double averageAnalyzeMillis;
+
+    public KeywordQueueStatsDto(Integer queueSize, Integer capacity, Long enqueuedCount, Long rejectedCount,
+                                Long batchCount, Long batchedJobCount, Long processedCount, Long retryCount,
+                                Long failedCount, Long analyzeCount, Long totalAnalyzeNanos) {
+        this.queueSize = queueSize;
+        this.capacity = capacity;
+        this.enqueuedCount = enqueuedCount;
+        this.rejectedCount = rejectedCount;
+        this.batchCount = batchCount;
+        this.averageBatchSize = batchCount == 0 ? 0.0 : (double) batchedJobCount / batchCount;
+        this.processedCount = processedCount;
+        this.retryCount = retryCount;
+        this.failedCount = failedCount;
+        this.averageAnalyzeMillis = analyzeCount == 0 ? 0.0 : totalAnalyzeNanos / 1_000_000.0 / analyzeCount;
+    }
+}
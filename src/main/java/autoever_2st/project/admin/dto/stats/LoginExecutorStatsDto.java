@@ -0,0 +1,40 @@
+package autoever_2st.project.admin.dto.stats;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@Getter
+public class LoginExecutorStatsDto {
+    private Integer poolSize;
+    private Integer activeCount;
+    private Integer queueSize;
+    private Integer queueCapacity;
+    private Long submittedCount;
+    private Long queueFullRejectedCount;
+    private Long ipLimitRejectedCount;
+    private Long accountLimitRejectedCount;
+    private Long succeededCount;
+    private Long failedCount;
+    private Double averageQueueWaitMillis;
+    private Double averageAuthenticateMillis;
+
+    public LoginExecutorStatsDto(Integer poolSize, Integer activeCount, Integer queueSize, Integer queueCapacity,
+                                 Long submittedCount, Long queueFullRejectedCount, Long ipLimitRejectedCount,
+                                 Long accountLimitRejectedCount, Long succeededCount, Long failedCount,
+                                 Long totalQueueWaitNanos, Long totalAuthenticateNanos) {
+        this.poolSize = poolSize;
+        this.activeCount = activeCount;
+        this.queueSize = queueSize;
+        this.queueCapacity = queueCapacity;
+        this.submittedCount = submittedCount;
+        this.queueFullRejectedCount = queueFullRejectedCount;
+        this.ipLimitRejectedCount = ipLimitRejectedCount;
+        this.accountLimitRejectedCount = accountLimitRejectedCount;
+        this.succeededCount = succeededCount;
+        this.failedCount = failedCount;
+        long completedCount = succeededCount + failedCount;
+        this.averageQueueWaitMillis = completedCount == 0 ? 0.0 : totalQueueWaitNanos / 1_000_000.0 / completedCount;
+        this.averageAuthenticateMillis = completedCount == 0 ? 0.0 : totalAuthenticateNanos / 1_000_000.0 / completedCount;
+    }
+}
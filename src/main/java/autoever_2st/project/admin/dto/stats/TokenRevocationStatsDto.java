@@ -0,0 +1,31 @@
+package autoever_2st.project.admin.dto.stats;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@Getter
+public class TokenRevocationStatsDto {
+    private Integer filterEntries;
+    private LocalDateTime lastSyncedAt;
+    private Long checkCount;
+    private Long filterPassCount;
+    private Long storeLookupCount;
+    private Long revokedHitCount;
+    private Double falsePositiveRatio;
+    private Long revokeCount;
+
+    public TokenRevocationStatsDto(Integer filterEntries, LocalDateTime lastSyncedAt, Long checkCount,
+                                   Long filterPassCount, Long storeLookupCount, Long revokedHitCount, Long revokeCount) {
+        this.filterEntries = filterEntries;
+        this.lastSyncedAt = lastSyncedAt;
+        this.checkCount = checkCount;
+        this.filterPassCount = filterPassCount;
+        this.storeLookupCount = storeLookupCount;
+        this.revokedHitCount = revokedHitCount;
+        this.falsePositiveRatio = storeLookupCount == 0 ? 0.0 : (double) (storeLookupCount - revokedHitCount) / storeLookupCount;
+        this.revokeCount = revokeCount;
+    }
+}
@@ -14,6 +14,7 @@ import autoever_2st.project.user.Repository.RoleRepository;
 import autoever_2st.project.user.Repository.UserRepository;
 import autoever_2st.project.user.Repository.follow.FollowerRepository;
 import autoever_2st.project.user.Repository.follow.MemberFollowerRepository;
+import autoever_2st.project.user.Service.MemberSnapshotCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -29,6 +30,7 @@ public class ReviewerService {
     private final ReviewRepository reviewRepository;
     private final MemberFollowerRepository memberFollowerRepository;
     private final RoleRepository roleRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
 
     public AdminReviewerDto findReviewerByNickname(String nickname) {
         Member member = userRepository.findByNickname(nickname)
@@ -113,6 +115,7 @@ public class ReviewerService {
         member.setRole(roleEntity);
 
         userRepository.save(member);
+        memberSnapshotCache.invalidate(memberId);
     }
 
     //다중 역할 변경
@@ -138,6 +141,7 @@ public class ReviewerService {
             member.setRole(roleEntity);
 
             userRepository.save(member);
+            memberSnapshotCache.invalidate(memberId);
         }
     }
 
@@ -150,6 +154,7 @@ public class ReviewerService {
         member.setIs_banned(isBanned);
 
         userRepository.save(member); // 저장
+        memberSnapshotCache.invalidate(memberId);
     }
 
     // 단일 차단 해제
@@ -161,6 +166,7 @@ public class ReviewerService {
         member.setIs_banned(isBanned);
 
         userRepository.save(member); // 저장
+        memberSnapshotCache.invalidate(memberId);
     }
 
     //다중 차단
@@ -175,6 +181,7 @@ public class ReviewerService {
 
             member.setIs_banned(isBanned);
             userRepository.save(member);
+            memberSnapshotCache.invalidate(memberId);
         }
     }
 
@@ -190,6 +197,7 @@ public class ReviewerService {
 
             member.setIs_banned(isBanned);
             userRepository.save(member);
+            memberSnapshotCache.invalidate(memberId);
         }
     }
 
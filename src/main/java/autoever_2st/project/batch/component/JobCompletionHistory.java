@@ -0,0 +1,30 @@
+package autoever_2st.project.batch.component;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 배치 Job 완료 이력 조회 (JobRepository 메타데이터 기준)
+ * - 읽기 모델 초기 구성처럼 한 번 완료되면 다시 돌 필요가 없는 작업의 기동 시 실행 여부를 판단
+ * - 대상 테이블이 비어 있는지로 판단하면 구성 도중 들어온 증분 갱신 때문에 영영 구성되지 않을 수 있으므로 완료 이력을 기준으로 함
+ */
+@Component
+@RequiredArgsConstructor
+public class JobCompletionHistory {
+
+    private final JobExplorer jobExplorer;
+
+    public boolean hasCompleted(String jobName) {
+        for (JobInstance instance : jobExplorer.getJobInstances(jobName, 0, Integer.MAX_VALUE)) {
+            boolean completed = jobExplorer.getJobExecutions(instance).stream()
+                    .anyMatch(execution -> execution.getStatus() == BatchStatus.COMPLETED);
+            if (completed) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,86 @@
+package autoever_2st.project.batch.config;
+
+import autoever_2st.project.batch.component.JobCompletionHistory;
+import autoever_2st.project.review.component.FollowingFeed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 기존 팔로우 관계로 팔로잉 피드(feed_entry)를 채우는 배치 설정
+ *
+ * 피드는 리뷰 작성/팔로우 때마다 적재되므로 테이블이 비어 있는지로는 초기 적재 여부를 알 수 없습니다.
+ * 한 번도 완료된 적이 없으면 기동 시 자동으로 실행하고, 이후에는 /batch/followingFeedFillJob 으로만 실행합니다.
+ *
+ * 적재는 INSERT IGNORE ... SELECT 한 문장이라 이미 적재된 항목은 건너뛰고,
+ * InnoDB(REPEATABLE READ)는 원본 행에 공유 잠금을 걸어 읽으므로 같은 시점의 팔로우/리뷰 삭제 트랜잭션과 직렬화됩니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class FollowingFeedFillJobConfig {
+
+    private static final String JOB_NAME = "followingFeedFillJob";
+
+    private final FollowingFeed followingFeed;
+    private final JobRepository jobRepository;
+    private final JobCompletionHistory jobCompletionHistory;
+    private final JobLauncher jobLauncher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Bean
+    public Job followingFeedFillJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(fillFollowingFeedStep())
+                .build();
+    }
+
+    @Bean
+    public Step fillFollowingFeedStep() {
+        return new StepBuilder("fillFollowingFeedStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(followingFeed.fillAll());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    /**
+     * 적재가 완료된 적이 없으면(최초 배포) 기동 시 백그라운드에서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillIfNeverCompleted() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (jobCompletionHistory.hasCompleted(JOB_NAME)) {
+                    return;
+                }
+                log.info("팔로잉 피드 적재 이력이 없어 기동 시 실행합니다.");
+                jobLauncher.run(followingFeedFillJob(), new JobParametersBuilder()
+                        .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                        .toJobParameters());
+            } catch (Exception e) {
+                log.error("팔로잉 피드 적재 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package autoever_2st.project.batch.config;
+
+import autoever_2st.project.batch.component.JobCompletionHistory;
+import autoever_2st.project.batch.dao.GenrePreferenceDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 회원 장르 선호도(member_genre_preference)를 리뷰 전체 평점으로 다시 계산하는 배치 설정
+ *
+ * 선호도는 GenrePreferenceUpdater가 리뷰 이벤트마다 증분 갱신하므로, 그 이전에 쌓인 값(장르당 1)과
+ * 기존 리뷰의 가중치를 한 번 맞춰 두어야 합니다. 한 번도 완료된 적이 없으면 기동 시 자동으로 실행하고,
+ * 이후에는 /batch/genrePreferenceRebuildJob 으로만 실행합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class GenrePreferenceRebuildJobConfig {
+
+    private static final String JOB_NAME = "genrePreferenceRebuildJob";
+
+    private final GenrePreferenceDao genrePreferenceDao;
+    private final JobRepository jobRepository;
+    private final JobCompletionHistory jobCompletionHistory;
+    private final JobLauncher jobLauncher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Bean
+    public Job genrePreferenceRebuildJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(rebuildGenrePreferenceStep())
+                .build();
+    }
+
+    /**
+     * 삭제와 재적재를 한 트랜잭션으로 처리
+     */
+    @Bean
+    public Step rebuildGenrePreferenceStep() {
+        return new StepBuilder("rebuildGenrePreferenceStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(genrePreferenceDao.rebuildAll());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    /**
+     * 재계산이 한 번도 완료되지 않았으면(최초 배포) 기동 시 백그라운드에서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeverCompleted() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (jobCompletionHistory.hasCompleted(JOB_NAME)) {
+                    return;
+                }
+                log.info("회원 장르 선호도 재계산 이력이 없어 기동 시 실행합니다.");
+                jobLauncher.run(genrePreferenceRebuildJob(), new JobParametersBuilder()
+                        .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                        .toJobParameters());
+            } catch (Exception e) {
+                log.error("회원 장르 선호도 재계산 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package autoever_2st.project.batch.config;
 
+import autoever_2st.project.batch.listener.BoxOfficeSnapshotRefreshListener;
 import autoever_2st.project.batch.processor.KoficBatchProcessor;
 import autoever_2st.project.batch.reader.KoficBatchReader;
 import autoever_2st.project.batch.writer.KoficBatchWriter;
@@ -27,6 +28,7 @@ public class KoficBatchJobConfig {
     private final KoficBatchReader koficBatchReader;
     private final KoficBatchProcessor koficBatchProcessor;
     private final KoficBatchWriter koficBatchWriter;
+    private final BoxOfficeSnapshotRefreshListener boxOfficeSnapshotRefreshListener;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
@@ -36,6 +38,7 @@ public class KoficBatchJobConfig {
     @Bean
     public Job koficBoxOfficeJob() {
         return new JobBuilder("koficBoxOfficeJob", jobRepository)
+                .listener(boxOfficeSnapshotRefreshListener) // 완료 후 박스오피스 스냅샷 재구성
                 .start(fetchDailyBoxOfficeStep())
 //                .next(fetchWeeklyBoxOfficeStep())
                 .build();
@@ -2,6 +2,8 @@ package autoever_2st.project.batch.config;
 
 import autoever_2st.project.batch.dto.KoficTmdbMappingDto;
 import autoever_2st.project.batch.dto.KoficTmdbProcessedData;
+import autoever_2st.project.batch.listener.BoxOfficeSnapshotRefreshListener;
+import autoever_2st.project.batch.listener.SearchIndexRefreshListener;
 import autoever_2st.project.batch.processor.TmdbBatchProcessor;
 import autoever_2st.project.batch.reader.TmdbBatchReader;
 import autoever_2st.project.batch.writer.TmdbBatchWriter;
@@ -30,6 +32,8 @@ public class KoficTmdbMappingBatchJobConfig {
     private final TmdbBatchReader tmdbBatchReader;
     private final TmdbBatchProcessor tmdbBatchProcessor;
     private final TmdbBatchWriter tmdbBatchWriter;
+    private final SearchIndexRefreshListener searchIndexRefreshListener;
+    private final BoxOfficeSnapshotRefreshListener boxOfficeSnapshotRefreshListener;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
 
@@ -41,6 +45,8 @@ public class KoficTmdbMappingBatchJobConfig {
     @Bean
     public Job koficTmdbMappingJob() {
         return new JobBuilder("koficTmdbMappingJob", jobRepository)
+                .listener(searchIndexRefreshListener) // 완료 후 자동완성/인물 검색 인덱스 재구성
+                .listener(boxOfficeSnapshotRefreshListener) // 매핑이 바뀌면 박스오피스 스냅샷도 재구성
                 .start(koficTmdbMappingStep()) // KOFIC-TMDB 매핑만 수행
                 .build();
     }
@@ -0,0 +1,85 @@
+package autoever_2st.project.batch.config;
+
+import autoever_2st.project.batch.component.JobCompletionHistory;
+import autoever_2st.project.review.component.MovieKeywordHistogramBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 영화별 키워드 히스토그램(movie_keyword_histograms)을 review_keywords 기준으로 다시 구성하는 배치 설정
+ *
+ * 히스토그램은 리뷰 키워드가 반영될 때마다 upsert 되므로 컬렉션이 비어 있는지로는 초기 구성 여부를 알 수 없습니다.
+ * 이 Job이나 리뷰 키워드 백필 Job(마지막 Step에서 재구성)이 한 번도 완료된 적이 없으면 기동 시 자동으로 실행하고,
+ * 이후에는 /batch/movieKeywordHistogramRebuildJob 으로만 실행합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class MovieKeywordHistogramRebuildJobConfig {
+
+    private static final String JOB_NAME = "movieKeywordHistogramRebuildJob";
+    private static final String BACKFILL_JOB_NAME = "reviewKeywordBackfillJob";
+
+    private final MovieKeywordHistogramBuilder movieKeywordHistogramBuilder;
+    private final JobRepository jobRepository;
+    private final JobCompletionHistory jobCompletionHistory;
+    private final JobLauncher jobLauncher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Bean
+    public Job movieKeywordHistogramRebuildJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(movieKeywordHistogramRebuildStep())
+                .build();
+    }
+
+    @Bean
+    public Step movieKeywordHistogramRebuildStep() {
+        return new StepBuilder("movieKeywordHistogramRebuildStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(movieKeywordHistogramBuilder.rebuildAll());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    /**
+     * 재구성이 완료된 적이 없으면(최초 배포) 기동 시 백그라운드에서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeverCompleted() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (jobCompletionHistory.hasCompleted(JOB_NAME) || jobCompletionHistory.hasCompleted(BACKFILL_JOB_NAME)) {
+                    return;
+                }
+                log.info("영화별 키워드 히스토그램 구성 이력이 없어 기동 시 실행합니다.");
+                jobLauncher.run(movieKeywordHistogramRebuildJob(), new JobParametersBuilder()
+                        .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                        .toJobParameters());
+            } catch (Exception e) {
+                log.error("영화별 키워드 히스토그램 구성 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package autoever_2st.project.batch.config;
+
+import autoever_2st.project.batch.tasklet.ReviewKeywordBackfillTasklet;
+import autoever_2st.project.review.component.MovieKeywordHistogramBuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+
+/**
+ * 기존 리뷰 전체의 키워드를 Flask /analyze-batch 로 다시 분석하는 백필 배치 설정
+ * 스케줄 없이 /batch/reviewKeywordBackfillJob 으로만 실행합니다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ReviewKeywordBackfillJobConfig {
+
+    private final ReviewKeywordBackfillTasklet reviewKeywordBackfillTasklet;
+    private final MovieKeywordHistogramBuilder movieKeywordHistogramBuilder;
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Bean
+    public Job reviewKeywordBackfillJob() {
+        return new JobBuilder("reviewKeywordBackfillJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(reviewKeywordBackfillStep())
+                .next(rebuildMovieKeywordHistogramStep()) // 백필 결과 기준으로 영화별 키워드 히스토그램 재구성
+                .build();
+    }
+
+    /**
+     * 리뷰 ID 순으로 페이지 단위 분석/저장 (페이지마다 진행 위치 저장)
+     * Flask 분석 요청 동안 DB 커넥션을 잡고 있지 않도록 Step 트랜잭션 없이 실행합니다.
+     * 조회는 단건 쿼리, 키워드 저장은 Mongo이고, 진행 위치는 JobRepository가 자체 트랜잭션으로 저장합니다.
+     */
+    @Bean
+    public Step reviewKeywordBackfillStep() {
+        return new StepBuilder("reviewKeywordBackfillStep", jobRepository)
+                .tasklet(reviewKeywordBackfillTasklet, transactionManager)
+                .transactionAttribute(new DefaultTransactionAttribute(TransactionDefinition.PROPAGATION_NOT_SUPPORTED))
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    /**
+     * review_keywords 기준으로 영화별 키워드 히스토그램 전체 재구성
+     */
+    @Bean
+    public Step rebuildMovieKeywordHistogramStep() {
+        return new StepBuilder("rebuildMovieKeywordHistogramStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(movieKeywordHistogramBuilder.rebuildAll());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .allowStartIfComplete(true)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package autoever_2st.project.batch.config;
+
+import autoever_2st.project.batch.component.JobCompletionHistory;
+import autoever_2st.project.batch.dao.ReviewerLeaderboardDao;
+import autoever_2st.project.reviewer.component.ReviewerLeaderboard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 리뷰어 목록(reviewer_leaderboard)을 원본 테이블(member, member_follower, review)에서 다시 집계하는 배치 설정
+ *
+ * 목록은 회원/팔로우/리뷰 이벤트마다 증분 갱신되므로 테이블이 비어 있는지로는 초기 구성 여부를 알 수 없습니다.
+ * 한 번도 완료된 적이 없으면 기동 시 자동으로 실행하고, 완료되기 전까지 ReviewerLeaderboard는 원본 테이블에서 바로 집계합니다.
+ * 이후에는 /batch/reviewerLeaderboardRebuildJob 으로만 실행합니다.
+ *
+ * 집계는 INSERT ... SELECT 한 문장이고 InnoDB(REPEATABLE READ)는 원본 행에 공유 잠금을 걸어 읽으므로,
+ * 집계 중 원본을 바꾸는 팔로우/리뷰 트랜잭션(증분도 같은 트랜잭션에서 반영)은 집계 전이나 후로 직렬화됩니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ReviewerLeaderboardRebuildJobConfig {
+
+    private static final String JOB_NAME = "reviewerLeaderboardRebuildJob";
+
+    private final ReviewerLeaderboardDao reviewerLeaderboardDao;
+    private final ReviewerLeaderboard reviewerLeaderboard;
+    private final JobRepository jobRepository;
+    private final JobCompletionHistory jobCompletionHistory;
+    private final JobLauncher jobLauncher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Bean
+    public Job reviewerLeaderboardRebuildJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .listener(new JobExecutionListener() {
+                    @Override
+                    public void afterJob(JobExecution jobExecution) {
+                        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+                            reviewerLeaderboard.markPopulated();
+                        }
+                    }
+                })
+                .start(rebuildReviewerLeaderboardStep())
+                .build();
+    }
+
+    @Bean
+    public Step rebuildReviewerLeaderboardStep() {
+        return new StepBuilder("rebuildReviewerLeaderboardStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(reviewerLeaderboardDao.rebuildAll());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .allowStartIfComplete(true)
+                .build();
+    }
+
+    /**
+     * 집계가 완료된 적이 있으면 바로 목록을 사용하고, 없으면(최초 배포) 기동 시 백그라운드에서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeverCompleted() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (jobCompletionHistory.hasCompleted(JOB_NAME)) {
+                    reviewerLeaderboard.markPopulated();
+                    return;
+                }
+                log.info("리뷰어 목록 집계 이력이 없어 기동 시 실행합니다.");
+                jobLauncher.run(reviewerLeaderboardRebuildJob(), new JobParametersBuilder()
+                        .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                        .toJobParameters());
+            } catch (Exception e) {
+                log.error("리뷰어 목록 집계 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+}
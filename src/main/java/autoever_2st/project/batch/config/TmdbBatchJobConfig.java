@@ -4,8 +4,12 @@ import autoever_2st.project.batch.dto.CompanyMovieMappingDto;
 import autoever_2st.project.batch.dto.MovieImagesDto;
 import autoever_2st.project.batch.dto.MovieVideosDto;
 import autoever_2st.project.batch.dto.MovieWatchProvidersDto;
+import autoever_2st.project.batch.listener.BoxOfficeSnapshotRefreshListener;
+import autoever_2st.project.batch.listener.OttShelfRefreshListener;
+import autoever_2st.project.batch.listener.SearchIndexRefreshListener;
 import autoever_2st.project.batch.processor.TmdbBatchProcessor;
 import autoever_2st.project.batch.reader.TmdbBatchReader;
+import autoever_2st.project.batch.tasklet.MovieCardRebuildTasklet;
 import autoever_2st.project.batch.writer.TmdbBatchWriter;
 import autoever_2st.project.external.dto.tmdb.common.movie.CreditsWrapperDto;
 import autoever_2st.project.external.dto.tmdb.common.movie.MovieDetailWrapperDto;
@@ -41,6 +45,10 @@ public class TmdbBatchJobConfig {
     private final TmdbBatchReader tmdbBatchReader;
     private final TmdbBatchProcessor tmdbBatchProcessor;
     private final TmdbBatchWriter tmdbBatchWriter;
+    private final MovieCardRebuildTasklet movieCardRebuildTasklet;
+    private final SearchIndexRefreshListener searchIndexRefreshListener;
+    private final BoxOfficeSnapshotRefreshListener boxOfficeSnapshotRefreshListener;
+    private final OttShelfRefreshListener ottShelfRefreshListener;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private static final int CHUNK_SIZE = 100;
@@ -54,6 +62,8 @@ public class TmdbBatchJobConfig {
     public Job tmdbMovieJob() {
         return new JobBuilder("tmdbMovieJob", jobRepository)
                 .incrementer(new RunIdIncrementer()) // 동일한 파라미터로 여러 번 실행 가능
+                .listener(searchIndexRefreshListener) // 완료 후 자동완성/인물 검색 인덱스 재구성
+                .listener(boxOfficeSnapshotRefreshListener) // 포스터/감독/예고편이 바뀌므로 박스오피스 스냅샷도 재구성
                 .start(fetchGenreStep()) // 먼저 장르 정보 로드
                 .next(fetchOttPlatformStep()) // 그 다음 OTT 플랫폼 정보 로드
                 .next(fetchMovieDiscoverStep()) // 현재 상영중인 영화 정보 로드 (Movie 엔티티도 함께 생성)
@@ -64,6 +74,7 @@ public class TmdbBatchJobConfig {
                 .next(fetchMovieImagesStep()) // 영화 이미지 정보 로드
                 .next(fetchMovieVideosStep()) // 영화 비디오 정보 로드
                 .next(fetchMovieCreditsStep()) // 영화 크레딧 정보 로드
+                .next(rebuildMovieCardStep()) // 목록 조회용 movie_card 재구성
                 .build();
     }
 
@@ -142,6 +153,7 @@ public class TmdbBatchJobConfig {
                 .reader(tmdbBatchReader.movieWatchProvidersReader())
                 .processor(tmdbBatchProcessor.movieWatchProvidersProcessor())
                 .writer(tmdbBatchWriter.movieWatchProvidersWriter())
+                .listener(ottShelfRefreshListener) // 완료 후 OTT 선반 재구성
                 .build();
     }
 
@@ -184,6 +196,16 @@ public class TmdbBatchJobConfig {
                 .build();
     }
 
+    /**
+     * 이번 실행에서 변경된 영화의 movie_card를 재구성하는 Step
+     */
+    @Bean
+    public Step rebuildMovieCardStep() {
+        return new StepBuilder("rebuildMovieCardStep", jobRepository)
+                .tasklet(movieCardRebuildTasklet, transactionManager)
+                .build();
+    }
+
     /**
      * 영화-제작사 매핑 관계를 생성하는 Step
      */
@@ -45,4 +45,54 @@ public class BatchJobController {
             return "KOFIC-TMDB 매핑 작업 실행 중 오류 발생: " + e.getMessage();
         }
     }
+
+    @GetMapping("/reviewKeywordBackfillJob")
+    public String runReviewKeywordBackfillJob() {
+        try {
+            batchJobService.runReviewKeywordBackfillJob();
+            return "리뷰 키워드 백필 작업이 실행되었습니다.";
+        } catch (Exception e) {
+            return "리뷰 키워드 백필 작업 실행 중 오류 발생: " + e.getMessage();
+        }
+    }
+
+    @GetMapping("/genrePreferenceRebuildJob")
+    public String runGenrePreferenceRebuildJob() {
+        try {
+            batchJobService.runGenrePreferenceRebuildJob();
+            return "회원 장르 선호도 재계산 작업이 실행되었습니다.";
+        } catch (Exception e) {
+            return "회원 장르 선호도 재계산 작업 실행 중 오류 발생: " + e.getMessage();
+        }
+    }
+
+    @GetMapping("/reviewerLeaderboardRebuildJob")
+    public String runReviewerLeaderboardRebuildJob() {
+        try {
+            batchJobService.runReviewerLeaderboardRebuildJob();
+            return "리뷰어 목록 집계 작업이 실행되었습니다.";
+        } catch (Exception e) {
+            return "리뷰어 목록 집계 작업 실행 중 오류 발생: " + e.getMessage();
+        }
+    }
+
+    @GetMapping("/followingFeedFillJob")
+    public String runFollowingFeedFillJob() {
+        try {
+            batchJobService.runFollowingFeedFillJob();
+            return "팔로잉 피드 적재 작업이 실행되었습니다.";
+        } catch (Exception e) {
+            return "팔로잉 피드 적재 작업 실행 중 오류 발생: " + e.getMessage();
+        }
+    }
+
+    @GetMapping("/movieKeywordHistogramRebuildJob")
+    public String runMovieKeywordHistogramRebuildJob() {
+        try {
+            batchJobService.runMovieKeywordHistogramRebuildJob();
+            return "영화별 키워드 히스토그램 재구성 작업이 실행되었습니다.";
+        } catch (Exception e) {
+            return "영화별 키워드 히스토그램 재구성 작업 실행 중 오류 발생: " + e.getMessage();
+        }
+    }
 }
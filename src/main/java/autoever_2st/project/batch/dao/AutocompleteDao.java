@@ -0,0 +1,73 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import autoever_2st.project.movie.enums.AutocompleteType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.function.Consumer;
+
+/**
+ * 자동완성 인덱스(AutocompleteIndex) 구성을 위한 데이터 액세스 객체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class AutocompleteDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 유형별 자동완성 대상을 한 행씩 전달합니다. (중간 리스트를 만들지 않음)
+     */
+    public void forEachRow(AutocompleteType type, Consumer<AutocompleteRow> consumer) {
+        String sql = switch (type) {
+            case MOVIE -> SqlConstants.FIND_AUTOCOMPLETE_MOVIES;
+            case PERSON -> SqlConstants.FIND_AUTOCOMPLETE_PEOPLE;
+            case REVIEWER -> SqlConstants.FIND_AUTOCOMPLETE_REVIEWERS;
+        };
+
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> consumer.accept(new AutocompleteRow(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getDouble(4)
+        )));
+    }
+
+    /**
+     * 자동완성 한 건에 필요한 최소 정보
+     */
+    public static class AutocompleteRow {
+        private final Long id;
+        private final String name;
+        private final String alternativeName;
+        private final double score;
+
+        public AutocompleteRow(Long id, String name, String alternativeName, double score) {
+            this.id = id;
+            this.name = name;
+            this.alternativeName = alternativeName;
+            this.score = score;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getAlternativeName() {
+            return alternativeName;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+}
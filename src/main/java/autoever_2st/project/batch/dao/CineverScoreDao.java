@@ -0,0 +1,47 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * CineverScore(영화별 평점 합계/리뷰 수) 원자적 증감 DAO
+ * - findByMovie → 수정 → save 방식은 동시에 리뷰가 몰리면 갱신이 유실되므로, 증감을 SQL 한 문장으로 처리
+ * - 호출한 서비스의 트랜잭션에 함께 참여
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class CineverScoreDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 리뷰 1건 추가 (행이 없으면 생성)
+     */
+    public void addReview(Long movieId, double rating) {
+        jdbcTemplate.update(SqlConstants.UPSERT_CINEVER_SCORE_ADD_REVIEW, movieId, rating);
+    }
+
+    /**
+     * 리뷰 평점 수정 (리뷰 수는 그대로)
+     */
+    public void replaceRating(Long movieId, double oldRating, double newRating) {
+        int updated = jdbcTemplate.update(SqlConstants.UPDATE_CINEVER_SCORE_REPLACE_RATING, oldRating, newRating, movieId);
+        if (updated == 0) {
+            throw new IllegalStateException("CineverScore가 존재하지 않습니다.");
+        }
+    }
+
+    /**
+     * 리뷰 1건 삭제
+     */
+    public void removeReview(Long movieId, double rating) {
+        int updated = jdbcTemplate.update(SqlConstants.UPDATE_CINEVER_SCORE_REMOVE_REVIEW, rating, movieId);
+        if (updated == 0) {
+            throw new IllegalStateException("CineverScore가 존재하지 않습니다.");
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 팔로잉 피드(feed_entry)에 대한 데이터 액세스 객체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class FeedDao {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 작성자의 모든 팔로워 타임라인에 리뷰를 적재합니다. (INSERT ... SELECT 한 문장)
+     *
+     * @return 적재된 항목 수
+     */
+    public int insertForFollowers(Long reviewId, Long authorId) {
+        return jdbcTemplate.update(SqlConstants.INSERT_FEED_ENTRIES_FOR_FOLLOWERS,
+                reviewId, authorId, LocalDateTime.now(), authorId);
+    }
+
+    /**
+     * 새로 팔로우한 작성자의 최근 리뷰를 내 타임라인에 채웁니다.
+     */
+    public int insertRecentFromAuthor(Long memberId, Long authorId, int limit) {
+        return jdbcTemplate.update(SqlConstants.INSERT_FEED_ENTRIES_FROM_AUTHOR,
+                memberId, LocalDateTime.now(), authorId, limit);
+    }
+
+    /**
+     * 기존 팔로우 관계 전체로 타임라인을 채웁니다. (팔로워가 fanOutLimit 이상인 작성자는 제외)
+     */
+    public int insertAll(long fanOutLimit) {
+        int inserted = jdbcTemplate.update(SqlConstants.INSERT_ALL_FEED_ENTRIES, LocalDateTime.now(), fanOutLimit);
+        log.info("팔로잉 피드 전체 적재 완료 - {}건", inserted);
+        return inserted;
+    }
+
+    public int deleteByReviewId(Long reviewId) {
+        return jdbcTemplate.update(SqlConstants.DELETE_FEED_ENTRIES_BY_REVIEW, reviewId);
+    }
+
+    public int deleteByMemberIdAndAuthorId(Long memberId, Long authorId) {
+        return jdbcTemplate.update(SqlConstants.DELETE_FEED_ENTRIES_BY_AUTHOR, memberId, authorId);
+    }
+
+    /**
+     * 내 타임라인에서 cursor보다 작은 리뷰 ID를 최신순으로 조회합니다.
+     */
+    public List<Long> findReviewIds(Long memberId, long cursor, int size) {
+        return jdbcTemplate.queryForList(SqlConstants.FIND_FEED_REVIEW_IDS, Long.class, memberId, cursor, size);
+    }
+
+    /**
+     * 팔로워가 fanOutLimit 이상인 회원 ID를 조회합니다.
+     */
+    public List<Long> findHighFanOutAuthorIds(long fanOutLimit) {
+        return jdbcTemplate.queryForList(SqlConstants.FIND_HIGH_FANOUT_AUTHOR_IDS, Long.class, fanOutLimit);
+    }
+
+    /**
+     * 주어진 작성자 중 내가 팔로우하는 회원 ID를 조회합니다.
+     */
+    public List<Long> findFollowingIdsAmong(Long memberId, Collection<Long> authorIds) {
+        if (authorIds == null || authorIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("memberId", memberId)
+                .addValue("authorIds", authorIds);
+        return namedParameterJdbcTemplate.queryForList(SqlConstants.FIND_FOLLOWING_IDS_AMONG, params, Long.class);
+    }
+
+    /**
+     * 주어진 작성자들의 리뷰 중 cursor보다 작은 리뷰 ID를 최신순으로 조회합니다.
+     */
+    public List<Long> findReviewIdsByAuthors(List<Long> authorIds, long cursor, int size) {
+        if (authorIds == null || authorIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("authorIds", authorIds)
+                .addValue("cursor", cursor)
+                .addValue("size", size);
+        return namedParameterJdbcTemplate.queryForList(SqlConstants.FIND_REVIEW_IDS_BY_AUTHORS_BEFORE, params, Long.class);
+    }
+}
@@ -0,0 +1,43 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 팔로우 관계(member_follower, member_following) DAO
+ * - 존재 확인 후 저장 방식은 동시에 같은 팔로우 요청이 오면 중복 행이 생기고 팔로워 수가 어긋나므로,
+ *   유니크 키 기준 추가/삭제를 SQL 한 문장으로 처리하고 실제로 바뀐 행 수를 반환
+ * - 호출한 서비스의 트랜잭션에 함께 참여
+ */
+@Repository
+@RequiredArgsConstructor
+public class FollowDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팔로우 관계 추가
+     *
+     * @return 새로 추가되었으면 true (이미 팔로우한 경우 false)
+     */
+    public boolean insert(Long followerId, Long targetMemberId) {
+        boolean inserted = jdbcTemplate.update(SqlConstants.INSERT_MEMBER_FOLLOWER, targetMemberId, followerId) > 0;
+        if (inserted) {
+            jdbcTemplate.update(SqlConstants.INSERT_MEMBER_FOLLOWING, followerId, targetMemberId);
+        }
+        return inserted;
+    }
+
+    /**
+     * 팔로우 관계 삭제
+     *
+     * @return 삭제되었으면 true (팔로우하지 않은 경우 false)
+     */
+    public boolean delete(Long followerId, Long targetMemberId) {
+        boolean deleted = jdbcTemplate.update(SqlConstants.DELETE_MEMBER_FOLLOWER, targetMemberId, followerId) > 0;
+        jdbcTemplate.update(SqlConstants.DELETE_MEMBER_FOLLOWING, followerId, targetMemberId);
+        return deleted;
+    }
+}
@@ -0,0 +1,31 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원 장르 선호도(member_genre_preference) 재계산을 위한 데이터 액세스 객체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class GenrePreferenceDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기존 선호도를 모두 지우고 리뷰 전체의 평점으로 다시 계산합니다.
+     * 호출한 Step의 트랜잭션 안에서 삭제와 재적재가 함께 반영됩니다.
+     *
+     * @return 적재한 (회원, 장르) 행 수
+     */
+    public int rebuildAll() {
+        int deleted = jdbcTemplate.update(SqlConstants.DELETE_ALL_MEMBER_GENRE_PREFERENCES);
+        int inserted = jdbcTemplate.update(SqlConstants.REBUILD_MEMBER_GENRE_PREFERENCES);
+        log.info("회원 장르 선호도 재계산 - 삭제 {}건, 적재 {}건", deleted, inserted);
+        return inserted;
+    }
+}
@@ -0,0 +1,77 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * MovieCard(목록 조회용 비정규화 테이블)에 대한 데이터 액세스 객체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MovieCardDao {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 주어진 TmdbMovieDetail ID들의 카드를 다시 계산하여 저장합니다. (INSERT ... SELECT ... ON DUPLICATE KEY UPDATE)
+     *
+     * @param tmdbMovieDetailIds 갱신할 TmdbMovieDetail ID 목록
+     * @return 처리된 항목 수
+     */
+    public int rebuildByTmdbMovieDetailIds(List<Long> tmdbMovieDetailIds) {
+        if (tmdbMovieDetailIds == null || tmdbMovieDetailIds.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        for (int from = 0; from < tmdbMovieDetailIds.size(); from += REBUILD_CHUNK_SIZE) {
+            List<Long> chunk = tmdbMovieDetailIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, tmdbMovieDetailIds.size()));
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("tmdbMovieDetailIds", chunk)
+                    .addValue("now", now);
+            total += namedParameterJdbcTemplate.update(SqlConstants.UPSERT_MOVIE_CARD_BY_TMDB_DETAIL_IDS, params);
+        }
+
+        log.info("MovieCard 재구성 완료 - 대상 {}개, 처리 {}건", tmdbMovieDetailIds.size(), total);
+        return total;
+    }
+
+    /**
+     * 특정 시각 이후 변경된(상세, 장르, 포스터, 감독, Movie 매핑) TmdbMovieDetail ID를 조회합니다.
+     */
+    public List<Long> findTmdbMovieDetailIdsChangedSince(LocalDateTime since) {
+        if (since == null) {
+            return Collections.emptyList();
+        }
+        return namedParameterJdbcTemplate.queryForList(
+                SqlConstants.FIND_TMDB_DETAIL_IDS_CHANGED_SINCE,
+                new MapSqlParameterSource("since", since),
+                Long.class);
+    }
+
+    /**
+     * Movie와 매핑된 모든 TmdbMovieDetail ID를 조회합니다. (전체 재구성용)
+     */
+    public List<Long> findAllMappedTmdbMovieDetailIds() {
+        return jdbcTemplate.queryForList(SqlConstants.FIND_ALL_MAPPED_TMDB_DETAIL_IDS, Long.class);
+    }
+
+    public long countMovieCards() {
+        Long count = jdbcTemplate.queryForObject(SqlConstants.COUNT_MOVIE_CARD, Long.class);
+        return count != null ? count : 0L;
+    }
+}
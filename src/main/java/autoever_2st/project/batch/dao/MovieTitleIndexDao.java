@@ -0,0 +1,104 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 영화 제목 검색 인덱스(MovieTitleIndex) 구성을 위한 데이터 액세스 객체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MovieTitleIndexDao {
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * Movie와 매핑된 전체 영화 제목 정보를 한 행씩 전달합니다. (전체 재구성용, 중간 리스트를 만들지 않음)
+     */
+    public void forEachTitleRow(Consumer<TitleRow> consumer) {
+        jdbcTemplate.query(SqlConstants.FIND_ALL_MOVIE_TITLE_INDEX_ROWS,
+                (RowCallbackHandler) rs -> consumer.accept(mapToTitleRow(rs)));
+    }
+
+    /**
+     * 주어진 TmdbMovieDetail ID들의 제목 정보를 조회합니다. (증분 반영용)
+     */
+    public List<TitleRow> findTitleRowsByTmdbMovieDetailIds(List<Long> tmdbMovieDetailIds) {
+        if (tmdbMovieDetailIds == null || tmdbMovieDetailIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<TitleRow> rows = new ArrayList<>(tmdbMovieDetailIds.size());
+        for (int from = 0; from < tmdbMovieDetailIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = tmdbMovieDetailIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, tmdbMovieDetailIds.size()));
+            rows.addAll(namedParameterJdbcTemplate.query(
+                    SqlConstants.FIND_MOVIE_TITLE_INDEX_ROWS_BY_TMDB_DETAIL_IDS,
+                    new MapSqlParameterSource("tmdbMovieDetailIds", chunk),
+                    (rs, rowNum) -> mapToTitleRow(rs)));
+        }
+        return rows;
+    }
+
+    private TitleRow mapToTitleRow(ResultSet rs) throws SQLException {
+        double popularity = rs.getDouble(4);
+        if (rs.wasNull()) {
+            popularity = 0.0;
+        }
+        return new TitleRow(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                popularity
+        );
+    }
+
+    /**
+     * 제목 인덱스 한 건에 필요한 최소 정보
+     */
+    public static class TitleRow {
+        private final Long tmdbMovieDetailId;
+        private final String title;
+        private final String originalTitle;
+        private final double popularity;
+
+        public TitleRow(Long tmdbMovieDetailId, String title, String originalTitle, double popularity) {
+            this.tmdbMovieDetailId = tmdbMovieDetailId;
+            this.title = title;
+            this.originalTitle = originalTitle;
+            this.popularity = popularity;
+        }
+
+        public Long getTmdbMovieDetailId() {
+            return tmdbMovieDetailId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public String getOriginalTitle() {
+            return originalTitle;
+        }
+
+        public double getPopularity() {
+            return popularity;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.function.Consumer;
+
+/**
+ * 인물 검색 인덱스(PersonSearchIndex) 구성을 위한 데이터 액세스 객체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PersonSearchDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 감독 또는 출연 이력이 있는 인물을 역할별 집계와 함께 한 행씩 전달합니다.
+     */
+    public void forEachPersonRow(Consumer<PersonRow> consumer) {
+        jdbcTemplate.query(SqlConstants.FIND_PERSON_SEARCH_ROWS, (RowCallbackHandler) rs -> {
+            // gender가 NULL이면 getInt가 0(UNKNOWN)을 반환
+            int gender = rs.getInt(4);
+            consumer.accept(new PersonRow(
+                    rs.getLong(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    gender,
+                    rs.getString(5),
+                    rs.getInt(6),
+                    rs.getDouble(7),
+                    rs.getInt(8),
+                    rs.getDouble(9)
+            ));
+        });
+    }
+
+    /**
+     * 인물 검색 한 건에 필요한 최소 정보
+     */
+    public static class PersonRow {
+        private final Long tmdbId;
+        private final String name;
+        private final String originalName;
+        private final int gender;
+        private final String profilePath;
+        private final int directingCount;
+        private final double directingPopularity;
+        private final int castCount;
+        private final double castPopularity;
+
+        public PersonRow(Long tmdbId, String name, String originalName, int gender, String profilePath,
+                         int directingCount, double directingPopularity, int castCount, double castPopularity) {
+            this.tmdbId = tmdbId;
+            this.name = name;
+            this.originalName = originalName;
+            this.gender = gender;
+            this.profilePath = profilePath;
+            this.directingCount = directingCount;
+            this.directingPopularity = directingPopularity;
+            this.castCount = castCount;
+            this.castPopularity = castPopularity;
+        }
+
+        public Long getTmdbId() {
+            return tmdbId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getOriginalName() {
+            return originalName;
+        }
+
+        public int getGender() {
+            return gender;
+        }
+
+        public String getProfilePath() {
+            return profilePath;
+        }
+
+        public int getDirectingCount() {
+            return directingCount;
+        }
+
+        public double getDirectingPopularity() {
+            return directingPopularity;
+        }
+
+        public int getCastCount() {
+            return castCount;
+        }
+
+        public double getCastPopularity() {
+            return castPopularity;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 리뷰 키워드 백필을 위한 review_detail 조회 객체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReviewContentDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주어진 리뷰 ID 다음부터 리뷰 ID 순으로 최대 limit건의 리뷰 내용을 조회합니다.
+     *
+     * @param lastReviewId 이전 페이지의 마지막 리뷰 ID (처음에는 0)
+     * @param limit 최대 조회 건수
+     * @return 리뷰 ID 오름차순 목록
+     */
+    public List<ReviewContentRow> findReviewContentsAfter(long lastReviewId, int limit) {
+        return jdbcTemplate.query(SqlConstants.FIND_REVIEW_CONTENTS_AFTER,
+                (rs, rowNum) -> new ReviewContentRow(rs.getLong(1), rs.getString(2)),
+                lastReviewId, limit);
+    }
+
+    /**
+     * 키워드 분석에 필요한 리뷰 ID와 내용
+     */
+    public static class ReviewContentRow {
+        private final Long reviewId;
+        private final String content;
+
+        public ReviewContentRow(Long reviewId, String content) {
+            this.reviewId = reviewId;
+            this.content = content;
+        }
+
+        public Long getReviewId() {
+            return reviewId;
+        }
+
+        public String getContent() {
+            return content;
+        }
+    }
+}
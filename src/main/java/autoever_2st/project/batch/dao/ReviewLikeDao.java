@@ -0,0 +1,53 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 리뷰 좋아요(review_like)와 좋아요 수(review.like_count) DAO
+ * - 조회 후 저장 방식은 동시에 좋아요가 몰리면 중복 행이 생기거나 좋아요 수가 어긋나므로, 추가/삭제와 증감을 각각 SQL 한 문장으로 처리
+ * - 호출한 서비스의 트랜잭션에 함께 참여
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReviewLikeDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요 추가
+     *
+     * @return 새로 추가되었으면 true (이미 좋아요한 경우 false)
+     */
+    public boolean insert(Long reviewId, Long memberId) {
+        return jdbcTemplate.update(SqlConstants.INSERT_REVIEW_LIKE, reviewId, memberId) > 0;
+    }
+
+    /**
+     * 좋아요 삭제
+     *
+     * @return 삭제되었으면 true (좋아요하지 않은 경우 false)
+     */
+    public boolean delete(Long reviewId, Long memberId) {
+        return jdbcTemplate.update(SqlConstants.DELETE_REVIEW_LIKE, reviewId, memberId) > 0;
+    }
+
+    public void addLikeCount(Long reviewId, int delta) {
+        jdbcTemplate.update(SqlConstants.UPDATE_REVIEW_LIKE_COUNT, reviewId, delta, reviewId);
+    }
+
+    /**
+     * 좋아요 수가 비어 있는 리뷰(컬럼 추가 전 리뷰)를 review_like 기준으로 채웁니다.
+     */
+    public int fillMissingLikeCounts() {
+        int updated = jdbcTemplate.update(SqlConstants.FILL_MISSING_REVIEW_LIKE_COUNTS);
+        if (updated > 0) {
+            log.info("리뷰 좋아요 수 채움 완료 - {}건", updated);
+        }
+        return updated;
+    }
+}
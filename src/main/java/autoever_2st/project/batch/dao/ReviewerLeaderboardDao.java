@@ -0,0 +1,116 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리뷰어 목록 읽기 모델(reviewer_leaderboard)에 대한 데이터 액세스 객체
+ * - 증감은 SQL 한 문장으로 처리해 동시에 팔로우/리뷰가 몰려도 갱신이 유실되지 않음
+ * - 호출한 서비스의 트랜잭션에 함께 참여
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReviewerLeaderboardDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 팔로워 수, 리뷰 수, 평점 있는 리뷰 수, 평점 합계 증감 (행이 없으면 생성)
+     */
+    public void addDelta(Long memberId, long followerDelta, long reviewDelta, long ratedDelta, double ratingDelta) {
+        jdbcTemplate.update(SqlConstants.UPSERT_REVIEWER_LEADERBOARD_DELTA,
+                followerDelta, reviewDelta, ratedDelta, ratingDelta, LocalDateTime.now(), memberId);
+    }
+
+    public void updateNickname(Long memberId, String nickname) {
+        jdbcTemplate.update(SqlConstants.UPDATE_REVIEWER_LEADERBOARD_NICKNAME, nickname, LocalDateTime.now(), memberId);
+    }
+
+    /**
+     * 전체 회원 기준으로 집계해 채웁니다. (원본 테이블 전체를 읽으므로 reviewerLeaderboardRebuildJob에서만 사용)
+     */
+    public int rebuildAll() {
+        int updated = jdbcTemplate.update(SqlConstants.REBUILD_REVIEWER_LEADERBOARD, LocalDateTime.now());
+        log.info("리뷰어 목록 집계 완료 - {}건", updated);
+        return updated;
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.queryForObject(SqlConstants.COUNT_REVIEWER_LEADERBOARD, Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 팔로워 수 내림차순, 닉네임 오름차순으로 offset부터 size건 조회합니다.
+     */
+    public List<LeaderboardRow> findPage(long offset, int size) {
+        return jdbcTemplate.query(SqlConstants.FIND_REVIEWER_LEADERBOARD_PAGE,
+                (rs, rowNum) -> new LeaderboardRow(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getDouble(5)),
+                size, offset);
+    }
+
+    public long countMembers() {
+        Long count = jdbcTemplate.queryForObject(SqlConstants.COUNT_REVIEWER_MEMBERS, Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 읽기 모델 대신 원본 테이블에서 바로 집계해 같은 순서로 offset부터 size건 조회합니다.
+     */
+    public List<LeaderboardRow> findLivePage(long offset, int size) {
+        return jdbcTemplate.query(SqlConstants.FIND_REVIEWER_LIVE_PAGE,
+                (rs, rowNum) -> new LeaderboardRow(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getDouble(5)),
+                size, offset);
+    }
+
+    /**
+     * 리뷰어 목록 한 행 (회원 ID, 팔로워 수, 리뷰 수, 평점 있는 리뷰 수, 평점 합계)
+     */
+    public static class LeaderboardRow {
+        private final Long memberId;
+        private final Long followerCount;
+        private final Long reviewCount;
+        private final Long ratedCount;
+        private final Double ratingSum;
+
+        public LeaderboardRow(Long memberId, Long followerCount, Long reviewCount, Long ratedCount, Double ratingSum) {
+            this.memberId = memberId;
+            this.followerCount = followerCount;
+            this.reviewCount = reviewCount;
+            this.ratedCount = ratedCount;
+            this.ratingSum = ratingSum;
+        }
+
+        public Long getMemberId() {
+            return memberId;
+        }
+
+        public Long getFollowerCount() {
+            return followerCount;
+        }
+
+        public Long getReviewCount() {
+            return reviewCount;
+        }
+
+        public Long getRatedCount() {
+            return ratedCount;
+        }
+
+        public Double getRatingSum() {
+            return ratingSum;
+        }
+
+        // 평점 없는 리뷰는 제외한 평균 (기존 목록과 같은 기준)
+        public Double getAverageRating() {
+            return ratedCount == 0 ? 0.0 : ratingSum / ratedCount;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 폐기된 JWT(revoked_token)에 대한 데이터 액세스 객체
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenDao {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 폐기 기록 (이미 폐기된 토큰이면 무시)
+     */
+    public void insert(String tokenDigest, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        jdbcTemplate.update(SqlConstants.INSERT_REVOKED_TOKEN, tokenDigest, expiresAt, revokedAt);
+    }
+
+    public boolean exists(String tokenDigest, LocalDateTime now) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(SqlConstants.EXISTS_REVOKED_TOKEN, Boolean.class, tokenDigest, now));
+    }
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰 digest 전체
+     */
+    public List<String> findActiveDigests(LocalDateTime now) {
+        return jdbcTemplate.queryForList(SqlConstants.FIND_ACTIVE_REVOKED_TOKEN_DIGESTS, String.class, now);
+    }
+
+    /**
+     * since 이후 폐기된, 아직 만료되지 않은 토큰 digest
+     */
+    public List<String> findDigestsRevokedSince(LocalDateTime since, LocalDateTime now) {
+        return jdbcTemplate.queryForList(SqlConstants.FIND_REVOKED_TOKEN_DIGESTS_SINCE, String.class, since, now);
+    }
+
+    public int deleteExpired(LocalDateTime now) {
+        int deleted = jdbcTemplate.update(SqlConstants.DELETE_EXPIRED_REVOKED_TOKENS, now);
+        if (deleted > 0) {
+            log.info("만료된 폐기 토큰 삭제 완료 - {}건", deleted);
+        }
+        return deleted;
+    }
+}
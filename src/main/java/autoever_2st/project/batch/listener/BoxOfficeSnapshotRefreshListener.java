@@ -0,0 +1,31 @@
+package autoever_2st.project.batch.listener;
+
+import autoever_2st.project.movie.component.BoxOfficeSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 박스오피스 / KOFIC-TMDB 매핑 Job이 끝나면 박스오피스 스냅샷을 한 번 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeSnapshotRefreshListener implements JobExecutionListener {
+
+    private final BoxOfficeSnapshot boxOfficeSnapshot;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("{} Job이 {} 상태로 끝나 박스오피스 스냅샷을 갱신하지 않습니다.",
+                    jobExecution.getJobInstance().getJobName(), jobExecution.getStatus());
+            return;
+        }
+        log.info("{} Job 완료 - 박스오피스 스냅샷 재구성", jobExecution.getJobInstance().getJobName());
+        boxOfficeSnapshot.refresh();
+    }
+}
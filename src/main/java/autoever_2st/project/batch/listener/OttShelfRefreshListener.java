@@ -0,0 +1,33 @@
+package autoever_2st.project.batch.listener;
+
+import autoever_2st.project.movie.component.OttMovieShelf;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시청 제공자(OTT) 적재 Step이 끝나면 OTT 선반을 재구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OttShelfRefreshListener implements StepExecutionListener {
+
+    private final OttMovieShelf ottMovieShelf;
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (stepExecution.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("{} Step이 {} 상태로 끝나 OTT 선반을 갱신하지 않습니다.",
+                    stepExecution.getStepName(), stepExecution.getStatus());
+            return stepExecution.getExitStatus();
+        }
+        log.info("{} Step 완료 - OTT 선반 재구성 시작", stepExecution.getStepName());
+        ottMovieShelf.rebuildAsync();
+        return stepExecution.getExitStatus();
+    }
+}
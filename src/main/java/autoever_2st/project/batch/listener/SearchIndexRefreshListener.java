@@ -0,0 +1,34 @@
+package autoever_2st.project.batch.listener;
+
+import autoever_2st.project.movie.component.AutocompleteIndex;
+import autoever_2st.project.movie.component.PersonSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 영화/인물 데이터를 적재하는 Job이 끝나면 인메모리 검색 인덱스를 다시 구성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexRefreshListener implements JobExecutionListener {
+
+    private final AutocompleteIndex autocompleteIndex;
+    private final PersonSearchIndex personSearchIndex;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+            log.warn("{} Job이 {} 상태로 끝나 검색 인덱스를 갱신하지 않습니다.",
+                    jobExecution.getJobInstance().getJobName(), jobExecution.getStatus());
+            return;
+        }
+        log.info("{} Job 완료 - 자동완성/인물 검색 인덱스 재구성 시작", jobExecution.getJobInstance().getJobName());
+        autocompleteIndex.rebuildAsync();
+        personSearchIndex.rebuildAsync();
+    }
+}
@@ -19,6 +19,11 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * 배치 작업을 주기적으로 실행하는 스케줄러
+ *
+ * 정기 실행은 환경별로 켜야 합니다. cron 속성을 지정하지 않으면 "-"(비활성)이므로
+ * 스케줄링(@EnableScheduling)이 켜져 있어도 수동 실행(/batch/**)만 동작합니다.
+ * - batch.schedule.tmdb-movie.cron (운영 예: 0 0 1 * * ?)
+ * - batch.schedule.kofic-box-office.cron (운영 예: 0 0 10 * * ?)
  */
 @Slf4j
 @Component
@@ -35,11 +40,26 @@ public class BatchJobScheduler {
     
     @Qualifier("koficTmdbMappingJob")
     private final Job koficTmdbMappingJob;
+
+    @Qualifier("reviewKeywordBackfillJob")
+    private final Job reviewKeywordBackfillJob;
+
+    @Qualifier("genrePreferenceRebuildJob")
+    private final Job genrePreferenceRebuildJob;
+
+    @Qualifier("reviewerLeaderboardRebuildJob")
+    private final Job reviewerLeaderboardRebuildJob;
+
+    @Qualifier("followingFeedFillJob")
+    private final Job followingFeedFillJob;
+
+    @Qualifier("movieKeywordHistogramRebuildJob")
+    private final Job movieKeywordHistogramRebuildJob;
     
     /**
-     * TMDB 영화 데이터를 매일 새벽 1시에 가져옴.
+     * TMDB 영화 데이터를 가져옴. (batch.schedule.tmdb-movie.cron 지정 시에만 정기 실행)
      */
-    @Scheduled(cron = "0 0 1 * * ?")
+    @Scheduled(cron = "${batch.schedule.tmdb-movie.cron:-}")
     public void runTmdbMovieJob() {
         JobParameters jobParameters = new JobParametersBuilder()
                 .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
@@ -54,9 +74,9 @@ public class BatchJobScheduler {
     }
     
     /**
-     * KOFIC 박스오피스 데이터를 매일 오전 10시에 가져옴.
+     * KOFIC 박스오피스 데이터를 가져옴. (batch.schedule.kofic-box-office.cron 지정 시에만 정기 실행)
      */
-    @Scheduled(cron = "0 0 10 * * ?")
+    @Scheduled(cron = "${batch.schedule.kofic-box-office.cron:-}")
     public void runKoficBoxOfficeJob() {
         JobParameters jobParameters = new JobParametersBuilder()
                 .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
@@ -138,4 +158,94 @@ public class BatchJobScheduler {
             log.error("KOFIC-TMDB 매핑 작업 중 오류 발생: {}", e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 기존 리뷰 전체의 키워드를 다시 분석합니다. (수동 실행 전용)
+     */
+    public void runReviewKeywordBackfillJob() {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                .toJobParameters();
+
+        try {
+            log.info("리뷰 키워드 백필 작업 시작");
+            jobLauncher.run(reviewKeywordBackfillJob, jobParameters);
+            log.info("리뷰 키워드 백필 작업 완료");
+        } catch (JobExecutionAlreadyRunningException | JobRestartException |
+                JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+            log.error("리뷰 키워드 백필 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 회원 장르 선호도를 리뷰 전체 평점으로 다시 계산합니다. (수동 실행 전용)
+     */
+    public void runGenrePreferenceRebuildJob() {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                .toJobParameters();
+
+        try {
+            log.info("회원 장르 선호도 재계산 작업 시작");
+            jobLauncher.run(genrePreferenceRebuildJob, jobParameters);
+            log.info("회원 장르 선호도 재계산 작업 완료");
+        } catch (JobExecutionAlreadyRunningException | JobRestartException |
+                JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+            log.error("회원 장르 선호도 재계산 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 리뷰어 목록(reviewer_leaderboard)을 원본 테이블에서 다시 집계합니다. (수동 실행 전용)
+     */
+    public void runReviewerLeaderboardRebuildJob() {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                .toJobParameters();
+
+        try {
+            log.info("리뷰어 목록 집계 작업 시작");
+            jobLauncher.run(reviewerLeaderboardRebuildJob, jobParameters);
+            log.info("리뷰어 목록 집계 작업 완료");
+        } catch (JobExecutionAlreadyRunningException | JobRestartException |
+                JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+            log.error("리뷰어 목록 집계 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 기존 팔로우 관계로 팔로잉 피드를 채웁니다 (수동 실행 전용)
+     */
+    public void runFollowingFeedFillJob() {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                .toJobParameters();
+
+        try {
+            log.info("팔로잉 피드 적재 작업 시작");
+            jobLauncher.run(followingFeedFillJob, jobParameters);
+            log.info("팔로잉 피드 적재 작업 완료");
+        } catch (JobExecutionAlreadyRunningException | JobRestartException |
+                JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+            log.error("팔로잉 피드 적재 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 영화별 키워드 히스토그램을 review_keywords 기준으로 다시 구성합니다 (수동 실행 전용)
+     */
+    public void runMovieKeywordHistogramRebuildJob() {
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("time", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME))
+                .toJobParameters();
+
+        try {
+            log.info("영화별 키워드 히스토그램 재구성 작업 시작");
+            jobLauncher.run(movieKeywordHistogramRebuildJob, jobParameters);
+            log.info("영화별 키워드 히스토그램 재구성 작업 완료");
+        } catch (JobExecutionAlreadyRunningException | JobRestartException |
+                JobInstanceAlreadyCompleteException | JobParametersInvalidException e) {
+            log.error("영화별 키워드 히스토그램 재구성 작업 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+}
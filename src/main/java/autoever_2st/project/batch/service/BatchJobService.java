@@ -16,4 +16,29 @@ public interface BatchJobService {
      */
     public void runKoficTmdbMappingJob();
 
+    /**
+     * 기존 리뷰 전체의 키워드 백필 작업을 실행합니다.
+     */
+    public void runReviewKeywordBackfillJob();
+
+    /**
+     * 회원 장르 선호도 재계산 작업을 실행합니다.
+     */
+    public void runGenrePreferenceRebuildJob();
+
+    /**
+     * 리뷰어 목록 집계 작업을 실행합니다.
+     */
+    public void runReviewerLeaderboardRebuildJob();
+
+    /**
+     * 팔로잉 피드 적재 작업을 실행합니다.
+     */
+    public void runFollowingFeedFillJob();
+
+    /**
+     * 영화별 키워드 히스토그램 재구성 작업을 실행합니다.
+     */
+    public void runMovieKeywordHistogramRebuildJob();
+
 }
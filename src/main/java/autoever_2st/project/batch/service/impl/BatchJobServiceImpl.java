@@ -37,4 +37,29 @@ public class BatchJobServiceImpl implements BatchJobService {
     public void runKoficTmdbMappingJob() {
         batchJobScheduler.runKoficTmdbMappingJob();
     }
+
+    @Override
+    public void runReviewKeywordBackfillJob() {
+        batchJobScheduler.runReviewKeywordBackfillJob();
+    }
+
+    @Override
+    public void runGenrePreferenceRebuildJob() {
+        batchJobScheduler.runGenrePreferenceRebuildJob();
+    }
+
+    @Override
+    public void runReviewerLeaderboardRebuildJob() {
+        batchJobScheduler.runReviewerLeaderboardRebuildJob();
+    }
+
+    @Override
+    public void runFollowingFeedFillJob() {
+        batchJobScheduler.runFollowingFeedFillJob();
+    }
+
+    @Override
+    public void runMovieKeywordHistogramRebuildJob() {
+        batchJobScheduler.runMovieKeywordHistogramRebuildJob();
+    }
 }
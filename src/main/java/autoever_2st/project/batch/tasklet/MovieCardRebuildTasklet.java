@@ -0,0 +1,66 @@
+package autoever_2st.project.batch.tasklet;
+
+import autoever_2st.project.batch.dao.MovieCardDao;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * movie_card 테이블을 재구성하는 Tasklet
+ *
+ * TMDB 배치의 크레딧 Step 이후 실행되며, 이번 Job 실행 중 변경된 영화만 다시 계산합니다.
+ * movie_card가 비어 있으면(최초 배포 등) 전체를 재구성합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieCardRebuildTasklet implements Tasklet {
+
+    private final MovieCardDao movieCardDao;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        LocalDateTime jobStartTime = chunkContext.getStepContext().getStepExecution().getJobExecution().getStartTime();
+
+        List<Long> targetIds;
+        if (movieCardDao.countMovieCards() == 0) {
+            targetIds = movieCardDao.findAllMappedTmdbMovieDetailIds();
+            log.info("movie_card가 비어 있어 전체 재구성 - 대상 {}개", targetIds.size());
+        } else {
+            targetIds = movieCardDao.findTmdbMovieDetailIdsChangedSince(jobStartTime);
+            log.info("{} 이후 변경된 영화 카드 재구성 - 대상 {}개", jobStartTime, targetIds.size());
+        }
+
+        int updated = movieCardDao.rebuildByTmdbMovieDetailIds(targetIds);
+        contribution.incrementWriteCount(updated);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 애플리케이션 기동 시 movie_card가 비어 있으면 백그라운드에서 전체 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (movieCardDao.countMovieCards() == 0) {
+                    List<Long> targetIds = movieCardDao.findAllMappedTmdbMovieDetailIds();
+                    log.info("기동 시 movie_card 초기 구성 시작 - 대상 {}개", targetIds.size());
+                    movieCardDao.rebuildByTmdbMovieDetailIds(targetIds);
+                }
+            } catch (Exception e) {
+                log.error("movie_card 초기 구성 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
+}
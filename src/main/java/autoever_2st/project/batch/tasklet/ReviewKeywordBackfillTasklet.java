@@ -0,0 +1,68 @@
+package autoever_2st.project.batch.tasklet;
+
+import autoever_2st.project.batch.dao.ReviewContentDao;
+import autoever_2st.project.batch.dao.ReviewContentDao.ReviewContentRow;
+import autoever_2st.project.review.component.KeywordResultCache;
+import autoever_2st.project.review.component.ReviewKeywordWriter;
+import autoever_2st.project.review.component.ReviewKeywordWriter.AnalyzedReview;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * review_detail 전체를 다시 분석해 리뷰 키워드를 채우는 Tasklet
+ *
+ * 리뷰 ID 순으로 PAGE_SIZE건씩 읽어 키워드 분석 캐시(KeywordResultCache)를 거쳐 일괄 분석한 뒤 키워드를 교체합니다.
+ * 캐시에 없는 내용만 Flask /analyze-batch 로 분석합니다.
+ * 한 번 실행에 한 페이지를 처리하고 CONTINUABLE을 반환하므로 페이지마다 마지막 리뷰 ID가 StepExecution에 저장됩니다.
+ * Step은 트랜잭션 없이 실행되므로(ReviewKeywordBackfillJobConfig) 분석 요청 동안 DB 커넥션을 점유하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewKeywordBackfillTasklet implements Tasklet {
+
+    private static final int PAGE_SIZE = 256;
+    private static final String LAST_REVIEW_ID_KEY = "lastReviewId";
+
+    private final ReviewContentDao reviewContentDao;
+    private final KeywordResultCache keywordResultCache;
+    private final ReviewKeywordWriter reviewKeywordWriter;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastReviewId = executionContext.getLong(LAST_REVIEW_ID_KEY, 0L);
+
+        List<ReviewContentRow> rows = reviewContentDao.findReviewContentsAfter(lastReviewId, PAGE_SIZE);
+        if (rows.isEmpty()) {
+            log.info("리뷰 키워드 백필 완료 - 마지막 리뷰 ID: {}", lastReviewId);
+            return RepeatStatus.FINISHED;
+        }
+
+        List<List<String>> results = keywordResultCache.analyzeBatch(
+                rows.stream().map(ReviewContentRow::getContent).toList());
+
+        // 분석한 내용과 함께 넘겨, 그 사이 수정/삭제된 리뷰는 추출 큐의 결과를 덮어쓰지 않게 함
+        Map<Long, AnalyzedReview> analyzedByReviewId = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            analyzedByReviewId.put(rows.get(i).getReviewId(), new AnalyzedReview(rows.get(i).getContent(), results.get(i)));
+        }
+        contribution.incrementWriteCount(reviewKeywordWriter.replaceKeywords(analyzedByReviewId));
+
+        long nextReviewId = rows.get(rows.size() - 1).getReviewId();
+        executionContext.putLong(LAST_REVIEW_ID_KEY, nextReviewId);
+        log.info("리뷰 키워드 백필 진행 - {}건 처리, 리뷰 ID {}까지", rows.size(), nextReviewId);
+
+        return rows.size() < PAGE_SIZE ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
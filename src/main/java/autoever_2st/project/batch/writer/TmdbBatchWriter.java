@@ -12,6 +12,9 @@ import autoever_2st.project.external.entity.kofic.KoficMovieDetail;
 import autoever_2st.project.external.entity.tmdb.*;
 import autoever_2st.project.external.enums.Gender;
 import autoever_2st.project.external.repository.tmdb.*;
+import autoever_2st.project.movie.component.MovieDetailCache;
+import autoever_2st.project.movie.component.MovieGenreDictionary;
+import autoever_2st.project.movie.component.MovieTitleIndex;
 import autoever_2st.project.movie.entity.Movie;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -70,6 +73,9 @@ public class TmdbBatchWriter {
     private final CompanyMovieDao companyMovieDao;
     private final PlatformTransactionManager transactionManager;
     private final JdbcTemplate jdbcTemplate;
+    private final MovieDetailCache movieDetailCache;
+    private final MovieGenreDictionary movieGenreDictionary;
+    private final MovieTitleIndex movieTitleIndex;
 
     /**
      * TmdbMovieDetail 엔티티를 저장하는 Writer (자동 insert/update)
@@ -156,6 +162,9 @@ public class TmdbBatchWriter {
                     // 3. MovieGenreMatch 연관관계 생성
                     createMovieGenreMatches(validItems, movieDetailMap);
 
+                    // 4. 제목 검색 인덱스 증분 반영 (커밋 후)
+                    movieTitleIndex.patch(tmdbMovieDetailIds);
+
                 } else {
                     log.warn("Movie 생성을 위한 TmdbMovieDetail을 찾을 수 없습니다.");
                 }
@@ -305,6 +314,9 @@ public class TmdbBatchWriter {
             // ON DUPLICATE KEY UPDATE를 사용하여 자동으로 insert/update 처리
             int result = movieGenreDao.batchSaveGenres(validItems);
             log.info("MovieGenre {}개 저장 완료", result);
+
+            // 검색 목록에서 사용하는 장르 사전은 다음 사용 시 다시 로딩
+            movieGenreDictionary.invalidate();
         };
     }
 
@@ -473,6 +485,9 @@ public class TmdbBatchWriter {
                             savedCount, movieImages.size(), movieId);
                 }
             }
+
+            // 이미지가 바뀌었으므로 영화 상세 캐시 무효화
+            movieDetailCache.invalidateAll();
         };
     }
 
@@ -548,6 +563,9 @@ public class TmdbBatchWriter {
             }
 
             log.info("Successfully saved a total of {} videos for {} movies", totalSavedCount, movieIds.size());
+
+            // 비디오가 바뀌었으므로 영화 상세 캐시 무효화
+            movieDetailCache.invalidateAll();
         };
     }
 
@@ -594,6 +612,8 @@ public class TmdbBatchWriter {
                 log.warn("Saved only {} out of {} videos for movie ID {}", 
                         savedCount, videoItems.size(), movieId);
             }
+
+            movieDetailCache.invalidateAll();
         };
     }
 
@@ -717,6 +737,9 @@ public class TmdbBatchWriter {
             }
 
             log.info("Movie credits processing completed successfully");
+
+            // 감독/배우 정보가 바뀌었으므로 영화 상세 캐시 무효화
+            movieDetailCache.invalidateAll();
         };
     }
 
@@ -0,0 +1,129 @@
+package autoever_2st.project.common.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 한글 자모 분해 유틸
+ * - decompose: 완성형 음절을 초성/중성/종성 호환 자모로 풀고, 겹모음/겹받침도 낱자로 분리
+ *   (예: "괜찮" -> "ㄱㅗㅐㄴㅊㅏㄴㅎ") → 입력 중인 글자("괘", "괜ㅊ")도 앞부분 일치로 찾을 수 있음
+ * - chosung: 완성형 음절을 초성만 남김 (예: "어벤져스" -> "ㅇㅂㅈㅅ")
+ * 한글이 아닌 문자는 소문자로만 바꿔서 그대로 둠
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    // 0번은 받침 없음
+    private static final String JONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    // 겹모음/겹받침 -> 낱자 (키보드로 입력되는 순서)
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ"),
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ")
+    );
+
+    private HangulJamo() {
+    }
+
+    /**
+     * 검색 키 공통 정규화: NFC, 소문자, 공백 제거
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화된 문자열을 자모 단위로 분해
+     */
+    public static String decompose(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHO.charAt(index / (JUNG_COUNT * JONG_COUNT)));
+                appendJamo(sb, JUNG.charAt((index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT));
+                int jong = index % JONG_COUNT;
+                if (jong != 0) {
+                    appendJamo(sb, JONG.charAt(jong));
+                }
+            } else {
+                appendJamo(sb, c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화된 문자열에서 완성형 음절을 초성으로 바꿈
+     */
+    public static String chosung(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            sb.append(isSyllable(c) ? CHO.charAt((c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)) : c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 검색 입력인지 판단 (완성형 음절이나 모음 없이 자음이 하나 이상 있는 경우)
+     */
+    public static boolean isChosungQuery(String normalized) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c) || isVowel(c)) {
+                return false;
+            }
+            if (isConsonant(c)) {
+                hasConsonant = true;
+            }
+        }
+        return hasConsonant;
+    }
+
+    private static void appendJamo(StringBuilder sb, char jamo) {
+        String split = COMPOUND_JAMO.get(jamo);
+        if (split != null) {
+            sb.append(split);
+        } else {
+            sb.append(jamo);
+        }
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    private static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    private static boolean isVowel(char c) {
+        return c >= 'ㅏ' && c <= 'ㅣ';
+    }
+}
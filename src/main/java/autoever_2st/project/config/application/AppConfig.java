@@ -2,8 +2,14 @@ package autoever_2st.project.config.application;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+/**
+ * 스케줄링은 캐시/저장소 갱신(OTT 선반 자정 갱신, 토큰 폐기 목록 동기화 등)에 사용합니다.
+ * 배치 Job의 정기 실행은 BatchJobScheduler의 cron 속성으로 따로 켭니다.
+ */
 @Configuration
 @EnableJpaAuditing
+@EnableScheduling
 public class AppConfig {
 }
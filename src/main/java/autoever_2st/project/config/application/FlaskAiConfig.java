@@ -3,18 +3,35 @@ package autoever_2st.project.config.application;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class FlaskAiConfig {
 
     @Value("${api.flask.url}")
     private String flaskUrl;
 
+    /**
+     * 연결을 재사용하는(keep-alive) HttpClient 하나를 공유
+     * - 일괄 분석 요청은 모델 추론 시간이 길어 읽기 타임아웃을 넉넉하게 설정
+     */
     @Bean
     public RestClient flaskAiRestClient() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(3))
+                .build();
+
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofSeconds(60));
+
         return RestClient.builder()
                 .baseUrl(flaskUrl)
+                .requestFactory(requestFactory)
                 .build();
     }
-} 
\ No newline at end of file
+}
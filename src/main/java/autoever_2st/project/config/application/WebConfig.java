@@ -1,6 +1,10 @@
 package autoever_2st.project.config.application;
 
+import org.apache.catalina.valves.RemoteIpValve;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -19,4 +23,23 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    /**
+     * 로드밸런서/프록시 뒤에서도 request.getRemoteAddr()가 실제 클라이언트 IP를 반환하도록 X-Forwarded-For 반영
+     * (로그인 실행기의 IP별 동시 진행 제한이 프록시 IP 하나로 묶여 전체 제한이 되지 않도록)
+     * RemoteIpValve는 신뢰하는 프록시(기본: 사설망/루프백 대역)에서 온 헤더만 사용하므로 클라이언트가 보낸 위조 헤더는 무시됩니다.
+     */
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> remoteIpValveCustomizer(
+            @Value("${server.tomcat.remoteip.internal-proxies:}") String internalProxies) {
+        return factory -> {
+            RemoteIpValve valve = new RemoteIpValve();
+            valve.setRemoteIpHeader("X-Forwarded-For");
+            valve.setProtocolHeader("X-Forwarded-Proto");
+            if (!internalProxies.isBlank()) {
+                valve.setInternalProxies(internalProxies);
+            }
+            factory.addEngineValves(valve);
+        };
+    }
 }
@@ -2,9 +2,14 @@ package autoever_2st.project.external.repository.tmdb;
 
 import autoever_2st.project.external.entity.tmdb.CompanyMovie;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface CompanyMovieRepository extends JpaRepository<CompanyMovie, Long> {
     List<CompanyMovie> findAllByMovieId(Long movieId);
+
+    @Query("SELECT cm FROM CompanyMovie cm JOIN FETCH cm.productCompany WHERE cm.movie.id = :movieId")
+    List<CompanyMovie> findAllWithCompanyByMovieId(@Param("movieId") Long movieId);
 } 
\ No newline at end of file
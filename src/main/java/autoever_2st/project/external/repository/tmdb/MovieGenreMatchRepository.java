@@ -13,10 +13,14 @@ public interface MovieGenreMatchRepository extends JpaRepository<MovieGenreMatch
     @Query("SELECT m FROM MovieGenreMatch m WHERE m.tmdbMovieDetail.id = :tmdbId")
     List<MovieGenreMatch> findByTmdbMovieDetailId(@Param("tmdbId") Long tmdbId);
 
-    @Query("SELECT DISTINCT m.movieGenre.id FROM MovieGenreMatch m")
+    @Query("SELECT m.movieGenre.id FROM MovieGenreMatch m WHERE m.tmdbMovieDetail.id = :tmdbId ORDER BY m.id ASC")
     List<Long> findGenreIdsByTmdbId(@Param("tmdbId") Long tmdbId);
 
     @Query("SELECT mg.movieGenre.name FROM MovieGenreMatch mg WHERE mg.tmdbMovieDetail.id = :tmdbMovieDetailId")
     List<String> findGenreNamesByTmdbMovieDetailId(@Param("tmdbMovieDetailId") Long tmdbMovieDetailId);
 
+    // 목록용: [tmdbMovieDetailId, movieGenreId] 쌍만 조회 (장르 이름은 MovieGenreDictionary로 변환)
+    @Query("SELECT mg.tmdbMovieDetail.id, mg.movieGenre.id FROM MovieGenreMatch mg WHERE mg.tmdbMovieDetail.id IN :tmdbMovieDetailIds ORDER BY mg.id ASC")
+    List<Object[]> findGenreIdPairsByTmdbMovieDetailIds(@Param("tmdbMovieDetailIds") List<Long> tmdbMovieDetailIds);
+
 }
@@ -2,9 +2,14 @@ package autoever_2st.project.external.repository.tmdb;
 
 import autoever_2st.project.external.entity.tmdb.TmdbMovieCast;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface TmdbMovieCastRepository extends JpaRepository<TmdbMovieCast, Long> {
     List<TmdbMovieCast> findAllByTmdbMovieDetailId(Long tmdbMovieDetailId);
+
+    @Query("SELECT c FROM TmdbMovieCast c JOIN FETCH c.tmdbMember WHERE c.tmdbMovieDetail.id = :tmdbMovieDetailId ORDER BY c.id ASC")
+    List<TmdbMovieCast> findAllWithMemberByTmdbMovieDetailId(@Param("tmdbMovieDetailId") Long tmdbMovieDetailId);
 }
\ No newline at end of file
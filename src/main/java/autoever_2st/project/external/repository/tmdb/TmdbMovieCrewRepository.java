@@ -15,4 +15,7 @@ public interface TmdbMovieCrewRepository extends JpaRepository<TmdbMovieCrew, Lo
     List<TmdbMovieCrew> findAllByJobAndTmdbMovieDetailIds(String job, List<Long> tmdbMovieDetailIds );
     @Query("SELECT DISTINCT crew.tmdbMember.id FROM TmdbMovieCrew crew WHERE crew.tmdbMovieDetail.id = :tmdbId AND crew.job = 'Director'")
     List<Long> findDirectorIdsByTmdbId(@Param("tmdbId") Long tmdbId);
+
+    @Query("SELECT crew FROM TmdbMovieCrew crew JOIN FETCH crew.tmdbMember WHERE crew.tmdbMovieDetail.id = :tmdbMovieDetailId AND crew.job = 'Director' ORDER BY crew.id ASC")
+    List<TmdbMovieCrew> findDirectorsWithMemberByTmdbMovieDetailId(@Param("tmdbMovieDetailId") Long tmdbMovieDetailId);
 }
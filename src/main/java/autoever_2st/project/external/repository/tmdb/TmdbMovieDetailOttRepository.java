@@ -2,9 +2,14 @@ package autoever_2st.project.external.repository.tmdb;
 
 import autoever_2st.project.external.entity.tmdb.TmdbMovieDetailOtt;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface TmdbMovieDetailOttRepository extends JpaRepository<TmdbMovieDetailOtt, Long> {
     List<TmdbMovieDetailOtt> findAllByTmdbMovieDetailId(Long tmdbMovieDetailId);
+
+    @Query("SELECT o FROM TmdbMovieDetailOtt o JOIN FETCH o.ottPlatform WHERE o.tmdbMovieDetail.id = :tmdbMovieDetailId")
+    List<TmdbMovieDetailOtt> findAllWithPlatformByTmdbMovieDetailId(@Param("tmdbMovieDetailId") Long tmdbMovieDetailId);
 } 
\ No newline at end of file
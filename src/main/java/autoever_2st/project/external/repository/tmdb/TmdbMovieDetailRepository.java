@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,6 +24,14 @@ public interface TmdbMovieDetailRepository extends JpaRepository<TmdbMovieDetail
     @Query("SELECT m FROM TmdbMovieDetail m WHERE m.title LIKE %?1% order by m.popularity desc")
     Page<TmdbMovieDetail> findAllByTitleContainingOrderByPopularityDesc(String title, Pageable pageable);
 
+    // 검색 목록용: mappedBy 쪽 OneToOne(movie)은 지연 로딩되지 않아 행마다 추가 조회되므로 fetch join으로 함께 조회
+    @Query(value = "SELECT m FROM TmdbMovieDetail m LEFT JOIN FETCH m.movie WHERE m.title LIKE %?1% order by m.popularity desc",
+           countQuery = "SELECT COUNT(m) FROM TmdbMovieDetail m WHERE m.title LIKE %?1%")
+    Page<TmdbMovieDetail> findAllWithMovieByTitleContaining(String title, Pageable pageable);
+
+    @Query("SELECT m FROM TmdbMovieDetail m LEFT JOIN FETCH m.movie WHERE m.id IN :ids")
+    List<TmdbMovieDetail> findAllWithMovieByIdIn(@Param("ids") List<Long> ids);
+
     /**
      * TMDB ID로 영화 상세 정보 조회
      */
@@ -63,10 +63,6 @@ public interface TmdbMovieDetailRepositoryCustom {
 
     Set<TmdbMovieDetailOtt> findMovieOttsById(Long id);
 
-    Page<MovieDto> findAllWithDetailsOrderByReleaseDateDesc(Pageable pageable);
-    Page<MovieDto> findAllWithDetailsOrderByPopularityDesc(Pageable pageable);
-    Page<MovieDto> findAllWithDetailsOrderByVoteScoreDesc(Pageable pageable);
-
     /**
      * Movie가 매핑된 모든 TMDB 영화 목록을 조회
      * @return Movie가 연결된 TmdbMovieDetail 목록
@@ -443,375 +443,6 @@ public class TmdbMovieDetailRepositoryImpl implements TmdbMovieDetailRepositoryC
                 .fetch());
     }
 
-    @Override
-    public Page<MovieDto> findAllWithDetailsOrderByReleaseDateDesc(Pageable pageable) {
-        QTmdbMovieDetail movie = QTmdbMovieDetail.tmdbMovieDetail;
-        QMovieGenreMatch genreMatch = QMovieGenreMatch.movieGenreMatch;
-        QMovieGenre genre = QMovieGenre.movieGenre;
-        QTmdbMovieImages image = QTmdbMovieImages.tmdbMovieImages;
-        QTmdbMovieCrew crew = QTmdbMovieCrew.tmdbMovieCrew;
-        QTmdbMember member = QTmdbMember.tmdbMember;
-
-        // 서브쿼리로 포스터 이미지 URL 조회 (ratio 0~1, en, POSTER)
-        JPQLQuery<String> posterSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat({0})",
-                    Expressions.stringTemplate(
-                        "concat({0}, {1})",
-                        image.baseUrl, image.imageUrl)))
-                .from(image)
-                .where(image.tmdbMovieDetail.eq(movie)
-                        .and(image.imageType.eq(ImageType.POSTER))
-                        .and(image.iso6391.eq("en"))
-                        .and(image.ratio.between(0.0, 1.0)))
-                .limit(1);
-
-        // 서브쿼리로 장르 이름들 조회
-        JPQLQuery<String> genreSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat({0})",
-                    genre.name))
-                .from(genreMatch)
-                .leftJoin(genreMatch.movieGenre, genre)
-                .where(genreMatch.tmdbMovieDetail.eq(movie));
-
-        // 서브쿼리로 감독 정보 조회 (중복 제거)
-        JPQLQuery<String> directorSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat(DISTINCT {0})",
-                    Expressions.stringTemplate(
-                        "concat({0}, '|', {1}, '|', {2}, '|', {3}, '|', {4})",
-                        member.gender.stringValue(),
-                        member.tmdbId,
-                        member.name,
-                        member.originalName,
-                        member.profilePath)))
-                .from(crew)
-                .leftJoin(crew.tmdbMember, member)
-                .where(crew.tmdbMovieDetail.eq(movie)
-                        .and(crew.job.eq("Director")));
-
-        List<Tuple> content = queryFactory
-                .select(
-                    movie.isAdult,
-                    movie.releaseDate,
-                    movie.voteAverage,
-                    movie.title,
-                    movie.id,
-                    genreSubquery,
-                    posterSubquery,
-                    movie.popularity,
-                    directorSubquery
-                )
-                .from(movie)
-                .where(movie.releaseDate.isNotNull())
-                .orderBy(movie.releaseDate.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long totalCount = queryFactory
-                .select(movie.count())
-                .from(movie)
-                .where(movie.releaseDate.isNotNull())
-                .fetchOne();
-
-        List<MovieDto> dtos = content.stream()
-                .map(tuple -> {
-                    // 장르 처리
-                    String genreString = tuple.get(5, String.class);
-                    List<String> genres = genreString != null ?
-                            Arrays.asList(genreString.split(",")) :
-                            new ArrayList<>();
-
-                    // 포스터 URL 처리 (첫 번째 URL만 사용)
-                    String posterUrl = tuple.get(6, String.class);
-                    if (posterUrl != null && posterUrl.contains(",")) {
-                        posterUrl = posterUrl.split(",")[0];
-                    }
-
-                    // 감독 정보 처리
-                    String directorString = tuple.get(8, String.class);
-                    List<DirectorDto> directors = new ArrayList<>();
-                    if (directorString != null) {
-                        directors = Arrays.stream(directorString.split(","))
-                                .map(dir -> {
-                                    String[] parts = dir.split("\\|");
-                                    return new DirectorDto(
-                                        parts.length > 0 ? parts[0] : "",
-                                        parts.length > 1 ? Long.parseLong(parts[1]) : 0L,
-                                        parts.length > 2 ? parts[2] : "",
-                                        parts.length > 3 ? parts[3] : "",
-                                        parts.length > 4 ? parts[4] : ""
-                                    );
-                                })
-                                .collect(Collectors.toList());
-                    }
-
-                    return new MovieDto(
-                        tuple.get(0, Boolean.class),
-                        tuple.get(1, Date.class),
-                        tuple.get(2, Double.class),
-                        tuple.get(3, String.class),
-                        tuple.get(4, Long.class),
-                        genres,
-                        posterUrl,
-                        tuple.get(7, Double.class),
-                        directors
-                    );
-                })
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(dtos, pageable, totalCount != null ? totalCount : 0);
-    }
-
-    @Override
-    public Page<MovieDto> findAllWithDetailsOrderByPopularityDesc(Pageable pageable) {
-        QTmdbMovieDetail movie = QTmdbMovieDetail.tmdbMovieDetail;
-        QMovieGenreMatch genreMatch = QMovieGenreMatch.movieGenreMatch;
-        QMovieGenre genre = QMovieGenre.movieGenre;
-        QTmdbMovieImages image = QTmdbMovieImages.tmdbMovieImages;
-        QTmdbMovieCrew crew = QTmdbMovieCrew.tmdbMovieCrew;
-        QTmdbMember member = QTmdbMember.tmdbMember;
-
-        // 장르 이름 서브쿼리
-        JPQLQuery<String> genreSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat({0})",
-                    genre.name))
-                .from(genreMatch)
-                .leftJoin(genreMatch.movieGenre, genre)
-                .where(genreMatch.tmdbMovieDetail.eq(movie));
-
-        // 포스터 이미지 URL 서브쿼리 (ratio 0~1, en, POSTER)
-        JPQLQuery<String> posterSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat({0})",
-                    Expressions.stringTemplate(
-                        "concat({0}, {1})",
-                        image.baseUrl, image.imageUrl)))
-                .from(image)
-                .where(image.tmdbMovieDetail.eq(movie)
-                        .and(image.imageType.eq(ImageType.POSTER))
-                        .and(image.iso6391.eq("en"))
-                        .and(image.ratio.between(0.0, 1.0)))
-                .limit(1);
-
-        // 감독 정보 서브쿼리 (중복 제거)
-        JPQLQuery<String> directorSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat(DISTINCT {0})",
-                    Expressions.stringTemplate(
-                        "concat({0}, '|', {1}, '|', {2}, '|', {3}, '|', {4})",
-                        member.gender.stringValue(),
-                        member.tmdbId,
-                        member.name,
-                        member.originalName,
-                        member.profilePath)))
-                .from(crew)
-                .leftJoin(crew.tmdbMember, member)
-                .where(crew.tmdbMovieDetail.eq(movie)
-                        .and(crew.job.eq("Director")));
-
-        List<Tuple> content = queryFactory
-                .select(
-                    movie.isAdult,
-                    movie.releaseDate,
-                    movie.voteAverage,
-                    movie.title,
-                    movie.id,
-                    genreSubquery,
-                    posterSubquery,
-                    movie.popularity,
-                    directorSubquery
-                )
-                .from(movie)
-                .where(movie.popularity.isNotNull())
-                .orderBy(movie.popularity.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long totalCount = queryFactory
-                .select(movie.count())
-                .from(movie)
-                .where(movie.popularity.isNotNull())
-                .fetchOne();
-
-        List<MovieDto> dtos = content.stream()
-                .map(tuple -> {
-                    // 장르 처리
-                    String genreString = tuple.get(5, String.class);
-                    List<String> genres = genreString != null ?
-                            Arrays.asList(genreString.split(",")) :
-                            new ArrayList<>();
-
-                    // 포스터 URL 처리 (첫 번째 URL만 사용)
-                    String posterUrl = tuple.get(6, String.class);
-                    if (posterUrl != null && posterUrl.contains(",")) {
-                        posterUrl = posterUrl.split(",")[0];
-                    }
-
-                    // 감독 정보 처리
-                    String directorString = tuple.get(8, String.class);
-                    List<DirectorDto> directors = new ArrayList<>();
-                    if (directorString != null) {
-                        directors = Arrays.stream(directorString.split(","))
-                                .map(dir -> {
-                                    String[] parts = dir.split("\\|");
-                                    return new DirectorDto(
-                                        parts.length > 0 ? parts[0] : "",
-                                        parts.length > 1 ? Long.parseLong(parts[1]) : 0L,
-                                        parts.length > 2 ? parts[2] : "",
-                                        parts.length > 3 ? parts[3] : "",
-                                        parts.length > 4 ? parts[4] : ""
-                                    );
-                                })
-                                .collect(Collectors.toList());
-                    }
-
-                    return new MovieDto(
-                        tuple.get(0, Boolean.class),
-                        tuple.get(1, Date.class),
-                        tuple.get(2, Double.class),
-                        tuple.get(3, String.class),
-                        tuple.get(4, Long.class),
-                        genres,
-                        posterUrl,
-                        tuple.get(7, Double.class),
-                        directors
-                    );
-                })
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(dtos, pageable, totalCount != null ? totalCount : 0);
-    }
-
-    @Override
-    public Page<MovieDto> findAllWithDetailsOrderByVoteScoreDesc(Pageable pageable) {
-        QTmdbMovieDetail movie = QTmdbMovieDetail.tmdbMovieDetail;
-        QMovieGenreMatch genreMatch = QMovieGenreMatch.movieGenreMatch;
-        QMovieGenre genre = QMovieGenre.movieGenre;
-        QTmdbMovieImages image = QTmdbMovieImages.tmdbMovieImages;
-        QTmdbMovieCrew crew = QTmdbMovieCrew.tmdbMovieCrew;
-        QTmdbMember member = QTmdbMember.tmdbMember;
-
-        // 장르 이름 서브쿼리
-        JPQLQuery<String> genreSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat({0})",
-                    genre.name))
-                .from(genreMatch)
-                .leftJoin(genreMatch.movieGenre, genre)
-                .where(genreMatch.tmdbMovieDetail.eq(movie));
-
-        // 포스터 이미지 URL 서브쿼리 (ratio 0~1, en, POSTER)
-        JPQLQuery<String> posterSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat({0})",
-                    Expressions.stringTemplate(
-                        "concat({0}, {1})",
-                        image.baseUrl, image.imageUrl)))
-                .from(image)
-                .where(image.tmdbMovieDetail.eq(movie)
-                        .and(image.imageType.eq(ImageType.POSTER))
-                        .and(image.iso6391.eq("en"))
-                        .and(image.ratio.between(0.0, 1.0)))
-                .limit(1);
-
-        // 감독 정보 서브쿼리 (중복 제거)
-        JPQLQuery<String> directorSubquery = JPAExpressions
-                .select(Expressions.stringTemplate(
-                    "group_concat(DISTINCT {0})",
-                    Expressions.stringTemplate(
-                        "concat({0}, '|', {1}, '|', {2}, '|', {3}, '|', {4})",
-                        member.gender.stringValue(),
-                        member.tmdbId,
-                        member.name,
-                        member.originalName,
-                        member.profilePath)))
-                .from(crew)
-                .leftJoin(crew.tmdbMember, member)
-                .where(crew.tmdbMovieDetail.eq(movie)
-                        .and(crew.job.eq("Director")));
-
-        List<Tuple> content = queryFactory
-                .select(
-                    movie.isAdult,
-                    movie.releaseDate,
-                    movie.voteAverage,
-                    movie.title,
-                    movie.id,
-                    genreSubquery,
-                    posterSubquery,
-                    movie.popularity,
-                    directorSubquery
-                )
-                .from(movie)
-                .where(
-                    movie.voteAverage.isNotNull(),
-                    movie.voteCount.isNotNull()
-                )
-                .orderBy(movie.voteAverage.multiply(movie.voteCount).desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
-
-        Long totalCount = queryFactory
-                .select(movie.count())
-                .from(movie)
-                .where(
-                    movie.voteAverage.isNotNull(),
-                    movie.voteCount.isNotNull()
-                )
-                .fetchOne();
-
-        List<MovieDto> dtos = content.stream()
-                .map(tuple -> {
-                    String genreString = tuple.get(5, String.class);
-                    List<String> genres = genreString != null ?
-                            Arrays.asList(genreString.split(",")) :
-                            new ArrayList<>();
-
-                    String posterUrl = tuple.get(6, String.class);
-                    if (posterUrl != null && posterUrl.contains(",")) {
-                        posterUrl = posterUrl.split(",")[0];
-                    }
-
-                    String directorString = tuple.get(8, String.class);
-                    List<DirectorDto> directors = new ArrayList<>();
-                    if (directorString != null) {
-                        directors = Arrays.stream(directorString.split(","))
-                                .map(dir -> {
-                                    String[] parts = dir.split("\\|");
-                                    return new DirectorDto(
-                                        parts.length > 0 ? parts[0] : "",
-                                        parts.length > 1 ? Long.parseLong(parts[1]) : 0L,
-                                        parts.length > 2 ? parts[2] : "",
-                                        parts.length > 3 ? parts[3] : "",
-                                        parts.length > 4 ? parts[4] : ""
-                                    );
-                                })
-                                .collect(Collectors.toList());
-                    }
-
-                    return new MovieDto(
-                        tuple.get(0, Boolean.class),
-                        tuple.get(1, Date.class),
-                        tuple.get(2, Double.class),
-                        tuple.get(3, String.class),
-                        tuple.get(4, Long.class),
-                        genres,
-                        posterUrl,
-                        tuple.get(7, Double.class),
-                        directors
-                    );
-                })
-                .collect(Collectors.toList());
-
-        return new PageImpl<>(dtos, pageable, totalCount != null ? totalCount : 0);
-    }
-
     @Override
     public List<TmdbMovieDetail> findAllByMovieIsNotNull() {
         QTmdbMovieDetail movie = QTmdbMovieDetail.tmdbMovieDetail;
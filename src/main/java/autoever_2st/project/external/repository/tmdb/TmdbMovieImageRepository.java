@@ -17,6 +17,10 @@ public interface TmdbMovieImageRepository extends JpaRepository<TmdbMovieImages,
     
     List<TmdbMovieImages> findAllByTmdbMovieDetail_IdAndIso6391IsNull(Long tmdbMovieDetailId);
 
+    // 상세 페이지용: 백드롭/포스터(en)와 스틸컷(iso null)을 한 번에 조회
+    @Query("SELECT mi FROM TmdbMovieImages mi WHERE mi.tmdbMovieDetail.id = :tmdbMovieDetailId AND (mi.iso6391 = 'en' OR mi.iso6391 IS NULL) ORDER BY mi.id ASC")
+    List<TmdbMovieImages> findDetailImagesByTmdbMovieDetailId(@Param("tmdbMovieDetailId") Long tmdbMovieDetailId);
+
     @Query("""
     SELECT mi FROM TmdbMovieImages mi
     WHERE mi.tmdbMovieDetail.id = :tmdbId
@@ -38,6 +42,10 @@ public interface TmdbMovieImageRepository extends JpaRepository<TmdbMovieImages,
     @Query("SELECT m FROM TmdbMovieImages m JOIN FETCH m.tmdbMovieDetail d WHERE d.id IN :tmdbMovieDetailIds AND m.iso6391 = 'en' AND m.imageType = 'POSTER' AND m.imageUrl IS NOT NULL")
     List<TmdbMovieImages> findAllByIso6391AndTmdbMovieDetailIds(@Param("tmdbMovieDetailIds") List<Long> tmdbMovieDetailIds);
 
+    // 검색 목록용: 영화별 포스터(en) URL만 조회 - [tmdbMovieDetailId, imageUrl], id 오름차순
+    @Query("SELECT m.tmdbMovieDetail.id, m.imageUrl FROM TmdbMovieImages m WHERE m.tmdbMovieDetail.id IN :tmdbMovieDetailIds AND m.iso6391 = 'en' AND m.imageType = 'POSTER' AND m.imageUrl IS NOT NULL ORDER BY m.id ASC")
+    List<Object[]> findPosterUrlsByTmdbMovieDetailIds(@Param("tmdbMovieDetailIds") List<Long> tmdbMovieDetailIds);
+
     @Query(nativeQuery = true, value = """
     SELECT DISTINCT movie_detail_id, base_url, image_url
     FROM (
@@ -198,4 +198,263 @@ public class SqlConstants {
     public static final String UPDATE_MOVIE_DETAIL_RUNTIME = 
             "UPDATE tmdb_movie_detail SET runtime = ?, updated_at = ? " +
             "WHERE tmdb_id = ?";
+
+    // MovieCard(목록 조회용 비정규화 테이블) 관련 쿼리
+    private static final String SELECT_MOVIE_CARD_SOURCE =
+            "SELECT m.id, d.id, d.title, d.original_title, d.is_adult, d.release_date, " +
+            "d.vote_average, d.vote_count, COALESCE(d.vote_average, 0) * COALESCE(d.vote_count, 0), d.popularity, " +
+            "(SELECT CONCAT(i.base_url, i.image_url) FROM tmdb_movie_images i " +
+            " WHERE i.tmdb_movie_detail_id = d.id AND i.image_type = 'POSTER' AND i.iso_639_1 = 'en' " +
+            " AND i.ratio BETWEEN 0.0 AND 1.0 ORDER BY i.id ASC LIMIT 1), " +
+            "(SELECT JSON_ARRAYAGG(g.name) FROM movie_genre_match gm JOIN movie_genre g ON g.id = gm.movie_genre_id " +
+            " WHERE gm.tmdb_movie_detail_id = d.id), " +
+            "(SELECT JSON_ARRAYAGG(JSON_OBJECT('gender', tm.gender, 'personId', tm.tmdb_id, 'name', tm.name, " +
+            "  'originalName', tm.original_name, 'profilePath', tm.profile_path)) FROM tmdb_member tm " +
+            " WHERE tm.id IN (SELECT c.tmdb_member_id FROM tmdb_movie_crew c " +
+            "  WHERE c.tmdb_movie_detail_id = d.id AND c.job = 'Director')), " +
+            ":now " +
+            "FROM movie m JOIN tmdb_movie_detail d ON d.id = m.tmdb_movie_detail_id ";
+
+    public static final String UPSERT_MOVIE_CARD_BY_TMDB_DETAIL_IDS =
+            "INSERT INTO movie_card (movie_id, tmdb_movie_detail_id, title, original_title, is_adult, release_date, " +
+            "vote_average, vote_count, vote_score, popularity, poster_path, genres, directors, updated_at) " +
+            SELECT_MOVIE_CARD_SOURCE +
+            "WHERE d.id IN (:tmdbMovieDetailIds) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "tmdb_movie_detail_id = VALUES(tmdb_movie_detail_id), " +
+            "title = VALUES(title), " +
+            "original_title = VALUES(original_title), " +
+            "is_adult = VALUES(is_adult), " +
+            "release_date = VALUES(release_date), " +
+            "vote_average = VALUES(vote_average), " +
+            "vote_count = VALUES(vote_count), " +
+            "vote_score = VALUES(vote_score), " +
+            "popularity = VALUES(popularity), " +
+            "poster_path = VALUES(poster_path), " +
+            "genres = VALUES(genres), " +
+            "directors = VALUES(directors), " +
+            "updated_at = VALUES(updated_at)";
+
+    // 배치 시작 이후 변경된 영화(상세, 장르, 이미지, 감독) 조회
+    public static final String FIND_TMDB_DETAIL_IDS_CHANGED_SINCE =
+            "SELECT d.id FROM tmdb_movie_detail d WHERE d.updated_at >= :since " +
+            "UNION SELECT gm.tmdb_movie_detail_id FROM movie_genre_match gm WHERE gm.updated_at >= :since " +
+            "UNION SELECT i.tmdb_movie_detail_id FROM tmdb_movie_images i WHERE i.updated_at >= :since AND i.image_type = 'POSTER' " +
+            "UNION SELECT c.tmdb_movie_detail_id FROM tmdb_movie_crew c WHERE c.updated_at >= :since AND c.job = 'Director' " +
+            "UNION SELECT m.tmdb_movie_detail_id FROM movie m WHERE m.updated_at >= :since AND m.tmdb_movie_detail_id IS NOT NULL";
+
+    public static final String FIND_ALL_MAPPED_TMDB_DETAIL_IDS =
+            "SELECT m.tmdb_movie_detail_id FROM movie m WHERE m.tmdb_movie_detail_id IS NOT NULL ORDER BY m.tmdb_movie_detail_id";
+
+    public static final String COUNT_MOVIE_CARD =
+            "SELECT COUNT(*) FROM movie_card";
+
+    // 영화 제목 검색 인덱스(MovieTitleIndex) 구성용 쿼리 - Movie와 매핑된 상세 정보만 대상
+    private static final String SELECT_MOVIE_TITLE_INDEX_SOURCE =
+            "SELECT d.id, d.title, d.original_title, d.popularity FROM tmdb_movie_detail d " +
+            "WHERE EXISTS (SELECT 1 FROM movie m WHERE m.tmdb_movie_detail_id = d.id) ";
+
+    public static final String FIND_ALL_MOVIE_TITLE_INDEX_ROWS =
+            SELECT_MOVIE_TITLE_INDEX_SOURCE;
+
+    public static final String FIND_MOVIE_TITLE_INDEX_ROWS_BY_TMDB_DETAIL_IDS =
+            SELECT_MOVIE_TITLE_INDEX_SOURCE +
+            "AND d.id IN (:tmdbMovieDetailIds)";
+
+    // 자동완성 인덱스(AutocompleteIndex) 구성용 쿼리 - (id, 이름, 다른 이름, 정렬 점수)
+    public static final String FIND_AUTOCOMPLETE_MOVIES =
+            "SELECT m.id, d.title, d.original_title, COALESCE(d.popularity, 0) " +
+            "FROM movie m JOIN tmdb_movie_detail d ON d.id = m.tmdb_movie_detail_id";
+
+    // 인물은 인기도 컬럼이 없으므로 출연/참여 작품 수를 점수로 사용
+    public static final String FIND_AUTOCOMPLETE_PEOPLE =
+            "SELECT tm.tmdb_id, tm.name, tm.original_name, COALESCE(c.cnt, 0) + COALESCE(w.cnt, 0) " +
+            "FROM tmdb_member tm " +
+            "LEFT JOIN (SELECT tmdb_member_id, COUNT(*) cnt FROM tmdb_movie_cast GROUP BY tmdb_member_id) c " +
+            "ON c.tmdb_member_id = tm.id " +
+            "LEFT JOIN (SELECT tmdb_member_id, COUNT(*) cnt FROM tmdb_movie_crew GROUP BY tmdb_member_id) w " +
+            "ON w.tmdb_member_id = tm.id " +
+            "WHERE tm.name IS NOT NULL";
+
+    // 리뷰어는 팔로워 수를 점수로 사용 (탈퇴/정지 회원 제외)
+    public static final String FIND_AUTOCOMPLETE_REVIEWERS =
+            "SELECT m.member_id, m.nickname, NULL, " +
+            "(SELECT COUNT(*) FROM member_follower f WHERE f.member_id = m.member_id) " +
+            "FROM member m " +
+            "WHERE m.nickname IS NOT NULL AND COALESCE(m.is_delete, FALSE) = FALSE AND COALESCE(m.is_banned, FALSE) = FALSE";
+
+    // 인물 검색 인덱스(PersonSearchIndex) 구성용 쿼리 - 감독/출연 작품 수와 작품 인기도 합계를 역할별로 집계
+    public static final String FIND_PERSON_SEARCH_ROWS =
+            "SELECT tm.tmdb_id, tm.name, tm.original_name, tm.gender, tm.profile_path, " +
+            "COALESCE(w.cnt, 0), COALESCE(w.pop, 0), COALESCE(c.cnt, 0), COALESCE(c.pop, 0) " +
+            "FROM tmdb_member tm " +
+            "LEFT JOIN (SELECT x.tmdb_member_id, COUNT(*) cnt, SUM(COALESCE(d.popularity, 0)) pop " +
+            "  FROM (SELECT DISTINCT tmdb_member_id, tmdb_movie_detail_id FROM tmdb_movie_crew WHERE job = 'Director') x " +
+            "  JOIN tmdb_movie_detail d ON d.id = x.tmdb_movie_detail_id GROUP BY x.tmdb_member_id) w " +
+            "ON w.tmdb_member_id = tm.id " +
+            "LEFT JOIN (SELECT x.tmdb_member_id, COUNT(*) cnt, SUM(COALESCE(d.popularity, 0)) pop " +
+            "  FROM (SELECT DISTINCT tmdb_member_id, tmdb_movie_detail_id FROM tmdb_movie_cast) x " +
+            "  JOIN tmdb_movie_detail d ON d.id = x.tmdb_movie_detail_id GROUP BY x.tmdb_member_id) c " +
+            "ON c.tmdb_member_id = tm.id " +
+            "WHERE tm.name IS NOT NULL AND (w.cnt IS NOT NULL OR c.cnt IS NOT NULL)";
+
+    // CineverScore 원자적 집계 쿼리 - 읽고 쓰지 않고 DB에서 바로 증감 (cinever_score.movie_id 유니크 키 기준)
+    public static final String UPSERT_CINEVER_SCORE_ADD_REVIEW =
+            "INSERT INTO cinever_score (movie_id, score, review_count) VALUES (?, ?, 1) " +
+            "ON DUPLICATE KEY UPDATE score = score + VALUES(score), review_count = review_count + 1";
+
+    public static final String UPDATE_CINEVER_SCORE_REPLACE_RATING =
+            "UPDATE cinever_score SET score = score - ? + ? WHERE movie_id = ?";
+
+    public static final String UPDATE_CINEVER_SCORE_REMOVE_REVIEW =
+            "UPDATE cinever_score SET score = score - ?, review_count = review_count - 1 WHERE movie_id = ?";
+
+    // 리뷰 키워드 백필용 쿼리 - review_id 기준 키셋 페이지네이션
+    public static final String FIND_REVIEW_CONTENTS_AFTER =
+            "SELECT rd.review_id, rd.content FROM review_detail rd " +
+            "WHERE rd.review_id > ? ORDER BY rd.review_id LIMIT ?";
+
+    // 팔로잉 피드(feed_entry) 쿼리 - 리뷰 작성 시 팔로워 타임라인에 한 문장으로 적재(fan-out-on-write)
+    public static final String INSERT_FEED_ENTRIES_FOR_FOLLOWERS =
+            "INSERT IGNORE INTO feed_entry (member_id, review_id, author_id, created_at) " +
+            "SELECT mf.member_id, ?, ?, ? FROM member_following mf WHERE mf.following_id = ?";
+
+    public static final String INSERT_FEED_ENTRIES_FROM_AUTHOR =
+            "INSERT IGNORE INTO feed_entry (member_id, review_id, author_id, created_at) " +
+            "SELECT ?, r.id, r.member_id, ? FROM review r WHERE r.member_id = ? ORDER BY r.id DESC LIMIT ?";
+
+    public static final String INSERT_ALL_FEED_ENTRIES =
+            "INSERT IGNORE INTO feed_entry (member_id, review_id, author_id, created_at) " +
+            "SELECT mf.member_id, r.id, r.member_id, ? FROM member_following mf " +
+            "JOIN review r ON r.member_id = mf.following_id " +
+            "WHERE mf.following_id NOT IN (" +
+            "  SELECT x.following_id FROM member_following x GROUP BY x.following_id HAVING COUNT(*) >= ?)";
+
+    public static final String DELETE_FEED_ENTRIES_BY_REVIEW =
+            "DELETE FROM feed_entry WHERE review_id = ?";
+
+    public static final String DELETE_FEED_ENTRIES_BY_AUTHOR =
+            "DELETE FROM feed_entry WHERE member_id = ? AND author_id = ?";
+
+    public static final String FIND_FEED_REVIEW_IDS =
+            "SELECT review_id FROM feed_entry WHERE member_id = ? AND review_id < ? ORDER BY review_id DESC LIMIT ?";
+
+    // 팔로워가 많아 적재하지 않는 작성자(fan-out-on-read 대상) - FollowingFeed가 주기적으로 읽어 메모리에 보관
+    public static final String FIND_HIGH_FANOUT_AUTHOR_IDS =
+            "SELECT following_id FROM member_following GROUP BY following_id HAVING COUNT(*) >= ?";
+
+    // 주어진 작성자 중 내가 팔로우하는 회원 ((member_id, following_id) 유니크 인덱스로 조회)
+    public static final String FIND_FOLLOWING_IDS_AMONG =
+            "SELECT following_id FROM member_following WHERE member_id = :memberId AND following_id IN (:authorIds)";
+
+    public static final String FIND_REVIEW_IDS_BY_AUTHORS_BEFORE =
+            "SELECT r.id FROM review r WHERE r.member_id IN (:authorIds) AND r.id < :cursor ORDER BY r.id DESC LIMIT :size";
+
+    // 리뷰 좋아요 쿼리 - (review_id, member_id) 유니크 키로 중복 없이 추가하고, 실제로 변경된 경우에만 좋아요 수 증감
+    public static final String INSERT_REVIEW_LIKE =
+            "INSERT IGNORE INTO review_like (review_id, member_id) VALUES (?, ?)";
+
+    public static final String DELETE_REVIEW_LIKE =
+            "DELETE FROM review_like WHERE review_id = ? AND member_id = ?";
+
+    // 좋아요 수가 비어 있으면(기본값 없이 추가된 컬럼) 같은 트랜잭션의 변경이 반영된 review_like 개수로 채움
+    public static final String UPDATE_REVIEW_LIKE_COUNT =
+            "UPDATE review SET like_count = CASE WHEN like_count IS NULL " +
+            "THEN (SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = ?) ELSE like_count + ? END " +
+            "WHERE id = ?";
+
+    public static final String FILL_MISSING_REVIEW_LIKE_COUNTS =
+            "UPDATE review r SET r.like_count = (SELECT COUNT(*) FROM review_like rl WHERE rl.review_id = r.id) " +
+            "WHERE r.like_count IS NULL";
+
+    // 폐기된 JWT(revoked_token) 쿼리 - token_digest 유니크 키, 만료된 항목은 주기적으로 삭제
+    public static final String INSERT_REVOKED_TOKEN =
+            "INSERT IGNORE INTO revoked_token (token_digest, expires_at, revoked_at) VALUES (?, ?, ?)";
+
+    public static final String EXISTS_REVOKED_TOKEN =
+            "SELECT EXISTS (SELECT 1 FROM revoked_token WHERE token_digest = ? AND expires_at > ?)";
+
+    public static final String FIND_ACTIVE_REVOKED_TOKEN_DIGESTS =
+            "SELECT token_digest FROM revoked_token WHERE expires_at > ?";
+
+    public static final String FIND_REVOKED_TOKEN_DIGESTS_SINCE =
+            "SELECT token_digest FROM revoked_token WHERE revoked_at >= ? AND expires_at > ?";
+
+    public static final String DELETE_EXPIRED_REVOKED_TOKENS =
+            "DELETE FROM revoked_token WHERE expires_at <= ?";
+
+    // 팔로우 관계 쿼리 - (member_id, follower_id) / (member_id, following_id) 유니크 키로 중복 없이 추가하고, 실제로 변경된 경우에만 팔로워 수 증감
+    public static final String INSERT_MEMBER_FOLLOWER =
+            "INSERT IGNORE INTO member_follower (member_id, follower_id) VALUES (?, ?)";
+
+    public static final String INSERT_MEMBER_FOLLOWING =
+            "INSERT IGNORE INTO member_following (member_id, following_id) VALUES (?, ?)";
+
+    public static final String DELETE_MEMBER_FOLLOWER =
+            "DELETE FROM member_follower WHERE member_id = ? AND follower_id = ?";
+
+    public static final String DELETE_MEMBER_FOLLOWING =
+            "DELETE FROM member_following WHERE member_id = ? AND following_id = ?";
+
+    // 리뷰어 목록 읽기 모델(reviewer_leaderboard) 쿼리 - 이벤트마다 증감, 행이 없으면 member에서 닉네임을 읽어 생성
+    public static final String UPSERT_REVIEWER_LEADERBOARD_DELTA =
+            "INSERT INTO reviewer_leaderboard (member_id, nickname, follower_count, review_count, rated_count, rating_sum, updated_at) " +
+            "SELECT m.member_id, m.nickname, ?, ?, ?, ?, ? FROM member m WHERE m.member_id = ? " +
+            "ON DUPLICATE KEY UPDATE follower_count = follower_count + VALUES(follower_count), " +
+            "review_count = review_count + VALUES(review_count), rated_count = rated_count + VALUES(rated_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), updated_at = VALUES(updated_at)";
+
+    public static final String UPDATE_REVIEWER_LEADERBOARD_NICKNAME =
+            "UPDATE reviewer_leaderboard SET nickname = ?, updated_at = ? WHERE member_id = ?";
+
+    // 최초 채움 (활동이 없는 회원도 0으로 포함, 그 사이 증감으로 생긴 행은 집계값으로 덮어씀)
+    // 리뷰 수는 전체 리뷰, 평균은 평점 있는 리뷰만 (rated_count, rating_sum) - ReviewerLeaderboard의 이벤트 증감과 같은 규칙
+    public static final String REBUILD_REVIEWER_LEADERBOARD =
+            "INSERT INTO reviewer_leaderboard (member_id, nickname, follower_count, review_count, rated_count, rating_sum, updated_at) " +
+            "SELECT m.member_id, m.nickname, COALESCE(f.cnt, 0), COALESCE(r.cnt, 0), COALESCE(r.rated_cnt, 0), COALESCE(r.rating_sum, 0), ? " +
+            "FROM member m " +
+            "LEFT JOIN (SELECT member_id, COUNT(DISTINCT follower_id) cnt FROM member_follower GROUP BY member_id) f " +
+            "ON f.member_id = m.member_id " +
+            "LEFT JOIN (SELECT rv.member_id, COUNT(*) cnt, COUNT(rd.rating) rated_cnt, SUM(rd.rating) rating_sum FROM review rv " +
+            "  LEFT JOIN review_detail rd ON rd.review_id = rv.id GROUP BY rv.member_id) r " +
+            "ON r.member_id = m.member_id " +
+            "ON DUPLICATE KEY UPDATE nickname = VALUES(nickname), follower_count = VALUES(follower_count), " +
+            "review_count = VALUES(review_count), rated_count = VALUES(rated_count), rating_sum = VALUES(rating_sum), " +
+            "updated_at = VALUES(updated_at)";
+
+    public static final String COUNT_REVIEWER_LEADERBOARD =
+            "SELECT COUNT(*) FROM reviewer_leaderboard";
+
+    public static final String FIND_REVIEWER_LEADERBOARD_PAGE =
+            "SELECT member_id, follower_count, review_count, rated_count, rating_sum FROM reviewer_leaderboard " +
+            "ORDER BY follower_count DESC, nickname ASC, member_id ASC LIMIT ? OFFSET ?";
+
+    // reviewer_leaderboard가 채워지기 전 원본 테이블에서 바로 집계하는 조회 (기존 목록 쿼리와 같은 정렬)
+    public static final String COUNT_REVIEWER_MEMBERS =
+            "SELECT COUNT(*) FROM member";
+
+    public static final String FIND_REVIEWER_LIVE_PAGE =
+            "SELECT m.member_id, COALESCE(f.cnt, 0) follower_count, COALESCE(r.cnt, 0), COALESCE(r.rated_cnt, 0), COALESCE(r.rating_sum, 0) " +
+            "FROM member m " +
+            "LEFT JOIN (SELECT member_id, COUNT(DISTINCT follower_id) cnt FROM member_follower GROUP BY member_id) f " +
+            "ON f.member_id = m.member_id " +
+            "LEFT JOIN (SELECT rv.member_id, COUNT(*) cnt, COUNT(rd.rating) rated_cnt, SUM(rd.rating) rating_sum FROM review rv " +
+            "  LEFT JOIN review_detail rd ON rd.review_id = rv.id GROUP BY rv.member_id) r " +
+            "ON r.member_id = m.member_id " +
+            "ORDER BY follower_count DESC, m.nickname ASC, m.member_id ASC LIMIT ? OFFSET ?";
+
+    // 회원 장르 선호도 재계산 쿼리 - GenrePreferenceUpdater와 같은 가중치(Math.round((평점 - 2.5) * 2))를 리뷰 전체에 적용
+    public static final String DELETE_ALL_MEMBER_GENRE_PREFERENCES =
+            "DELETE FROM member_genre_preference";
+
+    public static final String REBUILD_MEMBER_GENRE_PREFERENCES =
+            "INSERT INTO member_genre_preference (member_id, movie_genre_id, `value`) " +
+            "SELECT r.member_id, mgm.movie_genre_id, SUM(FLOOR((rd.rating - 2.5) * 2 + 0.5)) " +
+            "FROM review r " +
+            "JOIN review_detail rd ON rd.review_id = r.id " +
+            "JOIN movie m ON m.id = r.movie_id " +
+            "JOIN (SELECT DISTINCT tmdb_movie_detail_id, movie_genre_id FROM movie_genre_match) mgm " +
+            "ON mgm.tmdb_movie_detail_id = m.tmdb_movie_detail_id " +
+            "WHERE rd.rating IS NOT NULL " +
+            "GROUP BY r.member_id, mgm.movie_genre_id";
 }
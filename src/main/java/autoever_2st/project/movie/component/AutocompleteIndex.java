@@ -0,0 +1,295 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.batch.dao.AutocompleteDao;
+import autoever_2st.project.batch.dao.AutocompleteDao.AutocompleteRow;
+import autoever_2st.project.common.util.HangulJamo;
+import autoever_2st.project.movie.dto.AutocompleteDto;
+import autoever_2st.project.movie.enums.AutocompleteType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 영화 제목 / 인물 이름 / 리뷰어 닉네임 접두어 자동완성 인덱스
+ * - 키: 자모 분해 키(입력 중인 음절도 일치)와 초성 키("ㅇㅂㅈㅅ") 두 종류를 정렬 배열로 보관
+ * - 접두어 범위는 이분 탐색으로 찾고, 범위가 큰 짧은 접두어(자모 3개 이하)는 상위 k개를 미리 계산해 둠
+ * - 기동 시와 배치 Job 완료 시 DB에서 전체 재구성 후 통째로 교체 (조회는 락 없이 현재 인덱스 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutocompleteIndex {
+
+    public static final int MAX_SIZE = 20;
+    private static final int HOT_PREFIX_LENGTH = 3;
+    private static final int HOT_PREFIX_MIN_RANGE = 64;
+
+    private final AutocompleteDao autocompleteDao;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile Map<AutocompleteType, PrefixIndex> indexes = Collections.emptyMap();
+
+    /**
+     * 접두어로 상위 size개 조회 (인기도/점수 내림차순), 인덱스가 아직 없으면 빈 목록
+     */
+    public List<AutocompleteDto> search(AutocompleteType type, String query, int size) {
+        PrefixIndex index = indexes.get(type);
+        String normalized = HangulJamo.normalize(query);
+        if (index == null || normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        int limit = Math.min(size, MAX_SIZE);
+        return HangulJamo.isChosungQuery(normalized)
+                ? index.chosungKeys.topK(HangulJamo.chosung(normalized), limit, index)
+                : index.jamoKeys.topK(HangulJamo.decompose(normalized), limit, index);
+    }
+
+    /**
+     * 애플리케이션 기동 시 백그라운드에서 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    private void rebuild() {
+        try {
+            for (AutocompleteType type : AutocompleteType.values()) {
+                long start = System.currentTimeMillis();
+                List<AutocompleteRow> rows = new ArrayList<>();
+                autocompleteDao.forEachRow(type, rows::add);
+                PrefixIndex built = PrefixIndex.build(rows);
+
+                // 유형별로 완성되는 대로 교체 (조회 측은 volatile 참조만 읽음)
+                Map<AutocompleteType, PrefixIndex> next = new EnumMap<>(AutocompleteType.class);
+                next.putAll(indexes);
+                next.put(type, built);
+                indexes = next;
+
+                log.info("{} 자동완성 인덱스 구성 완료 - 항목 {}개, 키 {}개, {}ms",
+                        type, rows.size(), built.jamoKeys.keys.length + built.chosungKeys.keys.length,
+                        System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.error("자동완성 인덱스 구성 실패: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 한 유형(영화/인물/리뷰어)의 불변 인덱스
+     */
+    private static final class PrefixIndex {
+        private final long[] ids;
+        private final String[] names;
+        private final double[] scores;
+        private final SortedKeys jamoKeys;
+        private final SortedKeys chosungKeys;
+
+        private PrefixIndex(long[] ids, String[] names, double[] scores, SortedKeys jamoKeys, SortedKeys chosungKeys) {
+            this.ids = ids;
+            this.names = names;
+            this.scores = scores;
+            this.jamoKeys = jamoKeys;
+            this.chosungKeys = chosungKeys;
+        }
+
+        private static PrefixIndex build(List<AutocompleteRow> rows) {
+            int count = rows.size();
+            long[] ids = new long[count];
+            String[] names = new String[count];
+            double[] scores = new double[count];
+            List<KeyEntry> jamoEntries = new ArrayList<>(count);
+            List<KeyEntry> chosungEntries = new ArrayList<>(count);
+
+            for (int item = 0; item < count; item++) {
+                AutocompleteRow row = rows.get(item);
+                ids[item] = row.getId();
+                names[item] = row.getName();
+                scores[item] = row.getScore();
+
+                Set<String> normalizedNames = new LinkedHashSet<>();
+                normalizedNames.add(HangulJamo.normalize(row.getName()));
+                normalizedNames.add(HangulJamo.normalize(row.getAlternativeName()));
+                for (String normalized : normalizedNames) {
+                    if (normalized.isEmpty()) {
+                        continue;
+                    }
+                    jamoEntries.add(new KeyEntry(HangulJamo.decompose(normalized), item));
+                    String chosung = HangulJamo.chosung(normalized);
+                    // 한글이 없는 이름은 초성 키가 원문과 같으므로 제외
+                    if (!chosung.equals(normalized)) {
+                        chosungEntries.add(new KeyEntry(chosung, item));
+                    }
+                }
+            }
+
+            return new PrefixIndex(ids, names, scores,
+                    SortedKeys.build(jamoEntries, scores),
+                    SortedKeys.build(chosungEntries, scores));
+        }
+    }
+
+    private static final class KeyEntry {
+        private final String key;
+        private final int item;
+
+        private KeyEntry(String key, int item) {
+            this.key = key;
+            this.item = item;
+        }
+    }
+
+    /**
+     * 정렬된 키 배열 + 짧은 접두어별 상위 k개
+     */
+    private static final class SortedKeys {
+        private final String[] keys;
+        private final int[] items;
+        private final Map<String, int[]> hotPrefixes;
+
+        private SortedKeys(String[] keys, int[] items, Map<String, int[]> hotPrefixes) {
+            this.keys = keys;
+            this.items = items;
+            this.hotPrefixes = hotPrefixes;
+        }
+
+        private static SortedKeys build(List<KeyEntry> entries, double[] scores) {
+            entries.sort(Comparator.comparing((KeyEntry entry) -> entry.key).thenComparingInt(entry -> entry.item));
+            String[] keys = new String[entries.size()];
+            int[] items = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                keys[i] = entries.get(i).key;
+                items[i] = entries.get(i).item;
+            }
+
+            // 정렬되어 있으므로 같은 접두어는 연속 구간 → 길이별로 한 번의 순회로 상위 k개 계산
+            Map<String, int[]> hotPrefixes = new HashMap<>();
+            String[] currentPrefix = new String[HOT_PREFIX_LENGTH + 1];
+            TopK[] accumulators = new TopK[HOT_PREFIX_LENGTH + 1];
+            for (int i = 0; i < keys.length; i++) {
+                for (int length = 1; length <= HOT_PREFIX_LENGTH; length++) {
+                    String prefix = keys[i].length() >= length ? keys[i].substring(0, length) : null;
+                    if (!Objects.equals(prefix, currentPrefix[length])) {
+                        flush(hotPrefixes, currentPrefix[length], accumulators[length]);
+                        currentPrefix[length] = prefix;
+                        accumulators[length] = prefix != null ? new TopK(MAX_SIZE, scores) : null;
+                    }
+                    if (accumulators[length] != null) {
+                        accumulators[length].offer(items[i]);
+                    }
+                }
+            }
+            for (int length = 1; length <= HOT_PREFIX_LENGTH; length++) {
+                flush(hotPrefixes, currentPrefix[length], accumulators[length]);
+            }
+
+            return new SortedKeys(keys, items, hotPrefixes);
+        }
+
+        private static void flush(Map<String, int[]> hotPrefixes, String prefix, TopK accumulator) {
+            // 범위가 작은 접두어는 조회 시 바로 훑는 편이 싸므로 저장하지 않음
+            if (prefix != null && accumulator != null && accumulator.offered >= HOT_PREFIX_MIN_RANGE) {
+                hotPrefixes.put(prefix, accumulator.toArray());
+            }
+        }
+
+        private List<AutocompleteDto> topK(String prefix, int limit, PrefixIndex index) {
+            int[] top = prefix.length() <= HOT_PREFIX_LENGTH ? hotPrefixes.get(prefix) : null;
+            if (top == null) {
+                TopK accumulator = new TopK(limit, index.scores);
+                int from = lowerBound(prefix);
+                int to = lowerBound(prefix + Character.MAX_VALUE);
+                for (int i = from; i < to; i++) {
+                    accumulator.offer(items[i]);
+                }
+                top = accumulator.toArray();
+            }
+
+            List<AutocompleteDto> result = new ArrayList<>(Math.min(limit, top.length));
+            for (int i = 0; i < top.length && i < limit; i++) {
+                result.add(new AutocompleteDto(index.ids[top[i]], index.names[top[i]]));
+            }
+            return result;
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 점수 내림차순 상위 k개 (같은 항목은 한 번만)
+     */
+    private static final class TopK {
+        private final int capacity;
+        private final double[] scores;
+        private final int[] top;
+        private int size;
+        private int offered;
+
+        private TopK(int capacity, double[] scores) {
+            this.capacity = capacity;
+            this.scores = scores;
+            this.top = new int[capacity];
+        }
+
+        private void offer(int item) {
+            offered++;
+            for (int i = 0; i < size; i++) {
+                if (top[i] == item) {
+                    return;
+                }
+            }
+            if (size == capacity && scores[top[size - 1]] >= scores[item]) {
+                return;
+            }
+
+            int position = size < capacity ? size++ : capacity - 1;
+            while (position > 0 && scores[top[position - 1]] < scores[item]) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = item;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(top, size);
+        }
+    }
+}
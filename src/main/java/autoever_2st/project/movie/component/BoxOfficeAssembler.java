@@ -0,0 +1,153 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.external.entity.kofic.KoficBoxOffice;
+import autoever_2st.project.external.entity.kofic.KoficMovieDetail;
+import autoever_2st.project.external.entity.tmdb.ImageType;
+import autoever_2st.project.external.entity.tmdb.TmdbMovieDetail;
+import autoever_2st.project.external.entity.tmdb.TmdbMovieImages;
+import autoever_2st.project.external.entity.tmdb.TmdbMovieVideo;
+import autoever_2st.project.external.repository.kofic.KoficMovieDetailRepository;
+import autoever_2st.project.movie.dto.BoxOfficeMovieDto;
+import autoever_2st.project.movie.dto.DirectorDto;
+import autoever_2st.project.movie.entity.Movie;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * 박스오피스 목록(BoxOfficeMovieDto) 조립기
+ * - 박스오피스/TMDB 상세/Movie는 fetch join, 장르/감독/이미지/비디오는 IN 쿼리로 미리 적재된 상태에서 조립
+ * - 요청마다 호출하지 않고 BoxOfficeSnapshot이 배치 완료 시 한 번 호출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeAssembler {
+
+    private final KoficMovieDetailRepository koficMovieDetailRepository;
+
+    private static final String BASE_URL = "https://image.tmdb.org/t/p/original/";
+
+    @Transactional(readOnly = true)
+    public List<BoxOfficeMovieDto> assemble() {
+        // KoficBoxOffice를 기준으로 연관된 모든 데이터 조회
+        List<KoficMovieDetail> boxOfficeMovies = koficMovieDetailRepository.findBoxOfficeMoviesWithAllRelations();
+
+        List<BoxOfficeMovieDto> result = new ArrayList<>(boxOfficeMovies.size());
+        for (KoficMovieDetail koficMovieDetail : boxOfficeMovies) {
+            KoficBoxOffice koficBoxOffice = koficMovieDetail.getKoficBoxOffice();
+            TmdbMovieDetail tmdbMovieDetail = koficMovieDetail.getTmdbMovieDetail();
+            if (tmdbMovieDetail == null || koficBoxOffice == null) {
+                continue;
+            }
+
+            // Movie는 조회 쿼리에서 함께 fetch join 되어 있으므로 건별 조회 없이 사용
+            Movie movie = tmdbMovieDetail.getMovie();
+            if (movie == null) {
+                log.warn("Movie 엔티티가 없습니다. TMDB ID: {}, 영화명: {}", tmdbMovieDetail.getId(), tmdbMovieDetail.getTitle());
+                continue;
+            }
+
+            result.add(new BoxOfficeMovieDto(
+                    koficBoxOffice.getBoxOfficeRank(),
+                    movie.getId(),
+                    extractGenreNames(tmdbMovieDetail),
+                    tmdbMovieDetail.getTitle(),
+                    tmdbMovieDetail.getReleaseDate(),
+                    koficBoxOffice.getCumulativeCount(),
+                    extractDirectors(tmdbMovieDetail),
+                    extractPosterPath(tmdbMovieDetail),
+                    extractTeaserVideo(tmdbMovieDetail)
+            ));
+        }
+
+        // 박스오피스 순위로 정렬
+        result.sort(Comparator.comparing(BoxOfficeMovieDto::getRank));
+        return result;
+    }
+
+    private List<String> extractGenreNames(TmdbMovieDetail tmdbMovieDetail) {
+        return tmdbMovieDetail.getMovieGenreMatch().stream()
+                .map(match -> match.getMovieGenre().getName())
+                .collect(Collectors.toList());
+    }
+
+    // 감독 정보 추출 (중복 제거)
+    private List<DirectorDto> extractDirectors(TmdbMovieDetail tmdbMovieDetail) {
+        return tmdbMovieDetail.getTmdbMovieCrew().stream()
+                .filter(crew -> "Director".equals(crew.getJob()))
+                .map(crew -> crew.getTmdbMember())
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(member -> new DirectorDto(
+                        member.getGender().getGenderKrString(),
+                        member.getTmdbId(),
+                        member.getName(),
+                        member.getOriginalName(),
+                        member.getProfilePath() != null ? BASE_URL + member.getProfilePath() : null
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 가로가 긴 포스터 이미지 URL 추출
+     * - 언어 정보가 있는 가로형(ratio > 1.0) 백드롭 → 가로형 영문 포스터 → 영문 포스터 순으로 사용
+     */
+    private String extractPosterPath(TmdbMovieDetail tmdbMovieDetail) {
+        // 컬렉션이 HashSet이므로 id 순으로 정렬해 매 배치마다 같은 이미지가 선택되도록 함
+        List<TmdbMovieImages> images = tmdbMovieDetail.getTmdbMovieImages().stream()
+                .sorted(Comparator.comparing(TmdbMovieImages::getId))
+                .collect(Collectors.toList());
+
+        TmdbMovieImages backdrop = findFirstImage(images, image -> image.getImageType() == ImageType.BACKDROP
+                && image.getIso6391() != null
+                && isLandscape(image));
+        if (backdrop != null) {
+            return backdrop.getImageUrl();
+        }
+
+        TmdbMovieImages landscapePoster = findFirstImage(images, image -> image.getImageType() == ImageType.POSTER
+                && "en".equals(image.getIso6391())
+                && isLandscape(image));
+        if (landscapePoster != null) {
+            return landscapePoster.getBaseUrl() + landscapePoster.getImageUrl();
+        }
+
+        TmdbMovieImages poster = findFirstImage(images, image -> image.getImageType() == ImageType.POSTER
+                && "en".equals(image.getIso6391()));
+        return poster != null ? poster.getBaseUrl() + poster.getImageUrl() : "";
+    }
+
+    private TmdbMovieImages findFirstImage(List<TmdbMovieImages> images, Predicate<TmdbMovieImages> condition) {
+        return images.stream()
+                .filter(image -> image.getImageUrl() != null && !image.getImageUrl().isEmpty())
+                .filter(condition)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private boolean isLandscape(TmdbMovieImages image) {
+        return image.getRatio() != null && image.getRatio() > 1.0;
+    }
+
+    // 티저 비디오 URL 추출 (영문 Trailer)
+    private String extractTeaserVideo(TmdbMovieDetail tmdbMovieDetail) {
+        return tmdbMovieDetail.getTmdbMovieVideo().stream()
+                .sorted(Comparator.comparing(TmdbMovieVideo::getId))
+                .filter(video -> "en".equals(video.getIso6391())
+                        && "Trailer".equals(video.getVideoType())
+                        && video.getVideoUrl() != null
+                        && !video.getVideoUrl().isEmpty())
+                .findFirst()
+                .map(video -> video.getBaseUrl() + video.getVideoUrl())
+                .orElse("");
+    }
+}
@@ -0,0 +1,91 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.movie.dto.BoxOfficeMovieDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 박스오피스 목록 불변 스냅샷
+ * - 박스오피스 데이터는 KOFIC 배치(매일 1회)에서만 바뀌므로, 배치 완료 시 한 번 조립해 메모리에서 제공
+ * - 응답 본문(JSON)의 해시를 ETag로 함께 보관해서 변경이 없으면 304로 응답할 수 있게 함
+ * - 재구성에 실패하면 기존 스냅샷을 그대로 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoxOfficeSnapshot {
+
+    private final BoxOfficeAssembler boxOfficeAssembler;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 현재 스냅샷 (아직 구성되지 않았으면 이 자리에서 구성)
+     */
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = build();
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 시 백그라운드에서 스냅샷 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        CompletableFuture.runAsync(this::refresh);
+    }
+
+    /**
+     * 박스오피스 데이터를 다시 조립해 스냅샷 교체
+     */
+    public void refresh() {
+        try {
+            Snapshot built = build();
+            synchronized (this) {
+                snapshot = built;
+            }
+        } catch (Exception e) {
+            log.error("박스오피스 스냅샷 구성 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private Snapshot build() {
+        long start = System.currentTimeMillis();
+        List<BoxOfficeMovieDto> movieList = Collections.unmodifiableList(boxOfficeAssembler.assemble());
+        Snapshot built = new Snapshot(movieList, computeEtag(movieList), LocalDateTime.now());
+        log.info("박스오피스 스냅샷 구성 완료 - {}편, ETag {}, {}ms",
+                movieList.size(), built.etag(), System.currentTimeMillis() - start);
+        return built;
+    }
+
+    private String computeEtag(List<BoxOfficeMovieDto> movieList) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(movieList)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("박스오피스 ETag 계산에 실패했습니다.", e);
+        }
+    }
+
+    public record Snapshot(List<BoxOfficeMovieDto> movieList, String etag, LocalDateTime builtAt) {
+    }
+}
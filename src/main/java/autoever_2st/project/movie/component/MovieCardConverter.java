@@ -0,0 +1,98 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.external.enums.Gender;
+import autoever_2st.project.movie.dto.DirectorDto;
+import autoever_2st.project.movie.dto.MovieDto;
+import autoever_2st.project.movie.entity.MovieCard;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * movie_card 행을 목록용 MovieDto로 변환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieCardConverter {
+
+    private static final String BASE_URL = "https://image.tmdb.org/t/p/original/";
+    private static final TypeReference<List<String>> GENRE_LIST_TYPE = new TypeReference<>() {};
+    private static final TypeReference<List<Map<String, Object>>> DIRECTOR_LIST_TYPE = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+
+    public MovieDto toMovieDto(MovieCard card) {
+        return new MovieDto(
+                card.getIsAdult(),
+                card.getReleaseDate(),
+                card.getVoteAverage(),
+                card.getTitle(),
+                card.getMovieId(),
+                parseGenres(card.getGenres()),
+                card.getPosterPath(),
+                card.getPopularity(),
+                parseDirectors(card.getDirectors())
+        );
+    }
+
+    public List<MovieDto> toMovieDtos(List<MovieCard> cards) {
+        return cards.stream()
+                .map(this::toMovieDto)
+                .collect(Collectors.toList());
+    }
+
+    private List<String> parseGenres(String json) {
+        if (json == null || json.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, GENRE_LIST_TYPE);
+        } catch (Exception e) {
+            log.warn("movie_card 장르 파싱 실패: {}", e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private List<DirectorDto> parseDirectors(String json) {
+        if (json == null || json.isBlank()) {
+            return new ArrayList<>();
+        }
+        try {
+            List<Map<String, Object>> rows = objectMapper.readValue(json, DIRECTOR_LIST_TYPE);
+            return rows.stream()
+                    .map(row -> {
+                        String profilePath = (String) row.get("profilePath");
+                        return new DirectorDto(
+                                toGenderKrString(row.get("gender")),
+                                row.get("personId") != null ? ((Number) row.get("personId")).longValue() : null,
+                                (String) row.get("name"),
+                                (String) row.get("originalName"),
+                                profilePath != null ? BASE_URL + profilePath : null
+                        );
+                    })
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.warn("movie_card 감독 파싱 실패: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    // tmdb_member.gender는 ORDINAL로 저장됨
+    private String toGenderKrString(Object gender) {
+        if (!(gender instanceof Number)) {
+            return Gender.UNKNOWN.getGenderKrString();
+        }
+        int ordinal = ((Number) gender).intValue();
+        Gender[] values = Gender.values();
+        return ordinal >= 0 && ordinal < values.length ? values[ordinal].getGenderKrString() : Gender.UNKNOWN.getGenderKrString();
+    }
+}
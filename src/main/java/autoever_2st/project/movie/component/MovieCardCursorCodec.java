@@ -0,0 +1,77 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.exception.exception_class.business.ValidationException;
+import autoever_2st.project.movie.entity.MovieCard;
+import autoever_2st.project.movie.enums.MovieCardSortType;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 목록 커서 인코딩/디코딩
+ * - 커서는 (정렬 키, movieId) 를 "정렬코드:정렬키:movieId" 로 만든 뒤 Base64 URL-safe 로 인코딩한 불투명 토큰
+ * - 최신순은 개봉일(epoch millis), 인기순은 popularity, 평점순은 vote_score 를 정렬 키로 사용
+ */
+@Component
+public class MovieCardCursorCodec {
+
+    private static final String DELIMITER = ":";
+    private static final String INVALID_CURSOR_MESSAGE = "유효하지 않은 커서입니다.";
+
+    public String encode(MovieCardSortType sortType, MovieCard card) {
+        String sortKey = switch (sortType) {
+            case LATEST -> String.valueOf(card.getReleaseDate().getTime());
+            case POPULAR -> String.valueOf(card.getPopularity());
+            case TOP_RATED -> String.valueOf(card.getVoteScore());
+        };
+        String raw = sortType.getCode() + DELIMITER + sortKey + DELIMITER + card.getMovieId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (다른 정렬 기준에서 발급된 커서이거나 형식이 잘못되면 400 ValidationException)
+     * - 정렬 키도 여기서 정렬 기준에 맞는 숫자인지 확인 → 조회 시 sortKeyAsLong/sortKeyAsDouble 이 실패하지 않음
+     */
+    public Cursor decode(MovieCardSortType sortType, String cursor) {
+        String[] parts;
+        Long movieId;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split(DELIMITER);
+            movieId = parts.length == 3 ? Long.parseLong(parts[2]) : null;
+        } catch (IllegalArgumentException e) {
+            // Base64 / 숫자 파싱 오류(NumberFormatException 포함)를 모두 같은 메시지로 변환
+            throw new ValidationException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST);
+        }
+        if (movieId == null || !sortType.getCode().equals(parts[0]) || !isValidSortKey(sortType, parts[1])) {
+            throw new ValidationException(INVALID_CURSOR_MESSAGE, HttpStatus.BAD_REQUEST);
+        }
+        return new Cursor(parts[1], movieId);
+    }
+
+    // 최신순은 epoch millis 정수, 인기순/평점순은 유한한 실수
+    private static boolean isValidSortKey(MovieCardSortType sortType, String sortKey) {
+        try {
+            if (sortType == MovieCardSortType.LATEST) {
+                Long.parseLong(sortKey);
+                return true;
+            }
+            return Double.isFinite(Double.parseDouble(sortKey));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public record Cursor(String sortKey, Long movieId) {
+
+        public long sortKeyAsLong() {
+            return Long.parseLong(sortKey);
+        }
+
+        public double sortKeyAsDouble() {
+            return Double.parseDouble(sortKey);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.external.dto.tmdb.response.movie.ProductionCompanyDto;
+import autoever_2st.project.external.entity.kofic.KoficMovieDetail;
+import autoever_2st.project.external.entity.tmdb.*;
+import autoever_2st.project.external.repository.tmdb.*;
+import autoever_2st.project.movie.dto.ActorDto;
+import autoever_2st.project.movie.dto.DirectorDto;
+import autoever_2st.project.movie.dto.MovieDetailDto;
+import autoever_2st.project.movie.dto.OttDto;
+import autoever_2st.project.movie.entity.Movie;
+import autoever_2st.project.movie.repository.CineverScoreRepository;
+import autoever_2st.project.movie.repository.MovieRepository;
+import autoever_2st.project.movie.repository.MovieWishlistRepository;
+import autoever_2st.project.review.Repository.ReviewRepository;
+import autoever_2st.project.review.Service.KeywordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 영화 상세(MovieDetailDto) 조립기
+ * - 조회자와 무관한 본문은 영화 1건당 고정된 개수의 쿼리로 조립 (감독/배우 수와 무관)
+ * - 조회자별 플래그(isReviewed, isWishlisted)는 본문 위에 별도로 덮어씀
+ */
+@Component
+@RequiredArgsConstructor
+public class MovieDetailAssembler {
+
+    private final MovieRepository movieRepository;
+    private final MovieGenreMatchRepository movieGenreMatchRepository;
+    private final TmdbMovieImageRepository tmdbMovieImageRepository;
+    private final TmdbMovieCrewRepository tmdbMovieCrewRepository;
+    private final TmdbMovieCastRepository tmdbMovieCastRepository;
+    private final TmdbVideoRepository tmdbVideoRepository;
+    private final TmdbMovieDetailOttRepository tmdbMovieDetailOttRepository;
+    private final CompanyMovieRepository companyMovieRepository;
+    private final ReviewRepository reviewRepository;
+    private final MovieWishlistRepository movieWishlistRepository;
+    private final CineverScoreRepository cineverScoreRepository;
+    private final KeywordService keywordService;
+
+    private static final String BASE_URL = "https://image.tmdb.org/t/p/original/";
+
+    /**
+     * 조회자와 무관한 상세 본문 조립 (isReviewed, isWishlisted는 false)
+     */
+    @Transactional(readOnly = true)
+    public MovieDetailDto assembleBody(Long movieId) {
+        // 1. Movie + TmdbMovieDetail (kofic 경유 포함) fetch join
+        Movie movie = movieRepository.findWithDetailsById(movieId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영화입니다. Movie ID: " + movieId));
+        TmdbMovieDetail tmdbMovieDetail = resolveTmdbMovieDetail(movie);
+        Long tmdbMovieDetailId = tmdbMovieDetail.getId();
+
+        // 2. 장르
+        List<String> genreNames = movieGenreMatchRepository.findGenreNamesByTmdbMovieDetailId(tmdbMovieDetailId);
+
+        // 3. 이미지 (백드롭, 포스터, 스틸컷을 한 번에 조회 후 분류)
+        List<TmdbMovieImages> images = tmdbMovieImageRepository.findDetailImagesByTmdbMovieDetailId(tmdbMovieDetailId);
+        String backdropPath = findFirstImageUrl(images, ImageType.BACKDROP, 1.0, 2.0);
+        String posterPath = findFirstImageUrl(images, ImageType.POSTER, 0.0, 1.0);
+        Map<String, String> stillcutPath = images.stream()
+                .filter(image -> image.getIso6391() == null)
+                .collect(Collectors.toMap(
+                        image -> String.valueOf(image.getId()),
+                        image -> image.getBaseUrl() + image.getImageUrl(),
+                        (a, b) -> a,
+                        LinkedHashMap::new
+                ));
+
+        // 4. 감독 (crew + member fetch join, 멤버 기준 중복 제거)
+        Map<Long, TmdbMember> directorMembers = new LinkedHashMap<>();
+        tmdbMovieCrewRepository.findDirectorsWithMemberByTmdbMovieDetailId(tmdbMovieDetailId)
+                .forEach(crew -> directorMembers.putIfAbsent(crew.getTmdbMember().getId(), crew.getTmdbMember()));
+        List<DirectorDto> directors = directorMembers.values().stream()
+                .map(member -> new DirectorDto(
+                        member.getGender().getGenderKrString(),
+                        member.getTmdbId(),
+                        member.getName(),
+                        member.getOriginalName(),
+                        toProfilePath(member.getProfilePath())
+                ))
+                .collect(Collectors.toList());
+
+        // 5. 배우 (cast + member fetch join)
+        List<ActorDto> actors = tmdbMovieCastRepository.findAllWithMemberByTmdbMovieDetailId(tmdbMovieDetailId).stream()
+                .map(cast -> new ActorDto(
+                        cast.getTmdbMember().getName(),
+                        cast.getCastCharacter(),
+                        toProfilePath(cast.getTmdbMember().getProfilePath())
+                ))
+                .collect(Collectors.toList());
+
+        // 6. 비디오 (iso_639_1 = 'en' & video_type = 'Trailer')
+        String videoPath = tmdbVideoRepository.findFirstByTmdbMovieDetail_IdAndIso6391AndVideoTypeOrderByIdAsc(
+                        tmdbMovieDetailId, "en", "Trailer")
+                .map(TmdbMovieVideo::getVideoUrl)
+                .orElse(null);
+
+        // 7. OTT (ott_platform fetch join)
+        List<OttDto> ottList = tmdbMovieDetailOttRepository.findAllWithPlatformByTmdbMovieDetailId(tmdbMovieDetailId).stream()
+                .map(ott -> new OttDto(
+                        ott.getOttPlatform().getTmdbOttId().intValue(),
+                        ott.getOttPlatform().getName(),
+                        null
+                ))
+                .collect(Collectors.toList());
+
+        // 8~10. 리뷰 수, 위시리스트 수, 평균 점수
+        int reviewCount = reviewRepository.countByMovieId(movieId);
+        int wishListCount = movieWishlistRepository.countByMovieId(movieId);
+        double averageScore = cineverScoreRepository.findByMovieId(movieId)
+                .filter(score -> score.getReviewCount() > 0)
+                .map(score -> score.getScore() / (double) score.getReviewCount())
+                .orElse(0.0);
+
+        // 11. 제작사 (product_company fetch join)
+        List<ProductionCompanyDto> productionCompanies = companyMovieRepository.findAllWithCompanyByMovieId(movieId).stream()
+                .map(companyMovie -> new ProductionCompanyDto(
+                        companyMovie.getProductCompany().getId().intValue(),
+                        companyMovie.getProductCompany().getName(),
+                        companyMovie.getProductCompany().getLogoPath(),
+                        companyMovie.getProductCompany().getOriginCountry()
+                ))
+                .collect(Collectors.toList());
+
+        // 12. 키워드 맵
+        Map<String, Integer> keywordMap = keywordService.getMovieKeywordMap(movieId);
+
+        Map<String, String> languages = new HashMap<>();
+        languages.put("original", tmdbMovieDetail.getOriginalLanguage());
+
+        return new MovieDetailDto(
+                tmdbMovieDetail.getIsAdult(),
+                tmdbMovieDetail.getReleaseDate(),
+                averageScore,
+                tmdbMovieDetail.getTitle(),
+                movieId,
+                genreNames,
+                backdropPath,
+                tmdbMovieDetail.getVoteAverage(),
+                "한국",
+                tmdbMovieDetail.getOverview(),
+                reviewCount,
+                wishListCount,
+                ottList,
+                false,
+                false,
+                productionCompanies,
+                directors,
+                actors,
+                videoPath,
+                posterPath,
+                stillcutPath,
+                tmdbMovieDetail.getRuntime(),
+                languages,
+                keywordMap
+        );
+    }
+
+    /**
+     * 상세 본문 위에 조회자별 플래그를 덮어씀 (비로그인 시 본문 그대로 반환)
+     */
+    @Transactional(readOnly = true)
+    public MovieDetailDto overlayViewer(MovieDetailDto body, Long memberId) {
+        if (memberId == null) {
+            return body;
+        }
+        Long movieId = body.getMovieId();
+        boolean isReviewed = reviewRepository.existsByMemberIdAndMovieId(memberId, movieId);
+        boolean isWishlisted = movieWishlistRepository.existsByMemberIdAndMovieId(memberId, movieId);
+        return body.withViewerFlags(isReviewed, isWishlisted);
+    }
+
+    private TmdbMovieDetail resolveTmdbMovieDetail(Movie movie) {
+        TmdbMovieDetail tmdbMovieDetail = movie.getTmdbMovieDetail();
+        if (tmdbMovieDetail != null) {
+            return tmdbMovieDetail;
+        }
+
+        // tmdbMovieDetail이 null이면 koficMovieDetail을 통해 tmdbMovieDetail을 찾음
+        KoficMovieDetail koficMovieDetail = movie.getKoficMovieDetail();
+        if (koficMovieDetail == null) {
+            throw new IllegalArgumentException("영화 정보가 없습니다. Movie ID: " + movie.getId());
+        }
+        if (koficMovieDetail.getTmdbMovieDetail() == null) {
+            throw new IllegalArgumentException("TMDB 영화 정보가 없습니다. Movie ID: " + movie.getId());
+        }
+        return koficMovieDetail.getTmdbMovieDetail();
+    }
+
+    private String findFirstImageUrl(List<TmdbMovieImages> images, ImageType imageType, double minRatio, double maxRatio) {
+        return images.stream()
+                .filter(image -> image.getImageType() == imageType)
+                .filter(image -> "en".equals(image.getIso6391()))
+                .filter(image -> image.getRatio() != null && image.getRatio() >= minRatio && image.getRatio() <= maxRatio)
+                .findFirst()
+                .map(image -> image.getBaseUrl() + image.getImageUrl())
+                .orElse(null);
+    }
+
+    private String toProfilePath(String profilePath) {
+        return profilePath != null ? BASE_URL + profilePath : null;
+    }
+}
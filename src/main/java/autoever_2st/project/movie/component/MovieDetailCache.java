@@ -0,0 +1,210 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.admin.dto.stats.CacheStatsDto;
+import autoever_2st.project.movie.dto.MovieDetailDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 조회자와 무관한 영화 상세 본문(MovieDetailDto) 인메모리 캐시
+ * - 가중치(배우/스틸컷/키워드 수 등) 합계 기준 LRU 제거
+ * - 무효화 시 버전을 올려서, 무효화 이전에 시작된 로딩 결과가 다시 캐시에 들어가지 않도록 함
+ * - 트랜잭션 안에서 무효화하면 커밋 직후에 한 번 더 무효화 (커밋 전 값이 다시 적재되는 것을 방지)
+ */
+@Slf4j
+@Component
+public class MovieDetailCache {
+
+    private static final int MAX_TRACKED_VERSIONS = 10_000;
+
+    private final long maxWeight;
+
+    // accessOrder = true 인 LinkedHashMap으로 LRU 구성 (모든 접근은 this로 동기화)
+    private final LinkedHashMap<Long, CachedEntry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<Long, Long> invalidatedVersions = new HashMap<>();
+    private long versionSequence = 0L;
+    private long allInvalidatedVersion = 0L;
+    private long totalWeight = 0L;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    public MovieDetailCache(@Value("${cache.movie-detail.max-weight:200000}") long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * 캐시에서 상세 본문을 조회하고, 없으면 loader로 조립한 뒤 적재
+     */
+    public MovieDetailDto get(Long movieId, Function<Long, MovieDetailDto> loader) {
+        long startVersion;
+        synchronized (this) {
+            CachedEntry cached = entries.get(movieId);
+            if (cached != null) {
+                hitCount.increment();
+                return cached.body;
+            }
+            startVersion = versionSequence;
+        }
+        missCount.increment();
+
+        long start = System.nanoTime();
+        MovieDetailDto body;
+        try {
+            body = loader.apply(movieId);
+        } catch (RuntimeException e) {
+            loadFailureCount.increment();
+            throw e;
+        } finally {
+            totalLoadNanos.add(System.nanoTime() - start);
+        }
+        loadCount.increment();
+
+        put(movieId, body, startVersion);
+        return body;
+    }
+
+    /**
+     * 특정 영화의 상세 본문 무효화 (리뷰, 위시리스트, 키워드 변경 시)
+     */
+    public void invalidate(Long movieId) {
+        if (movieId == null) {
+            return;
+        }
+        invalidateNow(movieId);
+        runAfterCommit(() -> invalidateNow(movieId));
+    }
+
+    /**
+     * 전체 무효화 (배치로 이미지/비디오/크레딧이 대량 갱신될 때)
+     */
+    public void invalidateAll() {
+        invalidateAllNow();
+        runAfterCommit(this::invalidateAllNow);
+    }
+
+    public synchronized CacheStatsDto getStats() {
+        return new CacheStatsDto(
+                "movieDetail",
+                entries.size(),
+                totalWeight,
+                maxWeight,
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                invalidationCount.sum(),
+                loadCount.sum(),
+                loadFailureCount.sum(),
+                totalLoadNanos.sum()
+        );
+    }
+
+    private synchronized void put(Long movieId, MovieDetailDto body, long startVersion) {
+        // 로딩 도중 무효화가 일어났으면 오래된 값이므로 적재하지 않음
+        if (allInvalidatedVersion > startVersion || invalidatedVersions.getOrDefault(movieId, 0L) > startVersion) {
+            return;
+        }
+
+        long weight = weigh(body);
+        if (weight > maxWeight) {
+            return;
+        }
+
+        CachedEntry previous = entries.put(movieId, new CachedEntry(body, weight));
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+
+        Iterator<Map.Entry<Long, CachedEntry>> iterator = entries.entrySet().iterator();
+        while (totalWeight > maxWeight && iterator.hasNext()) {
+            Map.Entry<Long, CachedEntry> eldest = iterator.next();
+            totalWeight -= eldest.getValue().weight;
+            iterator.remove();
+            evictionCount.increment();
+        }
+    }
+
+    private synchronized void invalidateNow(Long movieId) {
+        versionSequence++;
+        if (invalidatedVersions.size() >= MAX_TRACKED_VERSIONS) {
+            // 추적 맵이 커지면 진행 중인 로딩 전체를 무효로 간주하고 정리
+            invalidatedVersions.clear();
+            allInvalidatedVersion = versionSequence;
+        }
+        invalidatedVersions.put(movieId, versionSequence);
+
+        CachedEntry removed = entries.remove(movieId);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+        invalidationCount.increment();
+    }
+
+    private synchronized void invalidateAllNow() {
+        versionSequence++;
+        allInvalidatedVersion = versionSequence;
+        invalidatedVersions.clear();
+
+        int size = entries.size();
+        entries.clear();
+        totalWeight = 0L;
+        invalidationCount.add(size);
+        log.debug("영화 상세 캐시 전체 무효화 - 제거 {}건", size);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // 대략적인 메모리 크기 추정치 (컬렉션 원소 수 기반)
+    private long weigh(MovieDetailDto body) {
+        long weight = 1;
+        weight += sizeOf(body.getGenre());
+        weight += sizeOf(body.getOttList());
+        weight += sizeOf(body.getProductionCompanies());
+        weight += sizeOf(body.getDirector());
+        weight += sizeOf(body.getActors());
+        weight += body.getStillcutPath() == null ? 0 : body.getStillcutPath().size();
+        weight += body.getKeywordMap() == null ? 0 : body.getKeywordMap().size();
+        return weight;
+    }
+
+    private int sizeOf(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+
+    private static class CachedEntry {
+        private final MovieDetailDto body;
+        private final long weight;
+
+        private CachedEntry(MovieDetailDto body, long weight) {
+            this.body = body;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.external.entity.tmdb.TmdbMember;
+import autoever_2st.project.external.entity.tmdb.TmdbMovieCrew;
+import autoever_2st.project.external.entity.tmdb.TmdbMovieDetail;
+import autoever_2st.project.external.repository.tmdb.MovieGenreMatchRepository;
+import autoever_2st.project.external.repository.tmdb.TmdbMovieCrewRepository;
+import autoever_2st.project.external.repository.tmdb.TmdbMovieImageRepository;
+import autoever_2st.project.movie.dto.DirectorDto;
+import autoever_2st.project.movie.dto.MovieDto;
+import autoever_2st.project.movie.entity.Movie;
+import autoever_2st.project.movie.repository.CineverScoreRepository;
+import autoever_2st.project.movie.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Movie ID 목록 → MovieDto 목록 변환기 (최근 본 / 위시리스트 / 최애 / 비선호 영화)
+ * - 영화 수와 무관하게 고정된 개수의 IN 쿼리로 조립: Movie+상세, 장르 매칭, Cinever 점수, 포스터, 감독(+인물)
+ * - 장르 이름은 인메모리 사전(MovieGenreDictionary) 사용
+ * - 결과는 입력 순서를 유지하고, 존재하지 않는 Movie ID는 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieDtoHydrator {
+
+    private final MovieRepository movieRepository;
+    private final MovieGenreMatchRepository movieGenreMatchRepository;
+    private final CineverScoreRepository cineverScoreRepository;
+    private final TmdbMovieImageRepository tmdbMovieImageRepository;
+    private final TmdbMovieCrewRepository tmdbMovieCrewRepository;
+    private final MovieGenreDictionary movieGenreDictionary;
+
+    private static final String BASE_URL = "https://image.tmdb.org/t/p/original/";
+
+    @Transactional(readOnly = true)
+    public List<MovieDto> hydrate(List<Long> movieIds) {
+        if (movieIds == null || movieIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> distinctMovieIds = new ArrayList<>(new LinkedHashSet<>(movieIds));
+
+        // 1. Movie + TmdbMovieDetail
+        Map<Long, Movie> movieMap = new HashMap<>();
+        for (Movie movie : movieRepository.findAllWithTmdbMovieDetailByIds(distinctMovieIds)) {
+            movieMap.put(movie.getId(), movie);
+        }
+        if (movieMap.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> tmdbMovieDetailIds = movieMap.values().stream()
+                .map(movie -> movie.getTmdbMovieDetail().getId())
+                .distinct()
+                .toList();
+
+        // 2. 장르 (movie_genre_match 순서 유지)
+        Map<Long, List<Long>> genreIdMap = new HashMap<>();
+        for (Object[] row : movieGenreMatchRepository.findGenreIdPairsByTmdbMovieDetailIds(tmdbMovieDetailIds)) {
+            genreIdMap.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        // 3. Cinever 평균 점수
+        Map<Long, Double> averageScoreMap = new HashMap<>();
+        for (Object[] row : cineverScoreRepository.findScoreRowsByMovieIds(distinctMovieIds)) {
+            double score = ((Number) row[1]).doubleValue();
+            int reviewCount = ((Number) row[2]).intValue();
+            averageScoreMap.put((Long) row[0], reviewCount == 0 ? 0.0 : score / reviewCount);
+        }
+
+        // 4. 포스터 (ratio 0~1, en, POSTER 중 영화별 첫 번째)
+        Map<Long, String> posterMap = new HashMap<>();
+        for (Object[] row : tmdbMovieImageRepository.findPostersByMovieDetailIds(tmdbMovieDetailIds)) {
+            posterMap.putIfAbsent(((Number) row[0]).longValue(), (String) row[1] + row[2]);
+        }
+
+        // 5. 감독 (인물 fetch join, 영화별 중복 제거)
+        Map<Long, List<DirectorDto>> directorMap = new HashMap<>();
+        Map<Long, Set<Long>> seenDirectorIds = new HashMap<>();
+        for (TmdbMovieCrew crew : tmdbMovieCrewRepository.findAllByJobAndTmdbMovieDetailIds("Director", tmdbMovieDetailIds)) {
+            Long tmdbMovieDetailId = crew.getTmdbMovieDetail().getId();
+            TmdbMember member = crew.getTmdbMember();
+            if (!seenDirectorIds.computeIfAbsent(tmdbMovieDetailId, k -> new HashSet<>()).add(member.getId())) {
+                continue;
+            }
+            directorMap.computeIfAbsent(tmdbMovieDetailId, k -> new ArrayList<>()).add(new DirectorDto(
+                    member.getGender().getGenderKrString(),
+                    member.getTmdbId(),
+                    member.getName(),
+                    member.getOriginalName(),
+                    member.getProfilePath() == null ? null : BASE_URL + member.getProfilePath()
+            ));
+        }
+
+        // 6. 입력 순서대로 조립
+        List<MovieDto> result = new ArrayList<>(movieIds.size());
+        for (Long movieId : movieIds) {
+            Movie movie = movieMap.get(movieId);
+            if (movie == null) {
+                log.warn("Movie 엔티티를 찾을 수 없습니다. Movie ID: {}", movieId);
+                continue;
+            }
+            TmdbMovieDetail detail = movie.getTmdbMovieDetail();
+            Long tmdbMovieDetailId = detail.getId();
+
+            result.add(new MovieDto(
+                    detail.getIsAdult(),
+                    detail.getReleaseDate(),
+                    averageScoreMap.getOrDefault(movieId, 0.0),
+                    detail.getTitle(),
+                    movieId,
+                    movieGenreDictionary.getNames(genreIdMap.get(tmdbMovieDetailId)),
+                    posterMap.get(tmdbMovieDetailId),
+                    detail.getVoteAverage(),
+                    directorMap.getOrDefault(tmdbMovieDetailId, new ArrayList<>())
+            ));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.external.entity.tmdb.MovieGenre;
+import autoever_2st.project.external.repository.tmdb.MovieGenreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장르(movie_genre.id) -> 장르 이름 인메모리 사전
+ * 장르는 20개 안팎이고 TMDB 배치의 장르 Step에서만 바뀌므로, 최초 사용 시 한 번 로딩한 뒤
+ * 장르 저장 시점(tmdbGenreWriter)에 무효화하여 다음 사용 때 다시 로딩
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieGenreDictionary {
+
+    private final MovieGenreRepository movieGenreRepository;
+
+    private volatile Map<Long, String> genreNames;
+
+    /**
+     * movie_genre.id 목록을 이름 목록으로 변환 (사전에 없는 ID는 제외)
+     */
+    public List<String> getNames(List<Long> movieGenreIds) {
+        if (movieGenreIds == null || movieGenreIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, String> names = load();
+        List<String> result = new ArrayList<>(movieGenreIds.size());
+        for (Long movieGenreId : movieGenreIds) {
+            String name = names.get(movieGenreId);
+            if (name != null) {
+                result.add(name);
+            }
+        }
+        return result;
+    }
+
+    public void invalidate() {
+        genreNames = null;
+    }
+
+    private Map<Long, String> load() {
+        Map<Long, String> names = genreNames;
+        if (names != null) {
+            return names;
+        }
+        synchronized (this) {
+            if (genreNames == null) {
+                Map<Long, String> loaded = new HashMap<>();
+                for (MovieGenre movieGenre : movieGenreRepository.findAll()) {
+                    loaded.put(movieGenre.getId(), movieGenre.getName());
+                }
+                genreNames = Collections.unmodifiableMap(loaded);
+                log.info("장르 사전 로딩 완료 - {}개", loaded.size());
+            }
+            return genreNames;
+        }
+    }
+}
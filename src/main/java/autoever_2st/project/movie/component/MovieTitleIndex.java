@@ -0,0 +1,361 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.batch.dao.MovieTitleIndexDao;
+import autoever_2st.project.batch.dao.MovieTitleIndexDao.TitleRow;
+import autoever_2st.project.common.util.HangulJamo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 영화 제목(title, originalTitle) 인메모리 n-gram 역색인
+ * - 정규화(NFC, 소문자, 공백 제거)한 제목의 글자 1-gram / 2-gram 으로 색인 (한글은 음절 단위)
+ * - 전체 재구성 시 문서 번호를 인기도 내림차순으로 부여하므로, 포스팅 리스트 순서가 곧 정렬 순서
+ * - 배치로 바뀐 영화는 기존 문서를 삭제 표시하고 뒤에 추가(delta)하며, 조회 시 delta만 따로 정렬해 병합
+ * - delta가 일정 크기를 넘으면 백그라운드에서 전체 재구성(compaction)
+ * 인덱스가 준비되기 전에는 search()가 null을 반환하므로 호출 측에서 DB 검색으로 대체
+ */
+@Slf4j
+@Component
+public class MovieTitleIndex {
+
+    private static final int COMPACTION_MIN_DELTA = 10_000;
+
+    private final MovieTitleIndexDao movieTitleIndexDao;
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // lock으로 보호
+    private Snapshot snapshot;
+    // 재구성 중에 들어온 증분 반영분 (재구성 완료 후 새 인덱스에 다시 적용)
+    private List<TitleRow> pendingRows;
+
+    public MovieTitleIndex(MovieTitleIndexDao movieTitleIndexDao,
+                           @Value("${search.title-index.enabled:true}") boolean enabled) {
+        this.movieTitleIndexDao = movieTitleIndexDao;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 제목 검색 (인기도 내림차순)
+     *
+     * @return 페이지에 해당하는 TmdbMovieDetail ID 목록과 전체 건수, 인덱스가 준비되지 않았으면 null
+     */
+    public SearchResult search(String query, long offset, int limit) {
+        String normalized = HangulJamo.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (snapshot == null) {
+                return null;
+            }
+            if (normalized.isEmpty()) {
+                return new SearchResult(new ArrayList<>(), 0L);
+            }
+            return snapshot.search(normalized, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 배치로 저장/갱신된 영화들을 인덱스에 반영 (트랜잭션 안이면 커밋 후 반영)
+     */
+    public void patch(List<Long> tmdbMovieDetailIds) {
+        if (!enabled || tmdbMovieDetailIds == null || tmdbMovieDetailIds.isEmpty()) {
+            return;
+        }
+
+        List<TitleRow> rows = movieTitleIndexDao.findTitleRowsByTmdbMovieDetailIds(tmdbMovieDetailIds);
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(rows);
+                }
+            });
+        } else {
+            apply(rows);
+        }
+    }
+
+    /**
+     * 애플리케이션 기동 시 백그라운드에서 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    public void rebuildAsync() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    private void rebuild() {
+        try {
+            lock.writeLock().lock();
+            try {
+                pendingRows = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            long start = System.currentTimeMillis();
+            List<TitleRow> rows = new ArrayList<>();
+            movieTitleIndexDao.forEachTitleRow(rows::add);
+            Snapshot built = Snapshot.build(rows);
+
+            lock.writeLock().lock();
+            try {
+                pendingRows.forEach(built::upsert);
+                snapshot = built;
+                pendingRows = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("영화 제목 인덱스 구성 완료 - 문서 {}개, gram {}개, {}ms",
+                    built.size, built.postings.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("영화 제목 인덱스 구성 실패: {}", e.getMessage(), e);
+            lock.writeLock().lock();
+            try {
+                pendingRows = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void apply(List<TitleRow> rows) {
+        boolean needsCompaction;
+        lock.writeLock().lock();
+        try {
+            if (pendingRows != null) {
+                pendingRows.addAll(rows);
+            }
+            if (snapshot == null) {
+                return;
+            }
+            rows.forEach(snapshot::upsert);
+            needsCompaction = snapshot.needsCompaction();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (needsCompaction) {
+            log.info("영화 제목 인덱스 delta가 커져 전체 재구성을 시작합니다.");
+            rebuildAsync();
+        }
+    }
+
+    public record SearchResult(List<Long> tmdbMovieDetailIds, long totalCount) {
+    }
+
+    /**
+     * 인덱스 본체 (읽기는 read lock, 변경은 write lock 아래에서만 접근)
+     */
+    private static final class Snapshot {
+
+        // 이 번호 미만의 문서는 인기도 내림차순으로 번호가 매겨져 있음
+        private int baseCount;
+        private int size;
+
+        private long[] tmdbMovieDetailIds = new long[1024];
+        private double[] popularity = new double[1024];
+        private String[] titles = new String[1024];
+        private String[] originalTitles = new String[1024];
+        private final BitSet dead = new BitSet();
+
+        private final Map<Long, Integer> docByTmdbMovieDetailId = new HashMap<>();
+        private final Map<String, IntList> postings = new HashMap<>();
+
+        private static Snapshot build(List<TitleRow> rows) {
+            rows.sort(Comparator.comparingDouble(TitleRow::getPopularity).reversed()
+                    .thenComparing(TitleRow::getTmdbMovieDetailId));
+            Snapshot built = new Snapshot();
+            rows.forEach(built::upsert);
+            built.baseCount = built.size;
+            return built;
+        }
+
+        private void upsert(TitleRow row) {
+            String title = HangulJamo.normalize(row.getTitle());
+            String originalTitle = HangulJamo.normalize(row.getOriginalTitle());
+
+            Integer existing = docByTmdbMovieDetailId.get(row.getTmdbMovieDetailId());
+            if (existing != null && !dead.get(existing)) {
+                if (title.equals(titles[existing])
+                        && originalTitle.equals(originalTitles[existing])
+                        && popularity[existing] == row.getPopularity()) {
+                    return;
+                }
+                // 제목이나 인기도가 바뀌면 기존 문서는 삭제 표시하고 새 번호로 추가 (정렬 순서 유지를 위해)
+                dead.set(existing);
+            }
+
+            int docId = size++;
+            ensureCapacity(size);
+            tmdbMovieDetailIds[docId] = row.getTmdbMovieDetailId();
+            popularity[docId] = row.getPopularity();
+            titles[docId] = title;
+            originalTitles[docId] = originalTitle;
+            docByTmdbMovieDetailId.put(row.getTmdbMovieDetailId(), docId);
+
+            Set<String> grams = new LinkedHashSet<>();
+            collectGrams(title, grams);
+            collectGrams(originalTitle, grams);
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, k -> new IntList()).add(docId);
+            }
+        }
+
+        private SearchResult search(String query, long offset, int limit) {
+            // 가장 짧은 포스팅 리스트를 후보로 사용 (2글자 이하는 포스팅 자체가 정확한 결과)
+            IntList candidates = null;
+            for (String gram : queryGrams(query)) {
+                IntList posting = postings.get(gram);
+                if (posting == null) {
+                    return new SearchResult(new ArrayList<>(), 0L);
+                }
+                if (candidates == null || posting.size < candidates.size) {
+                    candidates = posting;
+                }
+            }
+            boolean exact = query.length() <= 2;
+
+            int[] docs = candidates.elements;
+            int baseEnd = candidates.size;
+            while (baseEnd > 0 && docs[baseEnd - 1] >= baseCount) {
+                baseEnd--;
+            }
+
+            // delta 구간은 인기도 순서가 보장되지 않으므로 따로 정렬
+            List<Integer> deltaMatches = new ArrayList<>();
+            for (int i = baseEnd; i < candidates.size; i++) {
+                if (matches(docs[i], query, exact)) {
+                    deltaMatches.add(docs[i]);
+                }
+            }
+            deltaMatches.sort((a, b) -> Double.compare(popularity[b], popularity[a]));
+
+            PageCollector collector = new PageCollector(offset, limit);
+            int deltaIndex = 0;
+            for (int i = 0; i < baseEnd; i++) {
+                int docId = docs[i];
+                if (!matches(docId, query, exact)) {
+                    continue;
+                }
+                while (deltaIndex < deltaMatches.size() && popularity[deltaMatches.get(deltaIndex)] > popularity[docId]) {
+                    collector.accept(tmdbMovieDetailIds[deltaMatches.get(deltaIndex++)]);
+                }
+                collector.accept(tmdbMovieDetailIds[docId]);
+            }
+            while (deltaIndex < deltaMatches.size()) {
+                collector.accept(tmdbMovieDetailIds[deltaMatches.get(deltaIndex++)]);
+            }
+
+            return new SearchResult(collector.ids, collector.total);
+        }
+
+        private boolean matches(int docId, String query, boolean exact) {
+            if (dead.get(docId)) {
+                return false;
+            }
+            return exact || titles[docId].contains(query) || originalTitles[docId].contains(query);
+        }
+
+        private boolean needsCompaction() {
+            return size - baseCount > Math.max(COMPACTION_MIN_DELTA, baseCount / 10);
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= tmdbMovieDetailIds.length) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, tmdbMovieDetailIds.length * 2);
+            tmdbMovieDetailIds = Arrays.copyOf(tmdbMovieDetailIds, newCapacity);
+            popularity = Arrays.copyOf(popularity, newCapacity);
+            titles = Arrays.copyOf(titles, newCapacity);
+            originalTitles = Arrays.copyOf(originalTitles, newCapacity);
+        }
+
+        private static void collectGrams(String text, Set<String> grams) {
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(text.substring(i, i + 1));
+                if (i + 1 < text.length()) {
+                    grams.add(text.substring(i, i + 2));
+                }
+            }
+        }
+
+        private static List<String> queryGrams(String query) {
+            if (query.length() == 1) {
+                return List.of(query);
+            }
+            List<String> grams = new ArrayList<>(query.length() - 1);
+            for (int i = 0; i + 1 < query.length(); i++) {
+                grams.add(query.substring(i, i + 2));
+            }
+            return grams;
+        }
+    }
+
+    private static final class PageCollector {
+        private final long offset;
+        private final int limit;
+        private final List<Long> ids = new ArrayList<>();
+        private long total = 0L;
+
+        private PageCollector(long offset, int limit) {
+            this.offset = offset;
+            this.limit = limit;
+        }
+
+        private void accept(long tmdbMovieDetailId) {
+            if (total >= offset && ids.size() < limit) {
+                ids.add(tmdbMovieDetailId);
+            }
+            total++;
+        }
+    }
+
+    private static final class IntList {
+        private int[] elements = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = value;
+        }
+    }
+}
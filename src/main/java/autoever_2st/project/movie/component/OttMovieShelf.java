@@ -0,0 +1,193 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.batch.dao.OttPlatformDao;
+import autoever_2st.project.batch.dao.OttPlatformDao.OttPlatformInfo;
+import autoever_2st.project.external.repository.tmdb.TmdbMovieDetailRepository;
+import autoever_2st.project.movie.dto.*;
+import autoever_2st.project.movie.dto.response.OttMovieListResponseDto;
+import autoever_2st.project.movie.enums.OttShelfType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * OTT별 "최근 개봉작" / "개봉 예정작" 선반
+ * - OTT 플랫폼마다 두 목록을 미리 조립하고 JSON으로 직렬화해 두어, 요청 시에는 맵 조회만 수행
+ * - 시청 제공자(fetchMovieWatchProvidersStep) 적재 후, 날짜 구간이 바뀌는 자정, 기동 시 재구성
+ * - 선반에 없는 OTT(기동 직후, 중복 tmdb_ott_id 등)는 요청 시 직접 조립
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OttMovieShelf {
+
+    private static final int RECENTLY_RELEASED_SIZE = 32;
+    private static final int UPCOMING_SIZE = 50;
+
+    // TMDB OTT ID별 응답 DTO 하위 타입 (응답의 OTT별 목록 필드가 타입으로 구분됨)
+    private static final long NETFLIX = 8L;
+    private static final long DISNEY_PLUS = 337L;
+    private static final long WATCHA = 97L;
+    private static final long WAVVE = 356L;
+    private static final long COUPANG_PLAY = 1881L;
+    private static final long TVING = 1883L;
+
+    private final OttPlatformDao ottPlatformDao;
+    private final TmdbMovieDetailRepository tmdbMovieDetailRepository;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile Map<Long, Map<OttShelfType, RawValue>> shelves = Collections.emptyMap();
+
+    /**
+     * 직렬화된 선반 조회 (선반에 없으면 직접 조립 후 직렬화)
+     */
+    public RawValue get(Long ottId, OttShelfType type) {
+        Map<OttShelfType, RawValue> shelf = shelves.get(ottId);
+        if (shelf != null) {
+            return shelf.get(type);
+        }
+        return serialize(assemble(ottId, type));
+    }
+
+    /**
+     * DB에서 바로 조립 (직렬화하지 않은 DTO)
+     */
+    public OttMovieListResponseDto assemble(Long ottId, OttShelfType type) {
+        Optional<OttPlatformInfo> ottPlatformOpt = ottPlatformDao.findOttPlatformById(ottId);
+        if (ottPlatformOpt.isEmpty()) {
+            log.warn("OTT 플랫폼을 찾을 수 없습니다. ID: {}", ottId);
+            return toResponse(Collections.emptyList(), null, Collections.emptyList());
+        }
+        return assemble(ottPlatformOpt.get(), type, new Date());
+    }
+
+    /**
+     * 애플리케이션 기동 시 백그라운드에서 선반 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    /**
+     * 자정에 날짜 구간(최근 1년 / 오늘 이후)이 바뀌므로 재구성
+     */
+    @Scheduled(cron = "0 0 0 * * ?")
+    public void rebuildAtMidnight() {
+        rebuildAsync();
+    }
+
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    private void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            Date today = new Date();
+            Map<Long, Map<OttShelfType, RawValue>> built = new HashMap<>();
+            for (OttPlatformInfo ottPlatform : ottPlatformDao.findAllOttPlatforms()) {
+                Map<OttShelfType, RawValue> shelf = new EnumMap<>(OttShelfType.class);
+                for (OttShelfType type : OttShelfType.values()) {
+                    shelf.put(type, serialize(assemble(ottPlatform, type, today)));
+                }
+                built.put(ottPlatform.getId(), shelf);
+            }
+            shelves = built;
+            log.info("OTT 선반 구성 완료 - OTT {}개, {}ms", built.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("OTT 선반 구성 실패: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private OttMovieListResponseDto assemble(OttPlatformInfo ottPlatform, OttShelfType type, Date today) {
+        List<OttResponseDto> ottList = Collections.singletonList(new OttResponseDto(
+                ottPlatform.getId(),
+                ottPlatform.getName(),
+                ottPlatform.getName().replaceAll("\\s+", "") + "_logo.png"));
+
+        List<MovieDto> movieDtos;
+        if (type == OttShelfType.RECENTLY_RELEASED) {
+            // 최근 1년 개봉작 (쿼리에서 인기도 내림차순)
+            Calendar calendar = Calendar.getInstance();
+            calendar.setTime(today);
+            calendar.add(Calendar.YEAR, -1);
+            movieDtos = tmdbMovieDetailRepository.findRecentlyReleasedMoviesByOttPlatformOptimized(
+                    ottPlatform.getId(), calendar.getTime(), today, PageRequest.of(0, RECENTLY_RELEASED_SIZE));
+        } else {
+            // 개봉 예정작은 평점 순으로 정렬
+            movieDtos = new ArrayList<>(tmdbMovieDetailRepository.findUpcomingMoviesByOttPlatformOptimized(
+                    ottPlatform.getId(), today, PageRequest.of(0, UPCOMING_SIZE)));
+            movieDtos.sort(Comparator.comparing(MovieDto::getTmdbScore, Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+
+        return toResponse(ottList, ottPlatform.getTmdbOttId(), movieDtos);
+    }
+
+    /**
+     * TMDB OTT ID에 해당하는 필드에만 목록을 채운 응답 생성
+     */
+    private OttMovieListResponseDto toResponse(List<OttResponseDto> ottList, Long tmdbOttId, List<MovieDto> movieDtos) {
+        long ott = tmdbOttId != null ? tmdbOttId : -1L;
+        return new OttMovieListResponseDto(ottList,
+                ott == NETFLIX ? convert(movieDtos, NetflixMovieListResponseDto::new) : Collections.emptyList(),
+                ott == WATCHA ? convert(movieDtos, WatchaMovieListResponseDto::new) : Collections.emptyList(),
+                ott == DISNEY_PLUS ? convert(movieDtos, DisneyPlusMovieListResponseDto::new) : Collections.emptyList(),
+                ott == WAVVE ? convert(movieDtos, WaveMovieListResponseDto::new) : Collections.emptyList(),
+                ott == TVING ? convert(movieDtos, TvingMovieListResponseDto::new) : Collections.emptyList(),
+                ott == COUPANG_PLAY ? convert(movieDtos, CoupangPlayMovieListResponseDto::new) : Collections.emptyList());
+    }
+
+    private <T extends MovieDto> List<T> convert(List<MovieDto> movieDtos, Supplier<T> factory) {
+        List<T> result = new ArrayList<>(movieDtos.size());
+        for (MovieDto source : movieDtos) {
+            T target = factory.get();
+            target.setIsAdult(source.getIsAdult());
+            target.setReleaseDate(source.getReleaseDate());
+            target.setTmdbScore(source.getTmdbScore());
+            target.setTitle(source.getTitle());
+            target.setMovieId(source.getMovieId());
+            target.setGenre(source.getGenre());
+            target.setPosterPath(source.getPosterPath());
+            target.setPopularity(source.getPopularity());
+            target.setDirector(source.getDirector());
+            result.add(target);
+        }
+        return result;
+    }
+
+    private RawValue serialize(OttMovieListResponseDto response) {
+        try {
+            return new RawValue(objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OTT 선반 직렬화에 실패했습니다.", e);
+        }
+    }
+}
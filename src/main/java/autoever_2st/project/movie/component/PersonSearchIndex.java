@@ -0,0 +1,251 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.batch.dao.PersonSearchDao;
+import autoever_2st.project.batch.dao.PersonSearchDao.PersonRow;
+import autoever_2st.project.common.util.HangulJamo;
+import autoever_2st.project.external.enums.Gender;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 감독/배우 이름(name, originalName) 인메모리 부분 일치 검색 인덱스
+ * - 역할(감독/배우)별로 해당 역할 작품의 인기도 합계 내림차순으로 순번을 매기고, 그 순번으로 1-gram / 2-gram 포스팅을 구성
+ *   → 포스팅 순서가 곧 정렬 순서이므로 페이지를 잘라낼 때 정렬이 필요 없음
+ * - 2글자 이하 검색어는 포스팅이 정확한 결과, 3글자 이상은 가장 짧은 포스팅을 contains로 확인
+ * - 기동 시와 배치 Job 완료 시 전체 재구성 후 통째로 교체, 준비 전에는 search()가 null을 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PersonSearchIndex {
+
+    private final PersonSearchDao personSearchDao;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile Snapshot snapshot;
+
+    public enum Role {
+        DIRECTOR,
+        ACTOR
+    }
+
+    /**
+     * 역할별 이름 검색 (해당 역할 작품 인기도 내림차순)
+     *
+     * @return 페이지 결과와 전체 건수, 인덱스가 준비되지 않았으면 null
+     */
+    public SearchResult search(Role role, String query, long offset, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        String normalized = HangulJamo.normalize(query);
+        if (normalized.isEmpty()) {
+            return new SearchResult(new ArrayList<>(), 0L);
+        }
+        return current.search(role == Role.DIRECTOR ? current.directors : current.actors, normalized, offset, limit);
+    }
+
+    /**
+     * 애플리케이션 기동 시 백그라운드에서 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuildAsync();
+    }
+
+    public void rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    private void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            List<PersonRow> rows = new ArrayList<>();
+            personSearchDao.forEachPersonRow(rows::add);
+            Snapshot built = Snapshot.build(rows);
+            snapshot = built;
+            log.info("인물 검색 인덱스 구성 완료 - 인물 {}명 (감독 {}, 배우 {}), {}ms",
+                    rows.size(), built.directors.order.length, built.actors.order.length,
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("인물 검색 인덱스 구성 실패: {}", e.getMessage(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public record Person(Long tmdbId, String name, String originalName, Gender gender, String profilePath) {
+    }
+
+    public record SearchResult(List<Person> people, long totalCount) {
+    }
+
+    /**
+     * 불변 인덱스 (재구성 시 새로 만들어 교체)
+     */
+    private static final class Snapshot {
+        private final Person[] people;
+        private final String[] normalizedNames;
+        private final String[] normalizedOriginalNames;
+        private final RoleIndex directors;
+        private final RoleIndex actors;
+
+        private Snapshot(Person[] people, String[] normalizedNames, String[] normalizedOriginalNames,
+                         RoleIndex directors, RoleIndex actors) {
+            this.people = people;
+            this.normalizedNames = normalizedNames;
+            this.normalizedOriginalNames = normalizedOriginalNames;
+            this.directors = directors;
+            this.actors = actors;
+        }
+
+        private static Snapshot build(List<PersonRow> rows) {
+            Gender[] genders = Gender.values();
+            Person[] people = new Person[rows.size()];
+            String[] normalizedNames = new String[rows.size()];
+            String[] normalizedOriginalNames = new String[rows.size()];
+            for (int i = 0; i < rows.size(); i++) {
+                PersonRow row = rows.get(i);
+                Gender gender = row.getGender() >= 0 && row.getGender() < genders.length ? genders[row.getGender()] : Gender.UNKNOWN;
+                people[i] = new Person(row.getTmdbId(), row.getName(), row.getOriginalName(), gender, row.getProfilePath());
+                normalizedNames[i] = HangulJamo.normalize(row.getName());
+                normalizedOriginalNames[i] = HangulJamo.normalize(row.getOriginalName());
+            }
+
+            RoleIndex directors = RoleIndex.build(rows, normalizedNames, normalizedOriginalNames,
+                    PersonRow::getDirectingCount, PersonRow::getDirectingPopularity);
+            RoleIndex actors = RoleIndex.build(rows, normalizedNames, normalizedOriginalNames,
+                    PersonRow::getCastCount, PersonRow::getCastPopularity);
+            return new Snapshot(people, normalizedNames, normalizedOriginalNames, directors, actors);
+        }
+
+        private SearchResult search(RoleIndex roleIndex, String query, long offset, int limit) {
+            int[] candidates = null;
+            for (String gram : queryGrams(query)) {
+                int[] posting = roleIndex.postings.get(gram);
+                if (posting == null) {
+                    return new SearchResult(new ArrayList<>(), 0L);
+                }
+                if (candidates == null || posting.length < candidates.length) {
+                    candidates = posting;
+                }
+            }
+            boolean exact = query.length() <= 2;
+
+            List<Person> page = new ArrayList<>();
+            long total = 0L;
+            for (int rank : candidates) {
+                int person = roleIndex.order[rank];
+                if (!exact && !normalizedNames[person].contains(query) && !normalizedOriginalNames[person].contains(query)) {
+                    continue;
+                }
+                if (total >= offset && page.size() < limit) {
+                    page.add(people[person]);
+                }
+                total++;
+            }
+            return new SearchResult(page, total);
+        }
+
+        private static List<String> queryGrams(String query) {
+            if (query.length() == 1) {
+                return List.of(query);
+            }
+            List<String> grams = new ArrayList<>(query.length() - 1);
+            for (int i = 0; i + 1 < query.length(); i++) {
+                grams.add(query.substring(i, i + 2));
+            }
+            return grams;
+        }
+    }
+
+    /**
+     * 역할별 순위(order)와 순위 번호 기준 포스팅
+     */
+    private static final class RoleIndex {
+        // 순위 -> 인물 번호
+        private final int[] order;
+        private final Map<String, int[]> postings;
+
+        private RoleIndex(int[] order, Map<String, int[]> postings) {
+            this.order = order;
+            this.postings = postings;
+        }
+
+        private static RoleIndex build(List<PersonRow> rows, String[] normalizedNames, String[] normalizedOriginalNames,
+                                       ToIntFunction<PersonRow> count, ToDoubleFunction<PersonRow> popularity) {
+            List<Integer> members = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                if (count.applyAsInt(rows.get(i)) > 0) {
+                    members.add(i);
+                }
+            }
+            members.sort(Comparator.<Integer>comparingDouble(i -> popularity.applyAsDouble(rows.get(i))).reversed()
+                    .thenComparing(i -> count.applyAsInt(rows.get(i)), Comparator.reverseOrder())
+                    .thenComparing(i -> rows.get(i).getTmdbId()));
+
+            int[] order = new int[members.size()];
+            Map<String, IntList> building = new HashMap<>();
+            for (int rank = 0; rank < members.size(); rank++) {
+                int person = members.get(rank);
+                order[rank] = person;
+
+                Set<String> grams = new LinkedHashSet<>();
+                collectGrams(normalizedNames[person], grams);
+                collectGrams(normalizedOriginalNames[person], grams);
+                for (String gram : grams) {
+                    building.computeIfAbsent(gram, k -> new IntList()).add(rank);
+                }
+            }
+
+            Map<String, int[]> postings = new HashMap<>(building.size() * 2);
+            building.forEach((gram, list) -> postings.put(gram, list.toArray()));
+            return new RoleIndex(order, postings);
+        }
+
+        private static void collectGrams(String text, Set<String> grams) {
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(text.substring(i, i + 1));
+                if (i + 1 < text.length()) {
+                    grams.add(text.substring(i, i + 2));
+                }
+            }
+        }
+    }
+
+    private static final class IntList {
+        private int[] elements = new int[4];
+        private int size;
+
+        private void add(int value) {
+            if (size == elements.length) {
+                elements = Arrays.copyOf(elements, size * 2);
+            }
+            elements[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(elements, size);
+        }
+    }
+}
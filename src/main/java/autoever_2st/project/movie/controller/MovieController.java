@@ -1,6 +1,7 @@
 package autoever_2st.project.movie.controller;
 
 import autoever_2st.project.common.dto.ApiResponse;
+import autoever_2st.project.movie.component.BoxOfficeSnapshot;
 import autoever_2st.project.external.dto.tmdb.response.movie.GenreDto;
 import autoever_2st.project.movie.dto.*;
 import autoever_2st.project.movie.dto.response.BoxOfficeResponseDto;
@@ -11,12 +12,19 @@ import autoever_2st.project.review.Service.KeywordService;
 import autoever_2st.project.user.Service.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 import autoever_2st.project.movie.dto.response.*;
+import autoever_2st.project.movie.enums.AutocompleteType;
+import autoever_2st.project.movie.enums.MovieCardSortType;
+import autoever_2st.project.movie.enums.OttShelfType;
 import autoever_2st.project.movie.enums.SearchType;
 import autoever_2st.project.reviewer.dto.ReviewerDto;
+import com.fasterxml.jackson.databind.util.RawValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -77,6 +85,15 @@ public class MovieController {
         }
     }
 
+    // 영화 제목/인물/리뷰어 자동완성 (초성, 입력 중인 음절 지원) - type 없으면 전체
+    @GetMapping("/autocomplete")
+    public ApiResponse<AutocompleteResponseDto> autocomplete(
+            @RequestParam String query,
+            @RequestParam(required = false) AutocompleteType type,
+            @RequestParam(defaultValue = "10") int size) {
+        return ApiResponse.success(movieService.autocomplete(query, type, size), HttpStatus.OK.value());
+    }
+
     // 명대사 랜덤 받기
     @GetMapping("/famous")
     public ApiResponse<FamousQuoteDto> getFamousQuote() {
@@ -97,20 +114,20 @@ public class MovieController {
         return ApiResponse.success(new MovieListResponseDto(Page.empty()), HttpStatus.OK.value());
     }
 
-    // 개봉예정작 받기
+    // 개봉예정작 받기 (미리 직렬화된 OttMovieListResponseDto)
     @GetMapping("/ott/{ottId}/expect/release")
-    public ApiResponse<OttMovieListResponseDto> getExpectedReleaseMoviesByOtt(@PathVariable Long ottId) {
-        OttMovieListResponseDto ottMovieListResponseDto = movieService.getExpectedOttMovieList(ottId);
+    public ApiResponse<RawValue> getExpectedReleaseMoviesByOtt(@PathVariable Long ottId) {
+        RawValue ottMovieList = movieService.getOttMovieShelf(ottId, OttShelfType.UPCOMING);
 
-        return ApiResponse.success(ottMovieListResponseDto, HttpStatus.OK.value());
+        return ApiResponse.success(ottMovieList, HttpStatus.OK.value());
     }
 
-    // 최근 개봉작 받기
+    // 최근 개봉작 받기 (미리 직렬화된 OttMovieListResponseDto)
     @GetMapping("/ott/{ottId}/recently/release")
-    public ApiResponse<OttMovieListResponseDto> getRecentlyReleaseMoviesByOtt(@PathVariable Long ottId) {
-        OttMovieListResponseDto ottMovieListResponseDto = movieService.getRecentlyOttMovieList(ottId);
+    public ApiResponse<RawValue> getRecentlyReleaseMoviesByOtt(@PathVariable Long ottId) {
+        RawValue ottMovieList = movieService.getOttMovieShelf(ottId, OttShelfType.RECENTLY_RELEASED);
 
-        return ApiResponse.success(ottMovieListResponseDto, HttpStatus.OK.value());
+        return ApiResponse.success(ottMovieList, HttpStatus.OK.value());
     }
 
 //    // 모든 OTT 플랫폼의 개봉예정작 및 최근 개봉작 받기
@@ -134,13 +151,23 @@ public class MovieController {
 //        return ApiResponse.success(ottMovieListResponseDto, HttpStatus.OK.value());
 //    }
 
-    // 박스오피스 순위 조회
+    // 박스오피스 순위 조회 (배치 완료 시 만든 스냅샷을 제공, If-None-Match가 같으면 304)
     @GetMapping("/boxoffice")
-    public ApiResponse<BoxOfficeResponseDto> getBoxOfficeMovies() {
-        List<BoxOfficeMovieDto> movieList = movieService.getBoxOfficeMovieList();
+    public ResponseEntity<ApiResponse<BoxOfficeResponseDto>> getBoxOfficeMovies(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        BoxOfficeSnapshot.Snapshot snapshot = movieService.getBoxOfficeSnapshot();
+        if (snapshot.etag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
 
-        BoxOfficeResponseDto responseDto = new BoxOfficeResponseDto(movieList);
-        return ApiResponse.success(responseDto, HttpStatus.OK.value());
+        BoxOfficeResponseDto responseDto = new BoxOfficeResponseDto(snapshot.movieList());
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(responseDto, HttpStatus.OK.value()));
     }
 
     // 최신 영화 조회
@@ -170,6 +197,30 @@ public class MovieController {
         return ApiResponse.success(movieService.getTopRatedMovies(pageable), HttpStatus.OK.value());
     }
 
+    // 최신 영화 커서 조회 (무한 스크롤용, 전체 개수 미포함) - cursor 없으면 첫 페이지
+    @GetMapping("/latest/scroll")
+    public ApiResponse<MovieScrollResponseDto> scrollLatestMovies(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(movieService.scrollMovies(MovieCardSortType.LATEST, cursor, size), HttpStatus.OK.value());
+    }
+
+    // 실시간 인기 영화 커서 조회
+    @GetMapping("/popular/scroll")
+    public ApiResponse<MovieScrollResponseDto> scrollPopularMovies(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(movieService.scrollMovies(MovieCardSortType.POPULAR, cursor, size), HttpStatus.OK.value());
+    }
+
+    // 역대 최고 평점 커서 조회
+    @GetMapping("/top-rated/scroll")
+    public ApiResponse<MovieScrollResponseDto> scrollTopRatedMovies(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(movieService.scrollMovies(MovieCardSortType.TOP_RATED, cursor, size), HttpStatus.OK.value());
+    }
+
     /**
      * 영화 상세 정보 조회 API
      * @param movieId 영화 ID
@@ -0,0 +1,19 @@
+package autoever_2st.project.movie.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class AutocompleteDto {
+    // MOVIE: movieId, PERSON: personId(tmdb_id), REVIEWER: memberId
+    private Long id;
+    private String name;
+
+    public AutocompleteDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
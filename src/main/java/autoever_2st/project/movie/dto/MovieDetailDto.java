@@ -67,4 +67,11 @@ public class MovieDetailDto {
         this.languages = languages;
         this.keywordMap = keywordMap;
     }
+
+    // 공통 본문은 그대로 두고 조회자별 플래그(isReviewed, isWishlisted)만 덮어쓴 사본 반환
+    public MovieDetailDto withViewerFlags(Boolean isReviewed, Boolean isWishlisted) {
+        return new MovieDetailDto(isAdult, releaseDate, averageScore, title, movieId, genre, backdropPath, tmdbScore,
+                country, description, reviewCount, wishListCount, ottList, isReviewed, isWishlisted,
+                productionCompanies, director, actors, video_path, posterPath, stillcutPath, runtime, languages, keywordMap);
+    }
 }
\ No newline at end of file
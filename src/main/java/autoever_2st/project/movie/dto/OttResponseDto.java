@@ -16,4 +16,10 @@ public class OttResponseDto {
 
     @JsonProperty("logoPath")
     private String logoPath;
+
+    public OttResponseDto(Long id, String ottName, String logoPath) {
+        this.id = id;
+        this.ottName = ottName;
+        this.logoPath = logoPath;
+    }
 }
@@ -0,0 +1,21 @@
+package autoever_2st.project.movie.dto.response;
+
+import autoever_2st.project.movie.dto.AutocompleteDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+public class AutocompleteResponseDto {
+    private List<AutocompleteDto> movieList;
+    private List<AutocompleteDto> personList;
+    private List<AutocompleteDto> reviewerList;
+
+    public AutocompleteResponseDto(List<AutocompleteDto> movieList, List<AutocompleteDto> personList, List<AutocompleteDto> reviewerList) {
+        this.movieList = movieList;
+        this.personList = personList;
+        this.reviewerList = reviewerList;
+    }
+}
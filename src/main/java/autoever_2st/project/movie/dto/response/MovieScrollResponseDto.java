@@ -0,0 +1,26 @@
+package autoever_2st.project.movie.dto.response;
+
+import autoever_2st.project.movie.dto.MovieDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 영화 목록 응답 (전체 개수는 계산하지 않음)
+ * nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어서 조회됨
+ */
+@Getter
+@NoArgsConstructor
+public class MovieScrollResponseDto {
+
+    private List<MovieDto> movieList;
+    private String nextCursor;
+    private Boolean hasNext;
+
+    public MovieScrollResponseDto(List<MovieDto> movieList, String nextCursor, Boolean hasNext) {
+        this.movieList = movieList;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
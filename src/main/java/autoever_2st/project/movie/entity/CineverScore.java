@@ -19,7 +19,7 @@ public class CineverScore {
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY) // 1:1 관계로 가정
-    @JoinColumn(name = "movie_id", referencedColumnName = "id", nullable = false)
+    @JoinColumn(name = "movie_id", referencedColumnName = "id", nullable = false, unique = true)
     private Movie movie;
 
     private double score;
@@ -0,0 +1,71 @@
+package autoever_2st.project.movie.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+
+/**
+ * 영화 목록(카드) 조회용 비정규화 테이블
+ * TMDB 배치(크레딧 Step 이후)에서 MovieCardDao로만 갱신되며, 애플리케이션에서는 읽기 전용으로 사용
+ */
+@Entity
+@Table(name = "movie_card",
+       uniqueConstraints = @UniqueConstraint(columnNames = "tmdb_movie_detail_id"),
+       indexes = {
+               @Index(name = "idx_movie_card_release_date", columnList = "release_date, movie_id"),
+               @Index(name = "idx_movie_card_popularity", columnList = "popularity, movie_id"),
+               @Index(name = "idx_movie_card_vote_score", columnList = "vote_score, movie_id")
+       })
+@Getter
+@NoArgsConstructor
+public class MovieCard {
+
+    @Id
+    @Column(name = "movie_id")
+    private Long movieId;
+
+    @Column(name = "tmdb_movie_detail_id", nullable = false)
+    private Long tmdbMovieDetailId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "original_title")
+    private String originalTitle;
+
+    @Column(name = "is_adult")
+    private Boolean isAdult;
+
+    @Column(name = "release_date")
+    private Date releaseDate;
+
+    @Column(name = "vote_average")
+    private Double voteAverage;
+
+    @Column(name = "vote_count")
+    private Long voteCount;
+
+    // vote_average * vote_count (평점순 정렬 키)
+    @Column(name = "vote_score")
+    private Double voteScore;
+
+    @Column(name = "popularity")
+    private Double popularity;
+
+    @Column(name = "poster_path", length = 512)
+    private String posterPath;
+
+    // 장르 이름 JSON 배열
+    @Column(name = "genres", columnDefinition = "TEXT")
+    private String genres;
+
+    // 감독 정보 JSON 배열 (gender, personId, name, originalName, profilePath)
+    @Column(name = "directors", columnDefinition = "TEXT")
+    private String directors;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,10 @@
+package autoever_2st.project.movie.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum AutocompleteType {
+    MOVIE,
+    PERSON,
+    REVIEWER;
+}
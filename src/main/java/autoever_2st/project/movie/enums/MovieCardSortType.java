@@ -0,0 +1,19 @@
+package autoever_2st.project.movie.enums;
+
+import lombok.Getter;
+
+/**
+ * movie_card 목록 정렬 기준 (커서 페이지네이션의 정렬 키 구분에 사용)
+ */
+@Getter
+public enum MovieCardSortType {
+    LATEST("L"),
+    POPULAR("P"),
+    TOP_RATED("T");
+
+    private final String code;
+
+    MovieCardSortType(String code) {
+        this.code = code;
+    }
+}
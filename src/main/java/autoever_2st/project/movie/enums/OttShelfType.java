@@ -0,0 +1,9 @@
+package autoever_2st.project.movie.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum OttShelfType {
+    RECENTLY_RELEASED,
+    UPCOMING;
+}
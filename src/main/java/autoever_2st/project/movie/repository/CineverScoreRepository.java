@@ -3,9 +3,18 @@ package autoever_2st.project.movie.repository;
 import autoever_2st.project.movie.entity.CineverScore;
 import autoever_2st.project.movie.entity.Movie;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CineverScoreRepository extends JpaRepository<CineverScore, Long> {
     Optional<CineverScore> findByMovie(Movie movie);
+
+    Optional<CineverScore> findByMovieId(Long movieId);
+
+    // 목록 변환용: [movieId, score, reviewCount]
+    @Query("SELECT cs.movie.id, cs.score, cs.reviewCount FROM CineverScore cs WHERE cs.movie.id IN :movieIds")
+    List<Object[]> findScoreRowsByMovieIds(@Param("movieIds") List<Long> movieIds);
 }
@@ -0,0 +1,80 @@
+package autoever_2st.project.movie.repository;
+
+import autoever_2st.project.movie.entity.MovieCard;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Date;
+import java.util.List;
+
+public interface MovieCardRepository extends JpaRepository<MovieCard, Long> {
+
+    @Query(value = "SELECT c FROM MovieCard c WHERE c.releaseDate IS NOT NULL ORDER BY c.releaseDate DESC, c.movieId DESC",
+           countQuery = "SELECT COUNT(c) FROM MovieCard c WHERE c.releaseDate IS NOT NULL")
+    Page<MovieCard> findLatest(Pageable pageable);
+
+    @Query(value = "SELECT c FROM MovieCard c WHERE c.popularity IS NOT NULL ORDER BY c.popularity DESC, c.movieId DESC",
+           countQuery = "SELECT COUNT(c) FROM MovieCard c WHERE c.popularity IS NOT NULL")
+    Page<MovieCard> findPopular(Pageable pageable);
+
+    @Query(value = "SELECT c FROM MovieCard c WHERE c.voteScore IS NOT NULL ORDER BY c.voteScore DESC, c.movieId DESC",
+           countQuery = "SELECT COUNT(c) FROM MovieCard c WHERE c.voteScore IS NOT NULL")
+    Page<MovieCard> findTopRated(Pageable pageable);
+
+    @Query("""
+        SELECT c FROM MovieCard c
+        WHERE c.popularity IS NOT NULL
+          AND c.tmdbMovieDetailId IN (
+              SELECT gm.tmdbMovieDetail.id FROM MovieGenreMatch gm WHERE gm.movieGenre.id = :genreId
+          )
+        ORDER BY c.popularity DESC, c.movieId DESC
+    """)
+    List<MovieCard> findPopularByGenreId(@Param("genreId") Long genreId, Pageable pageable);
+
+    List<MovieCard> findAllByMovieIdIn(List<Long> movieIds);
+
+    // 커서(keyset) 조회 - count 쿼리 없이 (정렬 키, movieId) 인덱스를 이어서 탐색
+    // 선행 조건(key <= :key)으로 인덱스 범위를 먼저 좁힌 뒤 같은 키 안에서 movieId로 이어감
+
+    @Query("SELECT c FROM MovieCard c WHERE c.releaseDate IS NOT NULL ORDER BY c.releaseDate DESC, c.movieId DESC")
+    List<MovieCard> findLatestFirst(Pageable pageable);
+
+    @Query("""
+        SELECT c FROM MovieCard c
+        WHERE c.releaseDate <= :releaseDate
+          AND (c.releaseDate < :releaseDate OR c.movieId < :movieId)
+        ORDER BY c.releaseDate DESC, c.movieId DESC
+    """)
+    List<MovieCard> findLatestAfter(@Param("releaseDate") Date releaseDate,
+                                    @Param("movieId") Long movieId,
+                                    Pageable pageable);
+
+    @Query("SELECT c FROM MovieCard c WHERE c.popularity IS NOT NULL ORDER BY c.popularity DESC, c.movieId DESC")
+    List<MovieCard> findPopularFirst(Pageable pageable);
+
+    @Query("""
+        SELECT c FROM MovieCard c
+        WHERE c.popularity <= :popularity
+          AND (c.popularity < :popularity OR c.movieId < :movieId)
+        ORDER BY c.popularity DESC, c.movieId DESC
+    """)
+    List<MovieCard> findPopularAfter(@Param("popularity") Double popularity,
+                                     @Param("movieId") Long movieId,
+                                     Pageable pageable);
+
+    @Query("SELECT c FROM MovieCard c WHERE c.voteScore IS NOT NULL ORDER BY c.voteScore DESC, c.movieId DESC")
+    List<MovieCard> findTopRatedFirst(Pageable pageable);
+
+    @Query("""
+        SELECT c FROM MovieCard c
+        WHERE c.voteScore <= :voteScore
+          AND (c.voteScore < :voteScore OR c.movieId < :movieId)
+        ORDER BY c.voteScore DESC, c.movieId DESC
+    """)
+    List<MovieCard> findTopRatedAfter(@Param("voteScore") Double voteScore,
+                                      @Param("movieId") Long movieId,
+                                      Pageable pageable);
+}
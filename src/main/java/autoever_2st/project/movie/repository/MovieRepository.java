@@ -18,6 +18,20 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     
     Optional<Movie> findByTmdbMovieDetail(TmdbMovieDetail tmdbMovieDetail);
 
+    // 상세 조회용: tmdbMovieDetail, koficMovieDetail(및 연결된 tmdbMovieDetail)을 한 번에 로딩
+    @Query("""
+        SELECT m FROM Movie m
+        LEFT JOIN FETCH m.tmdbMovieDetail
+        LEFT JOIN FETCH m.koficMovieDetail k
+        LEFT JOIN FETCH k.tmdbMovieDetail
+        WHERE m.id = :movieId
+    """)
+    Optional<Movie> findWithDetailsById(@Param("movieId") Long movieId);
+
+    // 목록 변환용: Movie와 TmdbMovieDetail을 한 번에 로딩
+    @Query("SELECT m FROM Movie m JOIN FETCH m.tmdbMovieDetail WHERE m.id IN :movieIds")
+    List<Movie> findAllWithTmdbMovieDetailByIds(@Param("movieIds") List<Long> movieIds);
+
     @Query("SELECT m FROM Movie m WHERE m.tmdbMovieDetail.id IN :tmdbMovieDetailIds")
     List<Movie> findAllByTmdbMovieDetailIds(@Param("tmdbMovieDetailIds") List<Long> tmdbMovieDetailIds);
 
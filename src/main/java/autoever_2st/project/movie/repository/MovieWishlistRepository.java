@@ -26,4 +26,6 @@ public interface MovieWishlistRepository extends JpaRepository<MovieWishlist, Lo
 
     Integer countByMovie(Movie movie);
 
+    Integer countByMovieId(Long movieId);
+
 }
@@ -1,10 +1,17 @@
 package autoever_2st.project.movie.service;
 
 import autoever_2st.project.external.dto.tmdb.response.movie.GenreDto;
+import autoever_2st.project.movie.component.BoxOfficeSnapshot;
 import autoever_2st.project.movie.dto.*;
+import autoever_2st.project.movie.dto.response.AutocompleteResponseDto;
 import autoever_2st.project.movie.dto.response.MovieListResponseDto;
+import autoever_2st.project.movie.dto.response.MovieScrollResponseDto;
 import autoever_2st.project.movie.dto.response.OttMovieListResponseDto;
+import autoever_2st.project.movie.enums.AutocompleteType;
+import autoever_2st.project.movie.enums.MovieCardSortType;
+import autoever_2st.project.movie.enums.OttShelfType;
 import autoever_2st.project.reviewer.dto.ReviewerDto;
+import com.fasterxml.jackson.databind.util.RawValue;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -23,6 +30,8 @@ public interface MovieService {
 
         public List<BoxOfficeMovieDto> getBoxOfficeMovieList();
 
+        public BoxOfficeSnapshot.Snapshot getBoxOfficeSnapshot();
+
         public MovieListResponseDto getWishlist(Long memberId);
 
         public MovieListResponseDto getRecentMovies(Long memberId, Pageable pageable);
@@ -43,6 +52,8 @@ public interface MovieService {
 
         public OttMovieListResponseDto getRecentlyOttMovieList(Long ottId);
 
+        public RawValue getOttMovieShelf(Long ottId, OttShelfType type);
+
         public List<GenreDto> getGenreList();
 
         public MovieListResponseDto getHundredMoviesByGenre(Long genreId);
@@ -52,4 +63,8 @@ public interface MovieService {
         public Page<MovieDto> getPopularMovies(Pageable pageable);
 
         public Page<MovieDto> getTopRatedMovies(Pageable pageable);
+
+        public MovieScrollResponseDto scrollMovies(MovieCardSortType sortType, String cursor, int size);
+
+        public AutocompleteResponseDto autocomplete(String query, AutocompleteType type, int size);
 }
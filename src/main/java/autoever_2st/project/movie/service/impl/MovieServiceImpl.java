@@ -1,21 +1,38 @@
 package autoever_2st.project.movie.service.impl;
 
-import autoever_2st.project.batch.dao.OttPlatformDao;
+import autoever_2st.project.exception.exception_class.business.ValidationException;
 import autoever_2st.project.external.dto.tmdb.response.movie.GenreDto;
 import autoever_2st.project.external.dto.tmdb.response.movie.ProductionCompanyDto;
-import autoever_2st.project.external.entity.kofic.KoficBoxOffice;
 import autoever_2st.project.external.entity.kofic.KoficMovieDetail;
 import autoever_2st.project.external.entity.tmdb.*;
 import autoever_2st.project.external.repository.kofic.KoficMovieDetailRepository;
 import autoever_2st.project.external.repository.tmdb.*;
 import autoever_2st.project.movie.repository.CineverScoreRepository;
 import autoever_2st.project.movie.repository.MovieWishlistRepository;
+import autoever_2st.project.movie.component.AutocompleteIndex;
+import autoever_2st.project.movie.component.BoxOfficeSnapshot;
+import autoever_2st.project.movie.component.MovieCardConverter;
+import autoever_2st.project.movie.component.MovieCardCursorCodec;
+import autoever_2st.project.movie.component.MovieDetailAssembler;
+import autoever_2st.project.movie.component.MovieDetailCache;
+import autoever_2st.project.movie.component.MovieDtoHydrator;
+import autoever_2st.project.movie.component.MovieGenreDictionary;
+import autoever_2st.project.movie.component.MovieTitleIndex;
+import autoever_2st.project.movie.component.OttMovieShelf;
+import autoever_2st.project.movie.component.PersonSearchIndex;
 import autoever_2st.project.movie.component.RandomMovieGenerate;
 import autoever_2st.project.movie.dto.*;
+import autoever_2st.project.movie.dto.response.AutocompleteResponseDto;
 import autoever_2st.project.movie.dto.response.MovieListResponseDto;
+import autoever_2st.project.movie.dto.response.MovieScrollResponseDto;
 import autoever_2st.project.movie.dto.response.OttMovieListResponseDto;
 import autoever_2st.project.movie.entity.CineverScore;
 import autoever_2st.project.movie.entity.Movie;
+import autoever_2st.project.movie.entity.MovieCard;
+import autoever_2st.project.movie.enums.AutocompleteType;
+import autoever_2st.project.movie.enums.MovieCardSortType;
+import autoever_2st.project.movie.enums.OttShelfType;
+import autoever_2st.project.movie.repository.MovieCardRepository;
 import autoever_2st.project.movie.repository.MovieRepository;
 import autoever_2st.project.movie.service.MovieService;
 import autoever_2st.project.review.Repository.ReviewDetailRepository;
@@ -23,13 +40,13 @@ import autoever_2st.project.review.Repository.ReviewRepository;
 import autoever_2st.project.review.Service.KeywordService;
 import autoever_2st.project.reviewer.dto.ReviewerDto;
 import autoever_2st.project.user.Entity.Member;
-import autoever_2st.project.user.Entity.MemberGenrePreference;
-import autoever_2st.project.user.Repository.MemberGenrePreferenceRepository;
 import autoever_2st.project.user.Repository.UserRepository;
 import autoever_2st.project.user.Repository.follow.MemberFollowerRepository;
+import com.fasterxml.jackson.databind.util.RawValue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -57,15 +74,27 @@ public class MovieServiceImpl implements MovieService {
     private final TmdbVideoRepository tmdbVideoRepository;
     private final ReviewDetailRepository reviewDetailRepository;
     private final MovieGenreMatchRepository movieGenreMatchRepository;
-    private final OttPlatformDao ottPlatformDao;
     private final TmdbMovieCrewRepository tmdbMovieCrewRepository;
     private final CineverScoreRepository cineverScoreRepository;
     private final TmdbMovieCastRepository tmdbMovieCastRepository;
     private final TmdbMovieDetailOttRepository tmdbMovieDetailOttRepository;
     private final CompanyMovieRepository companyMovieRepository;
-    private final MemberGenrePreferenceRepository memberGenrePreferenceRepository;
     private final MemberFollowerRepository memberFollowerRepository;
     private final KeywordService keywordService;
+    private final MovieDetailAssembler movieDetailAssembler;
+    private final MovieDetailCache movieDetailCache;
+    private final MovieCardRepository movieCardRepository;
+    private final MovieCardConverter movieCardConverter;
+    private final MovieCardCursorCodec movieCardCursorCodec;
+    private final MovieGenreDictionary movieGenreDictionary;
+    private final MovieTitleIndex movieTitleIndex;
+    private final AutocompleteIndex autocompleteIndex;
+    private final PersonSearchIndex personSearchIndex;
+    private final BoxOfficeSnapshot boxOfficeSnapshot;
+    private final OttMovieShelf ottMovieShelf;
+    private final MovieDtoHydrator movieDtoHydrator;
+
+    private static final int MAX_SCROLL_SIZE = 100;
 
 
     String baseUrl = "https://image.tmdb.org/t/p/original/";
@@ -77,60 +106,7 @@ public class MovieServiceImpl implements MovieService {
 
         List<Long> recentMovieIds = reviewDetailRepository.findRecentMovieIdsByReviewIds(reviewIds, pageable);
 
-        List<MovieDto> movieDtos = recentMovieIds.stream()
-                .map(movieId -> {
-                    //movie 객체
-                    Movie movie = movieRepository.findById(movieId).orElseThrow();
-                    //Tmdb Movie Detail 객체
-                    Long tmdbId = movie.getTmdbMovieDetail().getId();
-                    TmdbMovieDetail detail = tmdbMovieDetailRepository.findById(tmdbId).orElseThrow();
-
-                    // genre
-                    List<Long> genreIds = movieGenreMatchRepository.findGenreIdsByTmdbId(tmdbId);
-                    List<String> genres = movieGenreRepository.findNamesByGenreIds(genreIds);
-
-                    // average score
-                    Optional<CineverScore> scoreOpt = cineverScoreRepository.findByMovie(movie); //CineverScore 객체
-                    double avgScore = scoreOpt
-                            .map(score -> score.getReviewCount() == 0 ? 0.0 : score.getScore() / (double) score.getReviewCount())
-                            .orElse(0.0);
-
-                    // poster (ratio 0~1, en, POSTER)
-                    String posterPath = tmdbMovieImageRepository
-                            .findFirstByTmdbMovieDetail_IdAndImageTypeAndIso6391AndRatioBetweenOrderByIdAsc(
-                                tmdbId, ImageType.POSTER, "en", 0.0, 1.0)
-                            .map(p -> p.getBaseUrl() + p.getImageUrl())
-                            .orElse(null);
-
-                    // director (중복 제거)
-                    List<Long> directorIds = tmdbMovieCrewRepository.findDirectorIdsByTmdbId(tmdbId);
-                    List<DirectorDto> directors = directorIds.stream()
-                            .distinct() // 중복 제거
-                            .map(id -> {
-                                TmdbMember m = tmdbMemberRepository.findById(id).orElseThrow();
-                                String profilePath = (m.getProfilePath() == null) ? null : baseUrl + m.getProfilePath();
-                                return new DirectorDto(
-                                        m.getGender().getGenderKrString(),
-                                        m.getTmdbId(),
-                                        m.getName(),
-                                        m.getOriginalName(),
-                                        profilePath
-                                );
-                            }).collect(Collectors.toList());
-
-                    return new MovieDto(
-                            detail.getIsAdult(),
-                            detail.getReleaseDate(),
-                            avgScore,
-                            detail.getTitle(),
-                            movieId,
-                            genres,
-                            posterPath,
-                            detail.getVoteAverage(),
-                            directors
-                    );
-                })
-                .toList();
+        List<MovieDto> movieDtos = movieDtoHydrator.hydrate(recentMovieIds);
 
         return new MovieListResponseDto(movieDtos);
     }
@@ -139,60 +115,7 @@ public class MovieServiceImpl implements MovieService {
     public MovieListResponseDto getWishlist(Long memberId) {
         List<Long> movieIds = movieWishlistRepository.findMovieIdsByMemberId(memberId);
 
-        List<MovieDto> movieDtos = movieIds.stream()
-                .map(movieId -> {
-                    //movie 객체
-                    Movie movie = movieRepository.findById(movieId).orElseThrow();
-                    //Tmdb Movie Detail 객체
-                    Long tmdbId = movie.getTmdbMovieDetail().getId();
-                    TmdbMovieDetail detail = tmdbMovieDetailRepository.findById(tmdbId).orElseThrow();
-
-                    // genre
-                    List<Long> genreIds = movieGenreMatchRepository.findGenreIdsByTmdbId(tmdbId);
-                    List<String> genres = movieGenreRepository.findNamesByGenreIds(genreIds);
-
-                    // average score
-                    Optional<CineverScore> scoreOpt = cineverScoreRepository.findByMovie(movie); //CineverScore 객체
-                    double avgScore = scoreOpt
-                            .map(score -> score.getReviewCount() == 0 ? 0.0 : score.getScore() / (double) score.getReviewCount())
-                            .orElse(0.0);
-
-                    // poster (ratio 0~1, en, POSTER)
-                    String posterPath = tmdbMovieImageRepository
-                            .findFirstByTmdbMovieDetail_IdAndImageTypeAndIso6391AndRatioBetweenOrderByIdAsc(
-                                tmdbId, ImageType.POSTER, "en", 0.0, 1.0)
-                            .map(p -> p.getBaseUrl() + p.getImageUrl())
-                            .orElse(null);
-
-                    // director (중복 제거)
-                    List<Long> directorIds = tmdbMovieCrewRepository.findDirectorIdsByTmdbId(tmdbId);
-                    List<DirectorDto> directors = directorIds.stream()
-                            .distinct() // 중복 제거
-                            .map(id -> {
-                                TmdbMember m = tmdbMemberRepository.findById(id).orElseThrow();
-                                String profilePath = (m.getProfilePath() == null) ? null : baseUrl + m.getProfilePath();
-                                return new DirectorDto(
-                                        m.getGender().getGenderKrString(),
-                                        m.getTmdbId(),
-                                        m.getName(),
-                                        m.getOriginalName(),
-                                        profilePath
-                                );
-                            }).collect(Collectors.toList());
-
-                    return new MovieDto(
-                            detail.getIsAdult(),
-                            detail.getReleaseDate(),
-                            avgScore,
-                            detail.getTitle(),
-                            movieId,
-                            genres,
-                            posterPath,
-                            detail.getVoteAverage(),
-                            directors
-                    );
-                })
-                .toList();
+        List<MovieDto> movieDtos = movieDtoHydrator.hydrate(movieIds);
 
         return new MovieListResponseDto(movieDtos);
     }
@@ -200,96 +123,10 @@ public class MovieServiceImpl implements MovieService {
     @Override
     public MovieListResponseDto getFavoriteMovies(Long memberId) {
 
-        // 1. memberId로 Review 리스트 조회
+        // 장르 선호도는 리뷰 작성/수정/삭제 시 GenrePreferenceUpdater가 갱신하므로 조회만 수행
         List<Long> movieIds = reviewRepository.findFavoriteMovieIdsByMemberId(memberId);
 
-
-        // 최애 장르 선별 3개
-        Member member = userRepository.findById(memberId).orElseThrow();
-        // 2. 최상위 영화부터 장르 수집 (최대 3개)
-        Set<MovieGenre> genreSet = new LinkedHashSet<>();
-
-        for (Long movieId : movieIds) {
-            if (genreSet.size() >= 3) break;
-
-            Movie movie = movieRepository.findById(movieId).orElseThrow();
-            Long tmdbId = movie.getTmdbMovieDetail().getId();
-
-            List<Long> genreIds = movieGenreMatchRepository.findGenreIdsByTmdbId(tmdbId);
-            List<MovieGenre> genres = movieGenreRepository.findAllById(genreIds);
-
-            for (MovieGenre genre : genres) {
-                genreSet.add(genre);
-                if (genreSet.size() >= 3) break;
-            }
-        }
-
-        // 3. 기존 장르 선호도 삭제 후 저장
-        memberGenrePreferenceRepository.deleteByMember(member);
-        for (MovieGenre genre : genreSet) {
-            MemberGenrePreference pref = new MemberGenrePreference();
-            pref.setMember(member);
-            pref.setMovieGenre(genre);
-            pref.setValue(1); // 기본값
-            memberGenrePreferenceRepository.save(pref);
-        }
-
-        //List<Long> movieIds = movieWishlistRepository.findMovieIdsByMemberId(memberId);
-
-        List<MovieDto> movieDtos = movieIds.stream()
-                .map(movieId -> {
-                    //movie 객체
-                    Movie movie = movieRepository.findById(movieId).orElseThrow();
-                    //Tmdb Movie Detail 객체
-                    Long tmdbId = movie.getTmdbMovieDetail().getId();
-                    TmdbMovieDetail detail = tmdbMovieDetailRepository.findById(tmdbId).orElseThrow();
-
-                    // genre
-                    List<Long> genreIds = movieGenreMatchRepository.findGenreIdsByTmdbId(tmdbId);
-                    List<String> genres = movieGenreRepository.findNamesByGenreIds(genreIds);
-
-                    // average score
-                    Optional<CineverScore> scoreOpt = cineverScoreRepository.findByMovie(movie); //CineverScore 객체
-                    double avgScore = scoreOpt
-                            .map(score -> score.getReviewCount() == 0 ? 0.0 : score.getScore() / (double) score.getReviewCount())
-                            .orElse(0.0);
-
-                    // poster (ratio 0~1, en, POSTER)
-                    String posterPath = tmdbMovieImageRepository
-                            .findFirstByTmdbMovieDetail_IdAndImageTypeAndIso6391AndRatioBetweenOrderByIdAsc(
-                                tmdbId, ImageType.POSTER, "en", 0.0, 1.0)
-                            .map(p -> p.getBaseUrl() + p.getImageUrl())
-                            .orElse(null);
-
-                    // director (중복 제거)
-                    List<Long> directorIds = tmdbMovieCrewRepository.findDirectorIdsByTmdbId(tmdbId);
-                    List<DirectorDto> directors = directorIds.stream()
-                            .distinct() // 중복 제거
-                            .map(id -> {
-                                TmdbMember m = tmdbMemberRepository.findById(id).orElseThrow();
-                                String profilePath = (m.getProfilePath() == null) ? null : baseUrl + m.getProfilePath();
-                                return new DirectorDto(
-                                        m.getGender().getGenderKrString(),
-                                        m.getTmdbId(),
-                                        m.getName(),
-                                        m.getOriginalName(),
-                                        profilePath
-                                );
-                            }).collect(Collectors.toList());
-
-                    return new MovieDto(
-                            detail.getIsAdult(),
-                            detail.getReleaseDate(),
-                            avgScore,
-                            detail.getTitle(),
-                            movieId,
-                            genres,
-                            posterPath,
-                            detail.getVoteAverage(),
-                            directors
-                    );
-                })
-                .toList();
+        List<MovieDto> movieDtos = movieDtoHydrator.hydrate(movieIds);
 
         return new MovieListResponseDto(movieDtos);
     }
@@ -302,223 +139,20 @@ public class MovieServiceImpl implements MovieService {
 
         //List<Long> movieIds = movieWishlistRepository.findMovieIdsByMemberId(memberId);
 
-        List<MovieDto> movieDtos = movieIds.stream()
-                .map(movieId -> {
-                    //movie 객체
-                    Movie movie = movieRepository.findById(movieId).orElseThrow();
-                    //Tmdb Movie Detail 객체
-                    Long tmdbId = movie.getTmdbMovieDetail().getId();
-                    TmdbMovieDetail detail = tmdbMovieDetailRepository.findById(tmdbId).orElseThrow();
-
-                    // genre
-                    List<Long> genreIds = movieGenreMatchRepository.findGenreIdsByTmdbId(tmdbId);
-                    List<String> genres = movieGenreRepository.findNamesByGenreIds(genreIds);
-
-                    // average score
-                    Optional<CineverScore> scoreOpt = cineverScoreRepository.findByMovie(movie); //CineverScore 객체
-                    double avgScore = scoreOpt
-                            .map(score -> score.getReviewCount() == 0 ? 0.0 : score.getScore() / (double) score.getReviewCount())
-                            .orElse(0.0);
-
-                    // poster (ratio 0~1, en, POSTER)
-                    String posterPath = tmdbMovieImageRepository
-                            .findFirstByTmdbMovieDetail_IdAndImageTypeAndIso6391AndRatioBetweenOrderByIdAsc(
-                                tmdbId, ImageType.POSTER, "en", 0.0, 1.0)
-                            .map(p -> p.getBaseUrl() + p.getImageUrl())
-                            .orElse(null);
-
-                    // director (중복 제거)
-                    List<Long> directorIds = tmdbMovieCrewRepository.findDirectorIdsByTmdbId(tmdbId);
-                    List<DirectorDto> directors = directorIds.stream()
-                            .distinct() // 중복 제거
-                            .map(id -> {
-                                TmdbMember m = tmdbMemberRepository.findById(id).orElseThrow();
-                                String profilePath = (m.getProfilePath() == null) ? null : baseUrl + m.getProfilePath();
-                                return new DirectorDto(
-                                        m.getGender().getGenderKrString(),
-                                        m.getTmdbId(),
-                                        m.getName(),
-                                        m.getOriginalName(),
-                                        profilePath
-                                );
-                            }).collect(Collectors.toList());
-
-                    return new MovieDto(
-                            detail.getIsAdult(),
-                            detail.getReleaseDate(),
-                            avgScore,
-                            detail.getTitle(),
-                            movieId,
-                            genres,
-                            posterPath,
-                            detail.getVoteAverage(),
-                            directors
-                    );
-                })
-                .toList();
+        List<MovieDto> movieDtos = movieDtoHydrator.hydrate(movieIds);
 
         return new MovieListResponseDto(movieDtos);
     }
 
-    /**
-     * OttResponseDto 생성 헬퍼 메서드
-     */
-    private autoever_2st.project.movie.dto.OttResponseDto createOttResponseDto(Long id, String name, String logoPath) {
-        autoever_2st.project.movie.dto.OttResponseDto dto = new autoever_2st.project.movie.dto.OttResponseDto();
-        try {
-            java.lang.reflect.Field idField = autoever_2st.project.movie.dto.OttResponseDto.class.getDeclaredField("id");
-            java.lang.reflect.Field nameField = autoever_2st.project.movie.dto.OttResponseDto.class.getDeclaredField("ottName");
-            java.lang.reflect.Field logoPathField = autoever_2st.project.movie.dto.OttResponseDto.class.getDeclaredField("logoPath");
-
-            idField.setAccessible(true);
-            nameField.setAccessible(true);
-            logoPathField.setAccessible(true);
-
-            idField.set(dto, id);
-            nameField.set(dto, name);
-            logoPathField.set(dto, logoPath);
-        } catch (Exception e) {
-            // 리플렉션 오류 처리
-            e.printStackTrace();
-        }
-        return dto;
-    }
-
-    /**
-     * MovieDto의 속성을 다른 DTO로 복사하는 헬퍼 메서드
-     */
-    private void copyProperties(MovieDto source, MovieDto target) {
-        target.setIsAdult(source.getIsAdult());
-        target.setReleaseDate(source.getReleaseDate());
-        target.setTmdbScore(source.getTmdbScore());
-        target.setTitle(source.getTitle());
-        target.setMovieId(source.getMovieId());
-        target.setGenre(source.getGenre());
-        target.setPosterPath(source.getPosterPath());
-        target.setPopularity(source.getPopularity());
-        target.setDirector(source.getDirector());
-    }
-
     @Override
-    @Transactional
     public OttMovieListResponseDto getRecentlyOttMovieList(Long ottId) {
-        // 특정 OTT 플랫폼 정보 조회
-        Optional<OttPlatformDao.OttPlatformInfo> ottPlatformOpt = ottPlatformDao.findOttPlatformById(ottId);
-        if (ottPlatformOpt.isEmpty()) {
-            log.warn("OTT 플랫폼을 찾을 수 없습니다. ID: {}", ottId);
-            return new OttMovieListResponseDto(Collections.emptyList(), 
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
-        }
-
-        OttPlatformDao.OttPlatformInfo ottPlatform = ottPlatformOpt.get();
-        Long ottPlatformId = ottPlatform.getId();
-        Long tmdbOttId = ottPlatform.getTmdbOttId();
-        String ottName = ottPlatform.getName();
-
-        log.info("OTT 플랫폼 처리 시작: {} (TMDB ID: {}, DB ID: {})", ottName, tmdbOttId, ottPlatformId);
-
-        // OTT 플랫폼 정보 생성
-        List<autoever_2st.project.movie.dto.OttResponseDto> ottList = Collections.singletonList(
-            createOttResponseDto(ottPlatform.getId(), ottPlatform.getName(), 
-                ottPlatform.getName().replaceAll("\\s+", "") + "_logo.png"));
-
-        // 오늘 날짜와 2년 전 날짜 (범위 확장)
-        Date today = new Date();
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(today);
-        calendar.add(Calendar.YEAR, -1);
-        Date twoYearsAgo = calendar.getTime();
-
-        // 페이징 정보 (더 많은 데이터 조회)
-        Pageable pageable = PageRequest.of(0, 32);
-
-        // 최적화된 쿼리로 최근 개봉 영화 조회 (N+1 문제 해결)
-        List<MovieDto> movieDtos = tmdbMovieDetailRepository.findRecentlyReleasedMoviesByOttPlatformOptimized(
-                ottPlatformId, twoYearsAgo, today, pageable);
-
-        log.info("OTT {} - 조회된 영화 수: {}", ottName, movieDtos.size());
-
-        if (movieDtos.isEmpty()) {
-            log.info("조회된 영화가 없습니다.");
-            return new OttMovieListResponseDto(ottList, 
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
-        }
-
-        // 인기도 순으로 정렬
-        movieDtos.sort(Comparator.comparing(MovieDto::getPopularity).reversed());
-
-        // 각 OTT 플랫폼별 영화 목록
-        List<autoever_2st.project.movie.dto.NetflixMovieListResponseDto> netflixMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.DisneyPlusMovieListResponseDto> disneyPlusMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.WatchaMovieListResponseDto> watchaMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.WaveMovieListResponseDto> waveMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.TvingMovieListResponseDto> tvingMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.CoupangPlayMovieListResponseDto> coupangPlayMovieList = new ArrayList<>();
-
-        // TMDB OTT ID에 따라 각 OTT 플랫폼별로 영화 목록 추가
-        if (tmdbOttId.equals(8L)) { // Netflix
-            netflixMovieList.addAll(movieDtos.stream()
-                    .map(dto -> {
-                        autoever_2st.project.movie.dto.NetflixMovieListResponseDto netflixDto =
-                            new autoever_2st.project.movie.dto.NetflixMovieListResponseDto();
-                        copyProperties(dto, netflixDto);
-                        return netflixDto;
-                    })
-                    .collect(Collectors.toList()));
-        } else if (tmdbOttId.equals(337L)) { // Disney+
-            disneyPlusMovieList.addAll(movieDtos.stream()
-                    .map(dto -> {
-                        autoever_2st.project.movie.dto.DisneyPlusMovieListResponseDto disneyDto =
-                            new autoever_2st.project.movie.dto.DisneyPlusMovieListResponseDto();
-                        copyProperties(dto, disneyDto);
-                        return disneyDto;
-                    })
-                    .collect(Collectors.toList()));
-        } else if (tmdbOttId.equals(97L)) { // Watcha
-            watchaMovieList.addAll(movieDtos.stream()
-                    .map(dto -> {
-                        autoever_2st.project.movie.dto.WatchaMovieListResponseDto watchaDto =
-                            new autoever_2st.project.movie.dto.WatchaMovieListResponseDto();
-                        copyProperties(dto, watchaDto);
-                        return watchaDto;
-                    })
-                    .collect(Collectors.toList()));
-        } else if (tmdbOttId.equals(356L)) { // wavve
-            waveMovieList.addAll(movieDtos.stream()
-                    .map(dto -> {
-                        autoever_2st.project.movie.dto.WaveMovieListResponseDto waveDto =
-                            new autoever_2st.project.movie.dto.WaveMovieListResponseDto();
-                        copyProperties(dto, waveDto);
-                        return waveDto;
-                    })
-                    .collect(Collectors.toList()));
-        } else if (tmdbOttId.equals(1881L)) { // Coupang Play
-            coupangPlayMovieList.addAll(movieDtos.stream()
-                    .map(dto -> {
-                        autoever_2st.project.movie.dto.CoupangPlayMovieListResponseDto coupangDto =
-                            new autoever_2st.project.movie.dto.CoupangPlayMovieListResponseDto();
-                        copyProperties(dto, coupangDto);
-                        return coupangDto;
-                    })
-                    .collect(Collectors.toList()));
-        } else if (tmdbOttId.equals(1883L)) { // TVING
-            tvingMovieList.addAll(movieDtos.stream()
-                    .map(dto -> {
-                        autoever_2st.project.movie.dto.TvingMovieListResponseDto tvingDto =
-                            new autoever_2st.project.movie.dto.TvingMovieListResponseDto();
-                        copyProperties(dto, tvingDto);
-                        return tvingDto;
-                    })
-                    .collect(Collectors.toList()));
-        }
-
-        log.info("최종 결과 - Netflix: {}, Disney+: {}, Watcha: {}, Wave: {}, Tving: {}, Coupang Play: {}",
-                netflixMovieList.size(), disneyPlusMovieList.size(), watchaMovieList.size(),
-                waveMovieList.size(), tvingMovieList.size(), coupangPlayMovieList.size());
+        return ottMovieShelf.assemble(ottId, OttShelfType.RECENTLY_RELEASED);
+    }
 
-        return new OttMovieListResponseDto(ottList, netflixMovieList, watchaMovieList, disneyPlusMovieList, waveMovieList, tvingMovieList, coupangPlayMovieList);
+    @Override
+    public RawValue getOttMovieShelf(Long ottId, OttShelfType type) {
+        // 미리 직렬화해 둔 OTT 선반을 그대로 반환 (요청 시 DB 조회/정렬/복사 없음)
+        return ottMovieShelf.get(ottId, type);
     }
 
     @Override
@@ -533,136 +167,41 @@ public class MovieServiceImpl implements MovieService {
 
     @Override
     public MovieListResponseDto getHundredMoviesByGenre(Long genreId) {
-        List<MovieDto> movies = movieGenreMatchRepository.findMoviesByGenreId(genreId);
-        return new MovieListResponseDto(movies);
+        List<MovieCard> cards = movieCardRepository.findPopularByGenreId(genreId, PageRequest.of(0, 100));
+        return new MovieListResponseDto(movieCardConverter.toMovieDtos(cards));
     }
 
     @Override
     public OttMovieListResponseDto getExpectedOttMovieList(Long ottId) {
-        // 특정 OTT 플랫폼 정보 조회
-        Optional<OttPlatformDao.OttPlatformInfo> ottPlatformOpt = ottPlatformDao.findOttPlatformById(ottId);
-        if (ottPlatformOpt.isEmpty()) {
-            log.warn("OTT 플랫폼을 찾을 수 없습니다. ID: {}", ottId);
-            return new OttMovieListResponseDto(Collections.emptyList(), 
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
-        }
-
-        OttPlatformDao.OttPlatformInfo ottPlatform = ottPlatformOpt.get();
-        Long ottPlatformId = ottPlatform.getId();
-        Long tmdbOttId = ottPlatform.getTmdbOttId();
-        String ottName = ottPlatform.getName();
-
-        log.info("OTT 플랫폼 처리 시작: {} (TMDB ID: {}, DB ID: {})", ottName, tmdbOttId, ottPlatformId);
-
-        // OTT 플랫폼 정보 생성
-        List<autoever_2st.project.movie.dto.OttResponseDto> ottList = Collections.singletonList(
-            createOttResponseDto(ottPlatform.getId(), ottPlatform.getName(), 
-                ottPlatform.getName().replaceAll("\\s+", "") + "_logo.png"));
-
-        // 오늘 날짜
-        Date today = new Date();
-
-        // 페이징 정보 (더 많은 데이터 조회)
-        Pageable pageable = PageRequest.of(0, 50);
-
-        // 최적화된 쿼리로 개봉 예정 영화 조회 (N+1 문제 해결)
-        List<MovieDto> movieDtos = tmdbMovieDetailRepository.findUpcomingMoviesByOttPlatformOptimized(
-                ottPlatformId, today, pageable);
-
-        log.info("OTT {} - 조회된 영화 수: {}", ottName, movieDtos.size());
-
-        if (movieDtos.isEmpty()) {
-            log.info("조회된 영화가 없습니다.");
-            return new OttMovieListResponseDto(ottList, 
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList(),
-                Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
-        }
-
-        // 평점 순으로 정렬
-        movieDtos.sort(Comparator.comparing(MovieDto::getTmdbScore).reversed());
-
-        // 각 OTT 플랫폼별 영화 목록
-        List<autoever_2st.project.movie.dto.NetflixMovieListResponseDto> netflixMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.DisneyPlusMovieListResponseDto> disneyPlusMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.WatchaMovieListResponseDto> watchaMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.WaveMovieListResponseDto> waveMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.TvingMovieListResponseDto> tvingMovieList = new ArrayList<>();
-        List<autoever_2st.project.movie.dto.CoupangPlayMovieListResponseDto> coupangPlayMovieList = new ArrayList<>();
-
-        // TMDB OTT ID에 따라 각 OTT 플랫폼별로 영화 목록 추가
-        if (tmdbOttId.equals(8L)) { // Netflix
-            for (MovieDto movieDto : movieDtos) {
-                autoever_2st.project.movie.dto.NetflixMovieListResponseDto netflixMovie = new autoever_2st.project.movie.dto.NetflixMovieListResponseDto();
-                copyProperties(movieDto, netflixMovie);
-                netflixMovieList.add(netflixMovie);
-            }
-        } else if (tmdbOttId.equals(337L)) { // Disney+
-            for (MovieDto movieDto : movieDtos) {
-                autoever_2st.project.movie.dto.DisneyPlusMovieListResponseDto disneyPlusMovie = new autoever_2st.project.movie.dto.DisneyPlusMovieListResponseDto();
-                copyProperties(movieDto, disneyPlusMovie);
-                disneyPlusMovieList.add(disneyPlusMovie);
-            }
-        } else if (tmdbOttId.equals(97L)) { // Watcha
-            for (MovieDto movieDto : movieDtos) {
-                autoever_2st.project.movie.dto.WatchaMovieListResponseDto watchaMovie = new autoever_2st.project.movie.dto.WatchaMovieListResponseDto();
-                copyProperties(movieDto, watchaMovie);
-                watchaMovieList.add(watchaMovie);
-            }
-        } else if (tmdbOttId.equals(356L)) { // wavve
-            for (MovieDto movieDto : movieDtos) {
-                autoever_2st.project.movie.dto.WaveMovieListResponseDto waveMovie = new autoever_2st.project.movie.dto.WaveMovieListResponseDto();
-                copyProperties(movieDto, waveMovie);
-                waveMovieList.add(waveMovie);
-            }
-        } else if (tmdbOttId.equals(1881L)) { // Coupang Play
-            for (MovieDto movieDto : movieDtos) {
-                autoever_2st.project.movie.dto.CoupangPlayMovieListResponseDto coupangMovie = new autoever_2st.project.movie.dto.CoupangPlayMovieListResponseDto();
-                copyProperties(movieDto, coupangMovie);
-                coupangPlayMovieList.add(coupangMovie);
-            }
-        } else if (tmdbOttId.equals(1883L)) { // TVING
-            for (MovieDto movieDto : movieDtos) {
-                autoever_2st.project.movie.dto.TvingMovieListResponseDto tvingMovie = new autoever_2st.project.movie.dto.TvingMovieListResponseDto();
-                copyProperties(movieDto, tvingMovie);
-                tvingMovieList.add(tvingMovie);
-            }
-        }
-
-        log.info("최종 결과 - Netflix: {}, Disney+: {}, Watcha: {}, Wave: {}, Tving: {}, Coupang Play: {}",
-                netflixMovieList.size(), disneyPlusMovieList.size(), watchaMovieList.size(),
-                waveMovieList.size(), tvingMovieList.size(), coupangPlayMovieList.size());
-
-        return new OttMovieListResponseDto(ottList, netflixMovieList, watchaMovieList, disneyPlusMovieList, waveMovieList, tvingMovieList, coupangPlayMovieList);
+        return ottMovieShelf.assemble(ottId, OttShelfType.UPCOMING);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<MovieDto> searchMovieByTitle(String title, Pageable pageable) {
-        Page<TmdbMovieDetail> tmdbMovieDetailPage = tmdbMovieDetailRepository.findAllByTitleContainingOrderByPopularityDesc(title, pageable);
+        // 페이지 크기와 무관하게 고정 쿼리 수로 조립: 검색(Movie fetch join, +count), 장르 매칭, 포스터, 감독 (장르 이름은 인메모리 사전)
+        Page<TmdbMovieDetail> tmdbMovieDetailPage = searchTmdbMovieDetailsByTitle(title, pageable);
+        if (tmdbMovieDetailPage.isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), tmdbMovieDetailPage.getPageable(), tmdbMovieDetailPage.getTotalElements());
+        }
 
         List<Long> tmdbMovieDetailIds = tmdbMovieDetailPage.getContent().stream().map(TmdbMovieDetail::getId).toList();
 
-        List<MovieGenre> movieGenreList = movieGenreRepository.findAll();
-        List<TmdbMovieImages> movieImages = tmdbMovieImageRepository.findAllByIso6391AndTmdbMovieDetailIds(tmdbMovieDetailIds);
-        List<TmdbMovieCrew> movieCrewList = tmdbMovieCrewRepository.findAllByJobAndTmdbMovieDetailIds("Director", tmdbMovieDetailIds);
-
-        Map<Long, String> genreMap = new HashMap<>();
-        Map<Long, List<String>> posterImageMap = new HashMap<>();
-        Map<Long, List<DirectorDto>> directorMap = new HashMap<>();
-
-        for( MovieGenre movieGenre : movieGenreList ) {
-            genreMap.put(movieGenre.getGenreId(), movieGenre.getName());
+        // genreIds는 @Transient라 DB 조회 시 비어 있으므로 movie_genre_match에서 일괄 조회
+        Map<Long, List<Long>> genreIdMap = new HashMap<>();
+        for (Object[] row : movieGenreMatchRepository.findGenreIdPairsByTmdbMovieDetailIds(tmdbMovieDetailIds)) {
+            genreIdMap.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
         }
 
-        for (TmdbMovieImages movieImage : movieImages) {
-            Long movieId = movieImage.getTmdbMovieDetail().getId();
-            String imageUrl = movieImage.getImageUrl();
-
-            posterImageMap.computeIfAbsent(movieId, k -> new ArrayList<>()).add(imageUrl);
+        // id 오름차순이므로 영화별 첫 번째 포스터만 유지
+        Map<Long, String> posterUrlMap = new HashMap<>();
+        for (Object[] row : tmdbMovieImageRepository.findPosterUrlsByTmdbMovieDetailIds(tmdbMovieDetailIds)) {
+            posterUrlMap.putIfAbsent((Long) row[0], (String) row[1]);
         }
 
-        for (TmdbMovieCrew movieCrew : movieCrewList) {
-            Long movieId = movieCrew.getTmdbMovieDetail().getId();
+        Map<Long, List<DirectorDto>> directorMap = new HashMap<>();
+        for (TmdbMovieCrew movieCrew : tmdbMovieCrewRepository.findAllByJobAndTmdbMovieDetailIds("Director", tmdbMovieDetailIds)) {
+            Long tmdbMovieDetailId = movieCrew.getTmdbMovieDetail().getId();
             TmdbMember member = movieCrew.getTmdbMember();
 
             DirectorDto directorDto = new DirectorDto(
@@ -673,63 +212,74 @@ public class MovieServiceImpl implements MovieService {
                 member != null ? member.getProfilePath() : ""
             );
 
-            directorMap.computeIfAbsent(movieId, k -> new ArrayList<>()).add(directorDto);
+            directorMap.computeIfAbsent(tmdbMovieDetailId, k -> new ArrayList<>()).add(directorDto);
         }
 
-        // MovieDto 변환 및 null 필터링
-        List<MovieDto> movieDtos = tmdbMovieDetailPage.getContent().stream().map(tmdbMovieDetail -> {
-            List<String> genreNames = new ArrayList<>();
-            if (tmdbMovieDetail.getGenreIds() != null) {
-                for(Integer genreId : tmdbMovieDetail.getGenreIds()) {
-                    String genreName = genreMap.get(genreId.longValue());
-                    if (genreName != null) {
-                        genreNames.add(genreName);
-                    }
-                }
-            }
-
-            String posterUrl = "";
-            List<String> posterUrls = posterImageMap.getOrDefault(tmdbMovieDetail.getId(), new ArrayList<>());
-            if (!posterUrls.isEmpty()) {
-                posterUrl = posterUrls.get(0);
-            }
-
-            List<DirectorDto> directorDtos = directorMap.getOrDefault(tmdbMovieDetail.getId(), new ArrayList<>());
-
-            // Movie 엔티티 조회하여 ID 가져오기
-            Optional<Movie> movieOpt = movieRepository.findByTmdbMovieDetail(tmdbMovieDetail);
-            Long movieId = movieOpt.map(Movie::getId).orElse(null);
-            
-            if (movieId == null) {
+        // MovieDto 변환 (Movie가 연결되지 않은 상세 정보는 제외)
+        List<MovieDto> movieDtos = new ArrayList<>(tmdbMovieDetailPage.getNumberOfElements());
+        for (TmdbMovieDetail tmdbMovieDetail : tmdbMovieDetailPage.getContent()) {
+            Movie movie = tmdbMovieDetail.getMovie();
+            if (movie == null) {
                 log.warn("Movie 엔티티를 찾을 수 없습니다. TMDB ID: {}", tmdbMovieDetail.getId());
-                return null; // Movie가 없으면 null 반환 (필터링됨)
+                continue;
             }
 
-            return new MovieDto(
+            movieDtos.add(new MovieDto(
                 tmdbMovieDetail.getIsAdult(),
                 tmdbMovieDetail.getReleaseDate(),
                 tmdbMovieDetail.getVoteAverage(),
                 tmdbMovieDetail.getTitle(),
-                movieId, // Movie 엔티티 ID 사용
-                genreNames,
-                posterUrl,
+                movie.getId(), // Movie 엔티티 ID 사용
+                movieGenreDictionary.getNames(genreIdMap.get(tmdbMovieDetail.getId())),
+                posterUrlMap.getOrDefault(tmdbMovieDetail.getId(), ""),
                 tmdbMovieDetail.getPopularity(),
-                directorDtos
-            );
-        }).filter(Objects::nonNull).collect(Collectors.toList());
+                directorMap.getOrDefault(tmdbMovieDetail.getId(), new ArrayList<>())
+            ));
+        }
 
-        // 필터링된 리스트를 다시 Page로 변환
-        Page<MovieDto> movieDtoPage = new org.springframework.data.domain.PageImpl<>(
-            movieDtos, 
-            tmdbMovieDetailPage.getPageable(), 
-            tmdbMovieDetailPage.getTotalElements()
-        );
+        return new PageImpl<>(movieDtos, tmdbMovieDetailPage.getPageable(), tmdbMovieDetailPage.getTotalElements());
+    }
+
+    /**
+     * 제목 후보는 인메모리 n-gram 인덱스에서 찾고, 페이지에 해당하는 상세 정보만 PK로 조회
+     * 인덱스가 아직 구성되지 않았으면 기존 LIKE 검색으로 대체
+     */
+    private Page<TmdbMovieDetail> searchTmdbMovieDetailsByTitle(String title, Pageable pageable) {
+        MovieTitleIndex.SearchResult result = movieTitleIndex.search(title, pageable.getOffset(), pageable.getPageSize());
+        if (result == null) {
+            return tmdbMovieDetailRepository.findAllWithMovieByTitleContaining(title, pageable);
+        }
+        if (result.tmdbMovieDetailIds().isEmpty()) {
+            return new PageImpl<>(new ArrayList<>(), pageable, result.totalCount());
+        }
 
-        return movieDtoPage;
+        Map<Long, TmdbMovieDetail> detailMap = tmdbMovieDetailRepository.findAllWithMovieByIdIn(result.tmdbMovieDetailIds()).stream()
+                .collect(Collectors.toMap(TmdbMovieDetail::getId, Function.identity()));
+        List<TmdbMovieDetail> details = result.tmdbMovieDetailIds().stream()
+                .map(detailMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(details, pageable, result.totalCount());
     }
 
     @Override
     public Page<DirectorDto> searchDirectorByDirectorName(String directorName, Pageable pageable) {
+        PersonSearchIndex.SearchResult result = personSearchIndex.search(
+                PersonSearchIndex.Role.DIRECTOR, directorName, pageable.getOffset(), pageable.getPageSize());
+        if (result != null) {
+            List<DirectorDto> directors = result.people().stream()
+                    .map(person -> new DirectorDto(
+                        person.gender().toString().toLowerCase(),
+                        person.tmdbId(),
+                        person.name(),
+                        person.originalName(),
+                        person.profilePath()
+                    ))
+                    .collect(Collectors.toList());
+            return new PageImpl<>(directors, pageable, result.totalCount());
+        }
+
+        // 인물 인덱스 구성 전에는 DB 검색으로 대체
         Page<TmdbMember> directorPage = tmdbMemberRepository.findAllDirectorsByNameContaining(directorName, pageable);
 
         return directorPage.map(director -> new DirectorDto(
@@ -743,6 +293,16 @@ public class MovieServiceImpl implements MovieService {
 
     @Override
     public Page<ActorDto> searchActorByActorName(String actorName, Pageable pageable) {
+        PersonSearchIndex.SearchResult result = personSearchIndex.search(
+                PersonSearchIndex.Role.ACTOR, actorName, pageable.getOffset(), pageable.getPageSize());
+        if (result != null) {
+            List<ActorDto> actors = result.people().stream()
+                    .map(person -> new ActorDto(person.name(), null, person.profilePath()))
+                    .collect(Collectors.toList());
+            return new PageImpl<>(actors, pageable, result.totalCount());
+        }
+
+        // 인물 인덱스 구성 전에는 DB 검색으로 대체
         Page<TmdbMember> actorPage = tmdbMemberRepository.findAllActorsByNameContaining(actorName, pageable);
 
         return actorPage.map(actor -> new ActorDto(
@@ -807,320 +367,96 @@ public class MovieServiceImpl implements MovieService {
     }
 
     @Override
-    @Transactional(readOnly = true)
     public List<BoxOfficeMovieDto> getBoxOfficeMovieList() {
-        // KoficBoxOffice를 기준으로 연관된 모든 데이터 조회
-        List<KoficMovieDetail> boxOfficeMovies = koficMovieDetailRepository.findBoxOfficeMoviesWithAllRelations();
-
-        if (boxOfficeMovies.isEmpty()) {
-            return new ArrayList<>();
-        }
-
-        List<BoxOfficeMovieDto> result = new ArrayList<>();
-
-        for (KoficMovieDetail koficMovieDetail : boxOfficeMovies) {
-            KoficBoxOffice koficBoxOffice = koficMovieDetail.getKoficBoxOffice();
-            TmdbMovieDetail tmdbMovieDetail = koficMovieDetail.getTmdbMovieDetail();
-
-            if (tmdbMovieDetail == null || koficBoxOffice == null) {
-                continue;
-            }
-
-            // 장르 정보 추출
-            List<String> genreNames = tmdbMovieDetail.getMovieGenreMatch().stream()
-                    .map(match -> match.getMovieGenre().getName())
-                    .collect(Collectors.toList());
-
-            // 감독 정보 추출 (중복 제거)
-            List<DirectorDto> directors = tmdbMovieDetail.getTmdbMovieCrew().stream()
-                    .filter(crew -> "Director".equals(crew.getJob()))
-                    .map(crew -> crew.getTmdbMember())
-                    .filter(Objects::nonNull)
-                    .distinct()
-                    .map(member -> new DirectorDto(
-                                member.getGender().getGenderKrString(),
-                                member.getTmdbId(),
-                                member.getName(),
-                                member.getOriginalName(),
-                                member.getProfilePath() != null ? baseUrl + member.getProfilePath() : null
-                    ))
-                    .collect(Collectors.toList());
-
-                                // 가로가 긴 포스터 이미지 URL 추출 (ratio > 1.0)
-                    String posterPath = tmdbMovieDetail.getTmdbMovieImages().stream()
-                            .filter(image -> image.getImageType() == ImageType.BACKDROP
-                                    && image.getIso6391() != null
-                                    && image.getImageUrl() != null
-                                    && !image.getImageUrl().isEmpty()
-                                    && image.getRatio() != null
-                                    && image.getRatio() > 1.0)
-                            .findFirst()
-                            .map(image -> image.getImageUrl())
-                            .orElseGet(() -> 
-                                // 가로가 긴 포스터가 없으면 가로가 긴 백드롭 이미지 사용
-                                tmdbMovieDetail.getTmdbMovieImages().stream()
-                                    .filter(image -> image.getImageType() == ImageType.POSTER
-                                        && "en".equals(image.getIso6391())
-                                        && image.getImageUrl() != null
-                                        && !image.getImageUrl().isEmpty()
-                                        && image.getRatio() != null
-                                        && image.getRatio() > 1.0)
-                                    .findFirst()
-                        .map(image -> image.getBaseUrl() + image.getImageUrl())
-                                    .orElseGet(() ->
-                                        // 가로가 긴 이미지가 없으면 일반 포스터 사용
-                                        tmdbMovieDetail.getTmdbMovieImages().stream()
-                                            .filter(image -> image.getImageType() == ImageType.POSTER 
-                                                && "en".equals(image.getIso6391())
-                                                && image.getImageUrl() != null
-                                                && !image.getImageUrl().isEmpty())
-                                            .findFirst()
-                                            .map(image -> image.getBaseUrl() + image.getImageUrl())
-                                            .orElse("")
-                                    )
-                            );
-
-            // 티저 비디오 URL 추출 (Trailer 타입)
-            String teaserVideo = tmdbMovieDetail.getTmdbMovieVideo().stream()
-                    .filter(video -> "en".equals(video.getIso6391()) 
-                            && "Trailer".equals(video.getVideoType())
-                            && video.getVideoUrl() != null
-                            && !video.getVideoUrl().isEmpty())
-                    .findFirst()
-                        .map(video -> video.getBaseUrl() + video.getVideoUrl())
-                        .orElse("");
-
-            // Movie 엔티티 조회
-            Optional<Movie> movieOpt = movieRepository.findByTmdbMovieDetail(tmdbMovieDetail);
-            if (movieOpt.isEmpty()) {
-                log.warn("Movie 엔티티가 없습니다. TMDB ID: {}, 영화명: {}", tmdbMovieDetail.getId(), tmdbMovieDetail.getTitle());
-                continue; // Movie 엔티티가 없으면 스킵
-            }
-            Movie movie = movieOpt.get();
-
-            // BoxOfficeMovieDto 생성
-            BoxOfficeMovieDto boxOfficeMovieDto = new BoxOfficeMovieDto(
-                koficBoxOffice.getBoxOfficeRank(),
-                movie.getId(), // Movie 엔티티의 ID 사용
-                genreNames,
-                tmdbMovieDetail.getTitle(),
-                tmdbMovieDetail.getReleaseDate(),
-                koficBoxOffice.getCumulativeCount(),
-                directors,
-                posterPath,
-                teaserVideo
-            );
-
-            result.add(boxOfficeMovieDto);
-        }
-
-        // 박스오피스 순위로 정렬
-        result.sort(Comparator.comparing(BoxOfficeMovieDto::getRank));
+        return boxOfficeSnapshot.get().movieList();
+    }
 
-        return result;
+    @Override
+    public BoxOfficeSnapshot.Snapshot getBoxOfficeSnapshot() {
+        // KOFIC 배치 완료 시 한 번 조립해 둔 불변 스냅샷 (요청마다 DB를 조회하지 않음)
+        return boxOfficeSnapshot.get();
     }
 
     @Override
-    @Transactional(readOnly = true)
     public MovieDetailDto getMovieDetail(Long movieId, Long memberId) {
-        // Movie 엔티티 조회 (movieId로 받음)
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영화입니다. Movie ID: " + movieId));
-
-        // TmdbMovieDetail 조회 (Movie를 통해)
-        TmdbMovieDetail tmdbMovieDetail = movie.getTmdbMovieDetail();
-        
-        // tmdbMovieDetail이 null이면 koficMovieDetail을 통해 tmdbMovieDetail을 찾음
-        if (tmdbMovieDetail == null) {
-            KoficMovieDetail koficMovieDetail = movie.getKoficMovieDetail();
-            if (koficMovieDetail == null) {
-                throw new IllegalArgumentException("영화 정보가 없습니다. Movie ID: " + movieId);
-            }
-            tmdbMovieDetail = koficMovieDetail.getTmdbMovieDetail();
-        if (tmdbMovieDetail == null) {
-            throw new IllegalArgumentException("TMDB 영화 정보가 없습니다. Movie ID: " + movieId);
-            }
-        }
-
-        // 장르 정보 추출
-        List<Long> genreIds = movieGenreMatchRepository.findGenreIdsByTmdbId(tmdbMovieDetail.getId());
-        List<String> genreNames = movieGenreRepository.findNamesByGenreIds(genreIds);
-
-        // 이미지 정보 추출
-        // 백드롭 이미지 URL 추출 (ratio가 1~2 & image_type = 'BACKDROP' & iso_639_1 = 'en'인 것 중 첫번째)
-        String backdropPath = tmdbMovieImageRepository.findFirstByTmdbMovieDetail_IdAndImageTypeAndIso6391AndRatioBetweenOrderByIdAsc(
-                tmdbMovieDetail.getId(), ImageType.BACKDROP, "en", 1.0, 2.0)
-                .map(image -> image.getBaseUrl() + image.getImageUrl())
-                .orElse(null);
-
-        // 포스터 이미지 URL 추출 (ratio가 0~1 & image_type = 'POSTER' & iso_639_1 = 'en'인 것 중 첫번째)
-        String posterPath = tmdbMovieImageRepository.findFirstByTmdbMovieDetail_IdAndImageTypeAndIso6391AndRatioBetweenOrderByIdAsc(
-                tmdbMovieDetail.getId(), ImageType.POSTER, "en", 0.0, 1.0)
-                .map(image -> image.getBaseUrl() + image.getImageUrl())
-                .orElse(null);
-
-        // 스틸컷 이미지 URL 추출 (iso_639_1이 null인 것)
-        List<TmdbMovieImages> stillcuts = tmdbMovieImageRepository.findAllByTmdbMovieDetail_IdAndIso6391IsNull(tmdbMovieDetail.getId());
-        Map<String, String> stillcutPath = stillcuts.stream()
-                .collect(Collectors.toMap(
-                    image -> String.valueOf(image.getId()),
-                    image -> image.getBaseUrl() + image.getImageUrl()
-                ));
-
-        // 감독 정보 추출
-        List<Long> directorIds = tmdbMovieCrewRepository.findDirectorIdsByTmdbId(tmdbMovieDetail.getId());
-        List<DirectorDto> directors = directorIds.stream()
-                .map(id -> {
-                    TmdbMember member = tmdbMemberRepository.findById(id).orElseThrow();
-                    String profilePath = member.getProfilePath() != null ? baseUrl + member.getProfilePath() : null;
-                    return new DirectorDto(
-                            member.getGender().getGenderKrString(),
-                            member.getTmdbId(),
-                            member.getName(),
-                            member.getOriginalName(),
-                            profilePath
-                    );
-                })
-                .collect(Collectors.toList());
-
-        // 배우 정보 추출
-        List<TmdbMovieCast> casts = tmdbMovieCastRepository.findAllByTmdbMovieDetailId(tmdbMovieDetail.getId());
-        List<ActorDto> actors = casts.stream()
-                .map(cast -> {
-                    TmdbMember member = cast.getTmdbMember();
-                    String profilePath = member.getProfilePath() != null ? baseUrl + member.getProfilePath() : null;
-                    return new ActorDto(
-                            member.getName(),
-                            cast.getCastCharacter(),
-                            profilePath
-                    );
-                })
-                .collect(Collectors.toList());
-
-        // 비디오 URL 추출 (iso_639_1 = 'en' & video_type = 'Trailer')
-        String videoPath = tmdbVideoRepository.findFirstByTmdbMovieDetail_IdAndIso6391AndVideoTypeOrderByIdAsc(
-                tmdbMovieDetail.getId(), "en", "Trailer")
-                .map(video -> video.getVideoUrl())
-                .orElse(null);
-
-        // OTT 플랫폼 정보 추출
-        List<TmdbMovieDetailOtt> movieOtts = tmdbMovieDetailOttRepository.findAllByTmdbMovieDetailId(tmdbMovieDetail.getId());
-        List<OttDto> ottList = movieOtts.stream()
-                .map(ott -> new OttDto(
-                        ott.getOttPlatform().getTmdbOttId().intValue(),
-                        ott.getOttPlatform().getName(),
-                        null // 로고 경로는 필요시 추가
-                ))
-                .collect(Collectors.toList());
-
-        // 리뷰 수 계산
-        int reviewCount = reviewRepository.findAllByMovieId(movieId).size();
-
-        // 위시리스트 수 계산
-        int wishListCount = movieWishlistRepository.countByMovie(movie);
-
-        // 평균 점수 계산
-        double averageScore = 0.0;
-        CineverScore cineverScore = cineverScoreRepository.findByMovie(movie).orElse(null);
-        if (cineverScore != null && cineverScore.getReviewCount() > 0) {
-            averageScore = cineverScore.getScore() / (double) cineverScore.getReviewCount();
-        }
-
-        // 로그인한 사용자의 리뷰 여부 확인
-        boolean isReviewed = false;
-        if (memberId != null) {
-            Member member = userRepository.findById(memberId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-            isReviewed = reviewRepository.findByMemberAndMovie(member, movie).isPresent();
-        }
-
-        // 로그인한 사용자의 위시리스트 여부 확인
-        boolean isWishlisted = false;
-        if (memberId != null) {
-            isWishlisted = movieWishlistRepository.existsByMemberIdAndMovieId(memberId, movieId);
-        }
-
-        // 국가 정보 하드코딩
-        String country = "한국";
-
-        // 언어 정보 추출
-        Map<String, String> languages = new HashMap<>();
-        languages.put("original", tmdbMovieDetail.getOriginalLanguage());
-
-        // 제작사 정보 추출
-        List<CompanyMovie> companyMovies = companyMovieRepository.findAllByMovieId(movieId);
-        List<ProductionCompanyDto> productionCompanies = companyMovies.stream()
-                .map(companyMovie -> new ProductionCompanyDto(
-                        companyMovie.getProductCompany().getId().intValue(),
-                        companyMovie.getProductCompany().getName(),
-                        companyMovie.getProductCompany().getLogoPath(),
-                        companyMovie.getProductCompany().getOriginCountry()
-                ))
-                .collect(Collectors.toList());
-
-        // 키워드 맵 조회
-        Map<String, Integer> keywordMap = keywordService.getMovieKeywordMap(movieId);
-
-        // MovieDetailDto 생성 및 반환 (movieId 사용)
-        return new MovieDetailDto(
-            tmdbMovieDetail.getIsAdult(),
-            tmdbMovieDetail.getReleaseDate(),
-            averageScore,
-            tmdbMovieDetail.getTitle(),
-            movieId, // Movie ID 사용
-            genreNames,
-            backdropPath,
-            tmdbMovieDetail.getVoteAverage(),
-            country,
-            tmdbMovieDetail.getOverview(),
-            reviewCount,
-            wishListCount,
-            ottList,
-            isReviewed,
-            isWishlisted,
-            productionCompanies,
-            directors,
-            actors,
-            videoPath,
-            posterPath,
-            stillcutPath,
-            tmdbMovieDetail.getRuntime(),
-            languages,
-            keywordMap
-        );
+        // 조회자와 무관한 본문은 캐시에서 가져오고, 조회자별 플래그(isReviewed, isWishlisted)만 덮어씀
+        MovieDetailDto body = movieDetailCache.get(movieId, movieDetailAssembler::assembleBody);
+        return movieDetailAssembler.overlayViewer(body, memberId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<MovieDto> getLatestMovies(Pageable pageable) {
-        // 기존 메소드를 사용하되 Movie ID를 올바르게 변환 (N+1 최적화)
-        Page<MovieDto> originalPage = tmdbMovieDetailRepository.findAllWithDetailsOrderByReleaseDateDesc(pageable);
-        
-        List<MovieDto> correctedMovieDtos = correctMovieIdsBulk(originalPage.getContent());
-        
-        return new PageImpl<>(correctedMovieDtos, pageable, originalPage.getTotalElements());
+        // 배치에서 미리 계산해 둔 movie_card를 인덱스 순서대로 조회 (movieId도 이미 Movie ID)
+        return movieCardRepository.findLatest(pageable).map(movieCardConverter::toMovieDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<MovieDto> getPopularMovies(Pageable pageable) {
-        // 기존 메소드를 사용하되 Movie ID를 올바르게 변환 (N+1 최적화)
-        Page<MovieDto> originalPage = tmdbMovieDetailRepository.findAllWithDetailsOrderByPopularityDesc(pageable);
-        
-        List<MovieDto> correctedMovieDtos = correctMovieIdsBulk(originalPage.getContent());
-        
-        return new PageImpl<>(correctedMovieDtos, pageable, originalPage.getTotalElements());
+        // 배치에서 미리 계산해 둔 movie_card를 인덱스 순서대로 조회 (movieId도 이미 Movie ID)
+        return movieCardRepository.findPopular(pageable).map(movieCardConverter::toMovieDto);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<MovieDto> getTopRatedMovies(Pageable pageable) {
-        // 기존 메소드를 사용하되 Movie ID를 올바르게 변환 (N+1 최적화)
-        Page<MovieDto> originalPage = tmdbMovieDetailRepository.findAllWithDetailsOrderByVoteScoreDesc(pageable);
-        
-        List<MovieDto> correctedMovieDtos = correctMovieIdsBulk(originalPage.getContent());
-        
-        return new PageImpl<>(correctedMovieDtos, pageable, originalPage.getTotalElements());
+        // 배치에서 미리 계산해 둔 movie_card를 인덱스 순서대로 조회 (movieId도 이미 Movie ID)
+        return movieCardRepository.findTopRated(pageable).map(movieCardConverter::toMovieDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public MovieScrollResponseDto scrollMovies(MovieCardSortType sortType, String cursor, int size) {
+        if (size <= 0 || size > MAX_SCROLL_SIZE) {
+            throw new ValidationException("size는 1 이상 " + MAX_SCROLL_SIZE + " 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        // 다음 페이지 존재 여부를 count 없이 판단하기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<MovieCard> cards = findMovieCards(sortType, cursor, limit);
+
+        boolean hasNext = cards.size() > size;
+        if (hasNext) {
+            cards = cards.subList(0, size);
+        }
+        String nextCursor = hasNext ? movieCardCursorCodec.encode(sortType, cards.get(cards.size() - 1)) : null;
+
+        return new MovieScrollResponseDto(movieCardConverter.toMovieDtos(cards), nextCursor, hasNext);
+    }
+
+    @Override
+    public AutocompleteResponseDto autocomplete(String query, AutocompleteType type, int size) {
+        if (size <= 0 || size > AutocompleteIndex.MAX_SIZE) {
+            throw new ValidationException("size는 1 이상 " + AutocompleteIndex.MAX_SIZE + " 이하여야 합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        // type이 없으면 영화/인물/리뷰어 모두 조회 (DB 접근 없이 인메모리 인덱스만 사용)
+        return new AutocompleteResponseDto(
+                type == null || type == AutocompleteType.MOVIE ? autocompleteIndex.search(AutocompleteType.MOVIE, query, size) : new ArrayList<>(),
+                type == null || type == AutocompleteType.PERSON ? autocompleteIndex.search(AutocompleteType.PERSON, query, size) : new ArrayList<>(),
+                type == null || type == AutocompleteType.REVIEWER ? autocompleteIndex.search(AutocompleteType.REVIEWER, query, size) : new ArrayList<>()
+        );
+    }
+
+    private List<MovieCard> findMovieCards(MovieCardSortType sortType, String cursor, Pageable limit) {
+        if (cursor == null || cursor.isBlank()) {
+            return switch (sortType) {
+                case LATEST -> movieCardRepository.findLatestFirst(limit);
+                case POPULAR -> movieCardRepository.findPopularFirst(limit);
+                case TOP_RATED -> movieCardRepository.findTopRatedFirst(limit);
+            };
+        }
+
+        MovieCardCursorCodec.Cursor decoded = movieCardCursorCodec.decode(sortType, cursor);
+        return switch (sortType) {
+            case LATEST -> movieCardRepository.findLatestAfter(
+                    new Date(decoded.sortKeyAsLong()), decoded.movieId(), limit);
+            case POPULAR -> movieCardRepository.findPopularAfter(
+                    decoded.sortKeyAsDouble(), decoded.movieId(), limit);
+            case TOP_RATED -> movieCardRepository.findTopRatedAfter(
+                    decoded.sortKeyAsDouble(), decoded.movieId(), limit);
+        };
     }
 
     private MovieDto convertToMovieDto(TmdbMovieDetail tmdbMovieDetail) {
@@ -1386,64 +722,6 @@ public class MovieServiceImpl implements MovieService {
         );
     }
 
-    /**
-     * MovieDto 리스트의 ID를 TmdbMovieDetail ID에서 Movie 엔티티 ID로 일괄 변환 (N+1 최적화)
-     */
-    private List<MovieDto> correctMovieIdsBulk(List<MovieDto> originalDtos) {
-        if (originalDtos == null || originalDtos.isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        // 모든 TmdbMovieDetail ID 수집
-        List<Long> tmdbMovieDetailIds = originalDtos.stream()
-                .map(MovieDto::getMovieId)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-        
-        if (tmdbMovieDetailIds.isEmpty()) {
-            return new ArrayList<>();
-        }
-        
-        // 모든 Movie 엔티티를 한 번에 조회 (TmdbMovieDetail ID로)
-        List<Movie> movies = movieRepository.findAllByTmdbMovieDetailIds(tmdbMovieDetailIds);
-        
-        // TmdbMovieDetail ID -> Movie ID 매핑 생성
-        Map<Long, Long> tmdbToMovieIdMap = movies.stream()
-                .filter(movie -> movie.getTmdbMovieDetail() != null)
-                .collect(Collectors.toMap(
-                    movie -> movie.getTmdbMovieDetail().getId(),
-                    Movie::getId,
-                    (existing, replacement) -> existing // 중복 시 기존 값 유지
-                ));
-        
-        // MovieDto 리스트 변환
-        return originalDtos.stream()
-                .map(originalDto -> {
-                    Long tmdbMovieDetailId = originalDto.getMovieId();
-                    Long movieId = tmdbToMovieIdMap.get(tmdbMovieDetailId);
-                    
-                    if (movieId == null) {
-                        log.warn("Movie 엔티티를 찾을 수 없습니다. TMDB ID: {}", tmdbMovieDetailId);
-                        return null; // Movie가 없으면 null 반환 (필터링됨)
-                    }
-                    
-                    // 새로운 MovieDto 생성 (Movie 엔티티 ID 사용)
-                    return new MovieDto(
-                        originalDto.getIsAdult(),
-                        originalDto.getReleaseDate(),
-                        originalDto.getTmdbScore(),
-                        originalDto.getTitle(),
-                        movieId, // Movie 엔티티의 ID 사용
-                        originalDto.getGenre(),
-                        originalDto.getPosterPath(),
-                        originalDto.getPopularity(),
-                        originalDto.getDirector()
-                    );
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-    }
-
     @Transactional
     protected void createMissingMovieEntities(List<KoficMovieDetail> koficMovieDetails) {
         for (KoficMovieDetail koficMovieDetail : koficMovieDetails) {
@@ -1,6 +1,7 @@
 package autoever_2st.project.movie.service.impl;
 
 
+import autoever_2st.project.movie.component.MovieDetailCache;
 import autoever_2st.project.movie.repository.MovieWishlistRepository;
 import autoever_2st.project.movie.entity.Movie;
 import autoever_2st.project.movie.entity.MovieWishlist;
@@ -18,6 +19,7 @@ public class MovieWishlistServiceImpl implements MovieWishlistService {
     private final MovieRepository movieRepository;
     private final MovieWishlistRepository movieWishlistRepository;
     private final UserRepository userRepository;
+    private final MovieDetailCache movieDetailCache;
 
     @Override
     @Transactional
@@ -37,6 +39,7 @@ public class MovieWishlistServiceImpl implements MovieWishlistService {
         wishlist.setMovie(movie);
 
         movieWishlistRepository.save(wishlist);
+        movieDetailCache.invalidate(movieId);
     }
 
     @Override
@@ -47,6 +50,7 @@ public class MovieWishlistServiceImpl implements MovieWishlistService {
                 .orElseThrow(() -> new IllegalArgumentException("찜하지 않은 영화입니다."));
 
         movieWishlistRepository.delete(wishlist);
+        movieDetailCache.invalidate(movieId);
     }
 
 }
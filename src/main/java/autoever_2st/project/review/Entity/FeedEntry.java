@@ -0,0 +1,42 @@
+package autoever_2st.project.review.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로잉 피드 타임라인 (회원별로 받아볼 리뷰 참조)
+ * 리뷰 작성 시 작성자의 팔로워 수만큼 FeedDao로 한 번에 적재되며, 애플리케이션에서는 읽기 전용으로 사용
+ * 최신순 페이지 조회는 (member_id, review_id) 유니크 인덱스를 역순으로 읽음
+ */
+@Entity
+@Table(name = "feed_entry",
+       uniqueConstraints = @UniqueConstraint(name = "uk_feed_entry_member_review", columnNames = {"member_id", "review_id"}),
+       indexes = {
+               @Index(name = "idx_feed_entry_review", columnList = "review_id"),
+               @Index(name = "idx_feed_entry_member_author", columnList = "member_id, author_id")
+       })
+@Getter
+@NoArgsConstructor
+public class FeedEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 피드를 받아보는 회원
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    // 리뷰 작성자 (언팔로우 시 정리용)
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,36 @@
+package autoever_2st.project.review.Entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 정규화된 리뷰 내용 해시별 키워드 분석 결과 (키워드 분석 캐시의 영속 계층)
+ * - 모델이 바뀌어도 오래된 결과가 남지 않도록 생성 후 30일이 지나면 만료
+ */
+@Document(collection = "keyword_analysis_cache")
+@Getter
+@Setter
+@NoArgsConstructor
+public class KeywordAnalysisResult {
+
+    @Id
+    private String contentHash;
+
+    private List<String> keywords;
+
+    @Indexed(expireAfter = "30d")
+    private LocalDateTime createdAt;
+
+    public KeywordAnalysisResult(String contentHash, List<String> keywords) {
+        this.contentHash = contentHash;
+        this.keywords = keywords;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -8,9 +8,12 @@ import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
-import java.util.Set;
 
+/**
+ * 키워드별 리뷰 수
+ * - 리뷰별 키워드는 review_keywords가 원본이므로 리뷰 ID 목록은 더 이상 쌓지 않음 (예전 문서의 reviewIds는 그대로 둠)
+ * - ReviewKeywordWriter에서 $inc 벌크 연산으로만 갱신
+ */
 @Document(collection = "keyword_statistics")
 @Getter
 @Setter
@@ -25,31 +28,7 @@ public class KeywordStatistics {
     
     private Integer count;
     
-    private Set<Long> reviewIds;
-    
     private LocalDateTime createdAt;
     
     private LocalDateTime updatedAt;
-
-    public KeywordStatistics(String keyword) {
-        this.keyword = keyword;
-        this.count = 0;
-        this.reviewIds = new HashSet<>();
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
-    }
-    
-    public void incrementCount(Long reviewId) {
-        if (this.reviewIds.add(reviewId)) {
-            this.count++;
-            this.updatedAt = LocalDateTime.now();
-        }
-    }
-    
-    public void decrementCount(Long reviewId) {
-        if (this.reviewIds.remove(reviewId)) {
-            this.count--;
-            this.updatedAt = LocalDateTime.now();
-        }
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package autoever_2st.project.review.Entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 영화별 키워드 히스토그램 (키워드 → 해당 키워드를 가진 리뷰 수)
+ * - ReviewKeywordWriter가 리뷰 키워드 반영 시 $inc 로 증분 갱신, 키워드 클라우드 조회는 영화 ID 한 건 조회
+ * - Mongo 필드명에 쓸 수 없는 '.'과 맨 앞 '$'는 전각 문자로 바꿔 저장 (encodeKey / decodeKey)
+ */
+@Document(collection = "movie_keyword_histograms")
+@Getter
+@Setter
+@NoArgsConstructor
+public class MovieKeywordHistogram {
+
+    @Id
+    private Long movieId;
+
+    private Map<String, Integer> keywords;
+
+    private LocalDateTime updatedAt;
+
+    public MovieKeywordHistogram(Long movieId, Map<String, Integer> keywords) {
+        this.movieId = movieId;
+        this.keywords = keywords;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static String encodeKey(String keyword) {
+        String encoded = keyword.replace(".", "．");
+        return encoded.startsWith("$") ? "＄" + encoded.substring(1) : encoded;
+    }
+
+    public static String decodeKey(String key) {
+        String decoded = key.replace("．", ".");
+        return decoded.startsWith("＄") ? "$" + decoded.substring(1) : decoded;
+    }
+}
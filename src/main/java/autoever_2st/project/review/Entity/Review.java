@@ -32,4 +32,11 @@ public class Review extends TimeStamp {
     @OneToMany(mappedBy = "review", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReviewLike> likes = new ArrayList<>();
 
+    // 좋아요 수 (ReviewLikeService에서 좋아요 추가/취소와 같은 트랜잭션으로 원자적 증감)
+    // 새 리뷰는 0으로 insert, 이후 변경감지 flush가 메모리의 예전 값으로 덮어쓰지 않도록 update에서 제외
+    // 기본값 없이 추가된 컬럼이므로 추가 전 리뷰는 NULL → 기동 시 또는 첫 좋아요 시 review_like 기준으로 채움
+    // (DEFAULT 0을 두면 기존 리뷰가 0으로 채워져 실제 좋아요 수로 복구되지 않음)
+    @Column(name = "like_count", updatable = false)
+    private Long likeCount = 0L;
+
 }
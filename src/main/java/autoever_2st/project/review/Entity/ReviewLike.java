@@ -6,6 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_review_like_review_member", columnNames = {"review_id", "member_id"}))
 @Getter
 @Setter
 public class ReviewLike {
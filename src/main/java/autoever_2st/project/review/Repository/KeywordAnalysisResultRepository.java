@@ -0,0 +1,9 @@
+package autoever_2st.project.review.Repository;
+
+import autoever_2st.project.review.Entity.KeywordAnalysisResult;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface KeywordAnalysisResultRepository extends MongoRepository<KeywordAnalysisResult, String> {
+}
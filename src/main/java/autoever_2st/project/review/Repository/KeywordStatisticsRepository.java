@@ -13,6 +13,4 @@ public interface KeywordStatisticsRepository extends MongoRepository<KeywordStat
     Optional<KeywordStatistics> findByKeyword(String keyword);
     
     List<KeywordStatistics> findByKeywordIn(List<String> keywords);
-    
-    List<KeywordStatistics> findByReviewIdsContaining(Long reviewId);
 } 
\ No newline at end of file
@@ -0,0 +1,14 @@
+package autoever_2st.project.review.Repository;
+
+import autoever_2st.project.review.Entity.MovieKeywordHistogram;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface MovieKeywordHistogramRepository extends MongoRepository<MovieKeywordHistogram, Long> {
+
+    // 재구성 시작 이후 저장/증분 갱신되지 않은 히스토그램 삭제
+    long deleteByUpdatedAtBefore(LocalDateTime updatedAt);
+}
@@ -4,6 +4,7 @@ import autoever_2st.project.review.entity.ReviewKeyword;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,8 +12,12 @@ import java.util.Optional;
 public interface ReviewKeywordRepository extends MongoRepository<ReviewKeyword, String> {
     
     Optional<ReviewKeyword> findByReviewId(Long reviewId);
+
+    boolean existsByReviewId(Long reviewId);
     
     List<ReviewKeyword> findByReviewIdIn(List<Long> reviewIds);
     
     void deleteByReviewId(Long reviewId);
+
+    void deleteByReviewIdIn(Collection<Long> reviewIds);
 } 
\ No newline at end of file
@@ -4,7 +4,11 @@ import autoever_2st.project.review.Entity.Review;
 import autoever_2st.project.review.Entity.ReviewLike;
 import autoever_2st.project.user.Entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
@@ -16,4 +20,8 @@ public interface ReviewLikeRepository extends JpaRepository<ReviewLike, Long> {
 
     Long countByReviewId(Long reviewId);
 
+    // 주어진 리뷰 중 내가 좋아요한 리뷰 ID
+    @Query("SELECT rl.review.id FROM ReviewLike rl WHERE rl.member.id = :memberId AND rl.review.id IN :reviewIds")
+    List<Long> findLikedReviewIds(@Param("memberId") Long memberId, @Param("reviewIds") Collection<Long> reviewIds);
+
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,13 +18,12 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 //    // ✅ 영화와 회원으로 리뷰 찾기
 //    Optional<Review> findByMemberAndMovie(Member member, Movie movie);
 //    List<Review> findAllByMovieId(Long movieId);
-// 특정 영화에 대한 모든 리뷰 가져오기 (member, reviewDetail, likes fetch join 포함)
+// 특정 영화에 대한 모든 리뷰 가져오기 (member, reviewDetail fetch join 포함, 좋아요 수는 review.like_count 사용)
 
     @Query("""
         SELECT DISTINCT r FROM Review r
         JOIN FETCH r.member m
         JOIN FETCH r.reviewDetail d
-        LEFT JOIN FETCH r.likes l
         WHERE r.movie.id = :movieId
     """)
     List<Review> findAllByMovieId(@Param("movieId") Long movieId);
@@ -69,6 +69,33 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     boolean existsByMemberAndMovie(Member member, Movie movie);
 
+    boolean existsByMemberIdAndMovieId(Long memberId, Long movieId);
+
+    int countByMovieId(Long movieId);
+
+    @Query("SELECT r.movie.id FROM Review r WHERE r.id = :reviewId")
+    Optional<Long> findMovieIdById(@Param("reviewId") Long reviewId);
+
+    // [리뷰 ID, 영화 ID, 리뷰 내용] - 삭제되지 않은 리뷰만 반환
+    @Query("SELECT r.id, r.movie.id, rd.content FROM Review r LEFT JOIN r.reviewDetail rd WHERE r.id IN :reviewIds")
+    List<Object[]> findMovieIdAndContentByIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    // 팔로잉 피드 페이지 조립용 (작성자, 권한, 영화 상세, 리뷰 상세 fetch join)
+    @Query("""
+    SELECT r FROM Review r
+    JOIN FETCH r.member m
+    LEFT JOIN FETCH m.role
+    JOIN FETCH r.movie mv
+    JOIN FETCH mv.tmdbMovieDetail d
+    JOIN FETCH r.reviewDetail rd
+    WHERE r.id IN :reviewIds
+""")
+    List<Review> findFeedReviewsByIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    // [리뷰 ID, 영화 ID] 전체 - 영화별 키워드 히스토그램 재구성용
+    @Query("SELECT r.id, r.movie.id FROM Review r")
+    List<Object[]> findAllMovieIdPairs();
+
     List<Review> findByMemberIdIn(List<Long> memberIds);
 
     // 전체 최신순
@@ -6,22 +6,22 @@ import java.util.Map;
 public interface KeywordService {
     
     /**
-     * 리뷰 내용을 분석하여 키워드를 추출하고 저장
+     * 리뷰 작성/수정 시 키워드 분석 요청 (커밋 후 비동기로 분석하여 기존 키워드를 교체)
      */
-    List<String> analyzeAndSaveKeywords(Long reviewId, String reviewContent);
-    
+    void requestKeywordAnalysis(Long reviewId, String reviewContent);
+
     /**
-     * 리뷰 키워드 업데이트
+     * 리뷰 수정 시 키워드 재분석 요청 (정규화한 내용이 같고 저장된 키워드가 있으면 기존 키워드 유지)
      */
-    List<String> updateReviewKeywords(Long reviewId, String reviewContent);
+    void updateReviewKeywords(Long reviewId, String oldContent, String newContent);
     
     /**
-     * 리뷰 삭제 시 키워드 정리
+     * 리뷰 삭제 시 키워드 정리 (트랜잭션 안이면 커밋 후 정리)
      */
-    void deleteReviewKeywords(Long reviewId);
+    void deleteReviewKeywords(Long reviewId, Long movieId);
     
     /**
-     * 특정 영화의 키워드 맵 조회
+     * 특정 영화의 키워드 맵 조회 (영화별 키워드 히스토그램 한 건 조회, 리뷰 수 내림차순)
      */
     Map<String, Integer> getMovieKeywordMap(Long movieId);
     
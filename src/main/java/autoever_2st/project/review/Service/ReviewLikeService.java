@@ -1,48 +1,65 @@
 package autoever_2st.project.review.Service;
 
 
-import autoever_2st.project.review.Entity.Review;
-import autoever_2st.project.review.Entity.ReviewLike;
-import autoever_2st.project.review.Repository.ReviewLikeRepository;
+import autoever_2st.project.batch.dao.ReviewLikeDao;
 import autoever_2st.project.review.Repository.ReviewRepository;
-import autoever_2st.project.user.Entity.Member;
 import autoever_2st.project.user.Repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewLikeService {
     private final ReviewRepository reviewRepository;
-    private final ReviewLikeRepository reviewLikeRepository;
     private final UserRepository userRepository;
+    private final ReviewLikeDao reviewLikeDao;
 
     @Transactional
     public void likeReview(Long reviewId, Long memberId) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
-
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
-
-        // 중복 좋아요 방지
-        if (!reviewLikeRepository.existsByReviewAndMember(review, member)) {
-            ReviewLike like = new ReviewLike();
-            like.setReview(review);
-            like.setMember(member);
-            reviewLikeRepository.save(like);
+        validate(reviewId, memberId);
+
+        // 중복 좋아요 방지 (유니크 키) - 실제로 추가된 경우에만 좋아요 수 증가
+        if (reviewLikeDao.insert(reviewId, memberId)) {
+            reviewLikeDao.addLikeCount(reviewId, 1);
         }
     }
 
     @Transactional
     public void unlikeReview(Long reviewId, Long memberId) {
-        Review review = reviewRepository.findById(reviewId)
-                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다."));
+        validate(reviewId, memberId);
+
+        if (reviewLikeDao.delete(reviewId, memberId)) {
+            reviewLikeDao.addLikeCount(reviewId, -1);
+        }
+    }
 
-        Member member = userRepository.findById(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("회원 정보를 찾을 수 없습니다."));
+    /**
+     * 애플리케이션 기동 시 좋아요 수가 비어 있는 리뷰를 백그라운드로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingLikeCounts() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                reviewLikeDao.fillMissingLikeCounts();
+            } catch (Exception e) {
+                log.error("리뷰 좋아요 수 채움 실패: {}", e.getMessage(), e);
+            }
+        });
+    }
 
-        reviewLikeRepository.deleteByReviewAndMember(review, member);
+    private void validate(Long reviewId, Long memberId) {
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new IllegalArgumentException("리뷰를 찾을 수 없습니다.");
+        }
+        if (!userRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("회원 정보를 찾을 수 없습니다.");
+        }
     }
 }
@@ -6,14 +6,16 @@ import autoever_2st.project.admin.dto.AdminReviewDto;
 import autoever_2st.project.admin.dto.AdminReviewItemDto;
 import autoever_2st.project.admin.dto.request.ReviewMultiBlockRequestDto;
 import autoever_2st.project.admin.dto.AdminReviewerDto;
+import autoever_2st.project.batch.dao.CineverScoreDao;
 import autoever_2st.project.external.entity.tmdb.TmdbMovieDetail;
 import autoever_2st.project.external.entity.tmdb.TmdbMovieImages;
-import autoever_2st.project.external.repository.tmdb.MovieGenreMatchRepository;
-import autoever_2st.project.movie.repository.CineverScoreRepository;
-import autoever_2st.project.movie.entity.CineverScore;
+import autoever_2st.project.movie.component.MovieDetailCache;
 import autoever_2st.project.movie.repository.MovieRepository;
 import autoever_2st.project.review.Repository.ReviewLikeRepository;
-import autoever_2st.project.user.Repository.follow.MemberFollowingRepository;
+import autoever_2st.project.review.component.FollowingFeed;
+import autoever_2st.project.review.component.FollowingReviewHydrator;
+import autoever_2st.project.review.dto.response.FollowingReviewListResponseDto;
+import autoever_2st.project.review.event.ReviewRatingChangedEvent;
 import autoever_2st.project.user.dto.ReviewFromFollowingResponseDto;
 import org.springframework.transaction.annotation.Transactional;
 import autoever_2st.project.movie.entity.Movie;
@@ -26,16 +28,17 @@ import autoever_2st.project.review.dto.request.ReviewRequestDto;
 import autoever_2st.project.review.dto.request.UserReviewDto;
 import autoever_2st.project.review.dto.request.UserReviewListResponseDto;
 import autoever_2st.project.user.Entity.Member;
+import autoever_2st.project.user.Entity.MemberGenrePreference;
 import autoever_2st.project.user.Repository.MemberGenrePreferenceRepository;
 import autoever_2st.project.user.Repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -45,11 +48,13 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final MovieRepository movieRepository;
     private final MemberGenrePreferenceRepository memberGenrePreferenceRepository;
-    private final CineverScoreRepository cineverScoreRepository;
+    private final CineverScoreDao cineverScoreDao;
     private final ReviewLikeRepository reviewLikeRepository;
-    private final MemberFollowingRepository memberFollowingRepository;
-    private final MovieGenreMatchRepository movieGenreMatchRepository;
     private final KeywordService keywordService;
+    private final MovieDetailCache movieDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FollowingFeed followingFeed;
+    private final FollowingReviewHydrator followingReviewHydrator;
 
     @Transactional
     public long createReview(Long movieId, ReviewRequestDto reviewRequestDto) {
@@ -81,25 +86,20 @@ public class ReviewService {
         reviewDetailRepository.save(detail);
 
 
-        // 3. CineverScore 갱신 또는 새로 생성
-        CineverScore cineverScore = cineverScoreRepository.findByMovie(movie)
-                .orElseGet(() -> {
-                    CineverScore newScore = new CineverScore();
-                    newScore.setMovie(movie);
-                    newScore.setScore(0.0);
-                    newScore.setReviewCount(0);
-                    return newScore;
-                });
+        // 3. CineverScore 누적 (없으면 생성) - SQL 한 문장으로 원자적으로 증가
+        cineverScoreDao.addReview(movieId, reviewRequestDto.getRating());
 
-        // score 누적 및 카운트 증가
-        double rating = reviewRequestDto.getRating();
-        cineverScore.setScore(cineverScore.getScore() + rating);
-        cineverScore.setReviewCount(cineverScore.getReviewCount() + 1);
+        // 4. 키워드 분석 요청 (커밋 후 KeywordExtractionQueue에서 비동기 처리)
+        keywordService.requestKeywordAnalysis(review.getId(), reviewRequestDto.getContext());
 
-        cineverScoreRepository.save(cineverScore); // 새로 만든 경우든 기존이든 save()
+        // 5. 영화 상세 캐시 무효화 (평점, 리뷰 수, 키워드)
+        movieDetailCache.invalidate(movieId);
 
-        // 4. 키워드 분석 및 저장
-        keywordService.analyzeAndSaveKeywords(review.getId(), reviewRequestDto.getContext());
+        // 6. 팔로워 피드에 적재
+        followingFeed.onReviewCreated(review.getId(), member.getId());
+
+        // 7. 장르 선호도 증분 갱신 (커밋 직전 GenrePreferenceUpdater에서 처리)
+        eventPublisher.publishEvent(ReviewRatingChangedEvent.created(member.getId(), movieId, reviewRequestDto.getRating()));
 
         return review.getId(); // 저장된 리뷰 ID 반환
     }
@@ -118,8 +118,9 @@ public class ReviewService {
         ReviewDetail detail = reviewDetailRepository.findByReview(review)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰 디테일이 없습니다."));
 
-        // 기존 평점 저장
+        // 기존 평점, 내용 저장
         double oldRating = detail.getRating();
+        String oldContent = detail.getContent();
         double newRating = reviewRequestDto.getRating();
 
         // 리뷰 내용 및 평점 업데이트
@@ -130,17 +131,17 @@ public class ReviewService {
         // 수정일자 필요 시 추가
         detail.setCreatedAt(Date.from(LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant())); // 기존 createdAt을 수정시각으로 덮어쓰기
 
-        // CineverScore 갱신
-        CineverScore cineverScore = cineverScoreRepository.findByMovie(movie)
-                .orElseThrow(() -> new IllegalStateException("CineverScore가 존재하지 않습니다."));
+        // CineverScore 갱신 (기존 점수 빼고 새 점수 더하기를 원자적으로 처리)
+        cineverScoreDao.replaceRating(movieId, oldRating, newRating);
 
-        // 기존 점수 빼고, 새 점수 더하기
-        cineverScore.setScore(cineverScore.getScore() - oldRating + newRating);
+        // 키워드 재분석 요청 (내용이 바뀐 경우에만, 커밋 후 비동기로 기존 키워드 교체)
+        keywordService.updateReviewKeywords(review.getId(), oldContent, reviewRequestDto.getContext());
 
-        cineverScoreRepository.save(cineverScore);
+        // 영화 상세 캐시 무효화
+        movieDetailCache.invalidate(movieId);
 
-        // 키워드 업데이트
-        keywordService.updateReviewKeywords(review.getId(), reviewRequestDto.getContext());
+        // 장르 선호도 증분 갱신
+        eventPublisher.publishEvent(ReviewRatingChangedEvent.updated(member.getId(), movieId, oldRating, newRating));
     }
 
     @Transactional
@@ -154,25 +155,22 @@ public class ReviewService {
         Movie movie = review.getMovie();
 
 
-        // CineverScore 업데이트
-        CineverScore score = cineverScoreRepository.findByMovie(movie)
-                .orElseThrow(() -> new IllegalStateException("CineverScore가 존재하지 않습니다."));
-
-        // score와 count 감소
-        score.setScore(score.getScore() - rating);
-        score.setReviewCount(score.getReviewCount() - 1);
-
-        // score가 0이 되었을 경우 삭제하고 싶다면 이 부분 추가 (선택)
-        // if (score.getReviewCount() <= 0) {
-        //     cineverScoreRepository.delete(score);
-        // } else {
-        cineverScoreRepository.save(score);
-        // }
+        // CineverScore 업데이트 (score와 count를 원자적으로 감소)
+        cineverScoreDao.removeReview(movie.getId(), rating);
 
         // 키워드 삭제
-        keywordService.deleteReviewKeywords(review.getId());
+        keywordService.deleteReviewKeywords(review.getId(), movie.getId());
 
         reviewRepository.delete(review); // Cascade로 reviewDetail도 삭제됨
+
+        // 팔로워 피드에서 제거
+        followingFeed.onReviewDeleted(review.getId());
+
+        // 영화 상세 캐시 무효화
+        movieDetailCache.invalidate(movie.getId());
+
+        // 장르 선호도 증분 갱신
+        eventPublisher.publishEvent(ReviewRatingChangedEvent.deleted(review.getMember().getId(), movie.getId(), rating));
     }
 
     @Transactional
@@ -184,66 +182,28 @@ public class ReviewService {
                 .map(Review::getId)
                 .collect(Collectors.toList());
 
-        // 키워드 배치 조회
+        // 키워드, 내 좋아요 여부, 작성자 선호 장르 배치 조회
         Map<Long, List<String>> keywordMap = keywordService.getReviewKeywordsBatch(reviewIds);
+        Set<Long> likedReviewIds = findLikedReviewIds(loginMemberId, reviewIds);
+        Map<Long, List<String>> genrePreferenceMap = findTopGenrePreferences(reviews.stream()
+                .map(review -> review.getMember().getId())
+                .collect(Collectors.toSet()));
 
         return reviews.stream()
-                .map(review -> convertToDto(review, loginMemberId, keywordMap.getOrDefault(review.getId(), new ArrayList<>())))
-                .collect(Collectors.toList());
-    }
-
-
-
-    private ReviewDto convertToDto(Review review, Long loginMemberId) {
-        Member member = review.getMember();
-
-        boolean isMine = loginMemberId != null && loginMemberId.equals(member.getId());
-
-        // 로그인한 사용자가 좋아요를 눌렀는지 확인
-        boolean isLiked = false;
-        if (loginMemberId != null) {
-            isLiked = review.getLikes().stream()
-                    .anyMatch(like -> like.getMember().getId().equals(loginMemberId));
-        }
-
-        // 장르 이름 리스트 뽑기
-        List<String> genrePreferences = memberGenrePreferenceRepository.findByMember(member).stream()
-                .map(pref -> pref.getMovieGenre().getName())
+                .map(review -> convertToDto(
+                        review,
+                        loginMemberId,
+                        likedReviewIds.contains(review.getId()),
+                        genrePreferenceMap.getOrDefault(review.getMember().getId(), new ArrayList<>()),
+                        keywordMap.getOrDefault(review.getId(), new ArrayList<>())))
                 .collect(Collectors.toList());
-
-        return new ReviewDto(
-                review.getId(),
-                member.getId(),
-                review.getReviewDetail().getContent(),
-                review.getReviewDetail().getRating(),
-                member.getNickname(),
-                member.getProfileImgUrl(),
-                member.getRole().getName().name(),
-                review.getLikes().size(),
-                isMine,
-                review.getReviewDetail().getCreatedAt().toString(),
-                genrePreferences,
-                isLiked
-        );
     }
 
-    private ReviewDto convertToDto(Review review, Long loginMemberId, List<String> keywords) {
+    private ReviewDto convertToDto(Review review, Long loginMemberId, boolean isLiked, List<String> genrePreferences, List<String> keywords) {
         Member member = review.getMember();
 
         boolean isMine = loginMemberId != null && loginMemberId.equals(member.getId());
 
-        // 로그인한 사용자가 좋아요를 눌렀는지 확인
-        boolean isLiked = false;
-        if (loginMemberId != null) {
-            isLiked = review.getLikes().stream()
-                    .anyMatch(like -> like.getMember().getId().equals(loginMemberId));
-        }
-
-        // 장르 이름 리스트 뽑기
-        List<String> genrePreferences = memberGenrePreferenceRepository.findByMember(member).stream()
-                .map(pref -> pref.getMovieGenre().getName())
-                .collect(Collectors.toList());
-
         return new ReviewDto(
                 review.getId(),
                 member.getId(),
@@ -252,7 +212,7 @@ public class ReviewService {
                 member.getNickname(),
                 member.getProfileImgUrl(),
                 member.getRole().getName().name(),
-                review.getLikes().size(),
+                likeCountOf(review),
                 isMine,
                 review.getReviewDetail().getCreatedAt().toString(),
                 genrePreferences,
@@ -265,6 +225,11 @@ public class ReviewService {
     public UserReviewListResponseDto getUserReviews(Long targetMemberId, Long viewerId) {
         List<Review> reviews = reviewRepository.findWithMovieAndDetailsByMemberId(targetMemberId);
 
+        // 내 좋아요 여부 배치 조회
+        Set<Long> likedReviewIds = findLikedReviewIds(viewerId, reviews.stream()
+                .map(Review::getId)
+                .collect(Collectors.toList()));
+
         List<UserReviewDto> reviewDtos = reviews.stream()
                 .map(review -> {
                     Movie movie = review.getMovie();
@@ -274,8 +239,6 @@ public class ReviewService {
 
                     ReviewDetail reviewDetail = review.getReviewDetail();
 
-                    boolean isLiked = reviewLikeRepository.existsByReviewIdAndMemberId(review.getId(), viewerId); // 💡추가된 부분
-
                     return new UserReviewDto(
                             movie.getId(),
                             detail.getTitle(),
@@ -284,10 +247,10 @@ public class ReviewService {
                             reviewDetail.getRating(),
                             reviewDetail.getCreatedAt(),
                             reviewDetail.getContent(),
-                            review.getLikes().size(),
+                            likeCountOf(review),
                             detail.getIsAdult(),
-                            isLiked,            // 💡추가된 필드
-                            review.getId()      // 💡추가된 필드
+                            likedReviewIds.contains(review.getId()),
+                            review.getId()
                     );
                 })
                 .collect(Collectors.toList());
@@ -295,70 +258,40 @@ public class ReviewService {
         return new UserReviewListResponseDto(reviewDtos.size(), reviewDtos);
     }
 
-    //피드
-    @Transactional(readOnly = true)
-    public List<ReviewFromFollowingResponseDto> getFollowingReviews(Long memberId) {
-        List<Long> followingIds = memberFollowingRepository.findFollowingIdsByMemberId(memberId);
-
-        List<Review> reviews = reviewRepository.findByMemberIdIn(followingIds);
+    // 주어진 리뷰 중 로그인 회원이 좋아요한 리뷰 ID (IN 쿼리 한 번)
+    private Set<Long> findLikedReviewIds(Long memberId, List<Long> reviewIds) {
+        if (memberId == null || reviewIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(reviewLikeRepository.findLikedReviewIds(memberId, reviewIds));
+    }
 
-        return reviews.stream()
-                .flatMap(review -> {
-//                    ReviewDetail detail = reviewDetailRepository.findByReviewId(review.getId())
-//                            .orElse(null);
-                    ReviewDetail detail = review.getReviewDetail();
+    // 작성자별 선호도 점수가 양수인 상위 3개 장르 이름 (IN 쿼리 한 번)
+    private Map<Long, List<String>> findTopGenrePreferences(Set<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return memberGenrePreferenceRepository.findWithGenreByMemberIdInAndValueGreaterThan(memberIds, 0).stream()
+                .collect(Collectors.groupingBy(
+                        pref -> pref.getMember().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), prefs -> prefs.stream()
+                                .sorted(Comparator.comparing(MemberGenrePreference::getValue).reversed())
+                                .limit(3)
+                                .map(pref -> pref.getMovieGenre().getName())
+                                .collect(Collectors.toList()))));
+    }
 
-                    if (detail == null || detail.getIsBanned()) return Stream.empty();
+    // 컬럼 추가 전 리뷰는 기동 시 채워지기 전까지 NULL일 수 있음
+    private static int likeCountOf(Review review) {
+        return review.getLikeCount() != null ? review.getLikeCount().intValue() : 0;
+    }
 
-                    Member followingUser = review.getMember();
-                    Movie movie = review.getMovie();
-                    TmdbMovieDetail tmdbDetail = movie.getTmdbMovieDetail();
-
-                    // ✅ 포스터 이미지 URL 추출
-                    String posterPath = tmdbDetail != null && !tmdbDetail.getTmdbMovieImages().isEmpty()
-                            ? tmdbDetail.getTmdbMovieImages().stream()
-                            .findFirst()
-                            .map(image -> image.getBaseUrl() + image.getImageUrl())
-                            .orElse(null)
-                            : null;
-
-                    // ✅ 장르 리스트 조회 (movieGenreMatch → movieGenre.name)
-                    List<String> genreList = movieGenreMatchRepository.findGenreNamesByTmdbMovieDetailId(tmdbDetail.getId());
-
-                    Long likeCount = reviewLikeRepository.countByReviewId(review.getId());
-                    boolean likedByMe = reviewLikeRepository.existsByReviewIdAndMemberId(review.getId(), memberId);
-
-                    return Stream.of(ReviewFromFollowingResponseDto.builder()
-                            .movieId(movie.getId())
-                            .title(tmdbDetail.getTitle())
-                            .posterPath(posterPath)
-                            .releaseDate(
-                                    tmdbDetail.getReleaseDate() != null ?
-                                            tmdbDetail.getReleaseDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate() :
-                                            null
-                            )
-                            .averageScore(tmdbDetail.getVoteAverage())
-                            .isAdult(tmdbDetail.getIsAdult())
-                            .movieGenre(genreList)
-
-                            .followingRole(followingUser.getRole().getName().name())
-                            .followingProfilePath(followingUser.getProfileImgUrl())
-                            .followingNickname(followingUser.getNickname())
-                            .followingMemId(followingUser.getId())
-
-                            .reviewId(review.getId())
-                            .rating(detail.getRating())
-                            .reviewedDate(
-                                    detail.getCreatedAt() != null
-                                            ? detail.getCreatedAt().toInstant().atZone(ZoneId.systemDefault()).toLocalDate()
-                                            : null
-                            )
-                            .context(detail.getContent())
-                            .likeCount(likeCount)
-                            .likeByMe(likedByMe)
-                            .build());
-                }).sorted(Comparator.comparing(ReviewFromFollowingResponseDto::getReviewedDate).reversed()) // 최신순 정렬
-                .collect(Collectors.toList());
+    //피드 (리뷰 ID 커서 기반 최신순 페이지)
+    @Transactional(readOnly = true)
+    public FollowingReviewListResponseDto getFollowingReviews(Long memberId, Long cursor, Integer size) {
+        FollowingFeed.FeedPage page = followingFeed.page(memberId, cursor, size);
+        List<ReviewFromFollowingResponseDto> reviewList = followingReviewHydrator.hydrate(page.reviewIds(), memberId);
+        return new FollowingReviewListResponseDto(reviewList, page.nextCursor());
     }
 
 
@@ -0,0 +1,119 @@
+package autoever_2st.project.review.component;
+
+import autoever_2st.project.batch.dao.FeedDao;
+import autoever_2st.project.user.event.FollowChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 팔로잉 피드 (GET /review/following/reviews)
+ * - 리뷰 작성 시 작성자의 팔로워 타임라인(feed_entry)에 리뷰 참조를 적재 (fan-out-on-write)
+ * - 팔로워가 FAN_OUT_LIMIT 이상인 작성자는 적재하지 않고, 조회 시 해당 작성자의 리뷰를 직접 읽어 병합 (fan-out-on-read)
+ * - 리뷰 ID를 커서로 최신순 페이지 조회 → 팔로우한 회원이 리뷰를 얼마나 많이 썼는지와 무관하게 페이지 크기만큼만 읽음
+ * - 팔로우 시 상대의 최근 리뷰를 채우고, 언팔로우 시 상대의 리뷰를 타임라인에서 제거
+ * - 팔로워가 많은 작성자 목록은 주기적으로 한 번 집계해 메모리에 두고, 적재/조회 모두 같은 목록으로 판단
+ *   (요청마다 팔로워 수를 세지 않음, 기존 팔로우 관계의 초기 적재는 FollowingFeedFillJobConfig)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowingFeed {
+
+    private static final long FAN_OUT_LIMIT = 5_000L;
+    private static final int FOLLOW_BACKFILL_SIZE = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final long HIGH_FAN_OUT_REFRESH_MILLIS = 10 * 60 * 1000L;
+
+    private final FeedDao feedDao;
+
+    private volatile Set<Long> highFanOutAuthorIds = Set.of();
+
+    public void onReviewCreated(Long reviewId, Long authorId) {
+        if (highFanOutAuthorIds.contains(authorId)) {
+            return;
+        }
+        feedDao.insertForFollowers(reviewId, authorId);
+    }
+
+    public void onReviewDeleted(Long reviewId) {
+        feedDao.deleteByReviewId(reviewId);
+    }
+
+    /**
+     * 팔로우: 상대의 최근 리뷰를 내 타임라인에 적재 / 언팔로우: 내 타임라인에서 상대의 리뷰 제거
+     * 팔로우 관계와 같은 트랜잭션에서 커밋 직전에 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onFollowChanged(FollowChangedEvent event) {
+        if (event.delta() < 0) {
+            feedDao.deleteByMemberIdAndAuthorId(event.followerId(), event.targetMemberId());
+            return;
+        }
+        if (highFanOutAuthorIds.contains(event.targetMemberId())) {
+            return;
+        }
+        feedDao.insertRecentFromAuthor(event.followerId(), event.targetMemberId(), FOLLOW_BACKFILL_SIZE);
+    }
+
+    /**
+     * cursor(리뷰 ID)보다 오래된 리뷰 ID를 최신순으로 size건 조회
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    public FeedPage page(Long memberId, Long cursor, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        long before = cursor == null ? Long.MAX_VALUE : cursor;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        merged.addAll(feedDao.findReviewIds(memberId, before, pageSize + 1));
+        List<Long> highFanOutFollowingIds = feedDao.findFollowingIdsAmong(memberId, highFanOutAuthorIds);
+        merged.addAll(feedDao.findReviewIdsByAuthors(highFanOutFollowingIds, before, pageSize + 1));
+
+        List<Long> reviewIds = new ArrayList<>(pageSize);
+        for (Long reviewId : merged) {
+            if (reviewIds.size() == pageSize) {
+                break;
+            }
+            reviewIds.add(reviewId);
+        }
+        Long nextCursor = merged.size() > pageSize ? reviewIds.get(reviewIds.size() - 1) : null;
+        return new FeedPage(reviewIds, nextCursor);
+    }
+
+    /**
+     * 기존 팔로우 관계 전체로 타임라인 적재 (팔로워가 많은 작성자 제외)
+     *
+     * @return 적재된 항목 수
+     */
+    public int fillAll() {
+        refreshHighFanOutAuthors();
+        return feedDao.insertAll(FAN_OUT_LIMIT);
+    }
+
+    /**
+     * 팔로워가 FAN_OUT_LIMIT 이상인 작성자 목록 갱신 (기동 직후 한 번, 이후 주기적으로)
+     */
+    @Scheduled(fixedDelay = HIGH_FAN_OUT_REFRESH_MILLIS)
+    public void refreshHighFanOutAuthors() {
+        try {
+            highFanOutAuthorIds = Set.copyOf(feedDao.findHighFanOutAuthorIds(FAN_OUT_LIMIT));
+        } catch (Exception e) {
+            log.error("팔로워가 많은 작성자 목록 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public record FeedPage(List<Long> reviewIds, Long nextCursor) {
+    }
+}
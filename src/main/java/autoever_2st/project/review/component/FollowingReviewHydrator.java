@@ -0,0 +1,123 @@
+package autoever_2st.project.review.component;
+
+import autoever_2st.project.external.entity.tmdb.TmdbMovieDetail;
+import autoever_2st.project.external.repository.tmdb.MovieGenreMatchRepository;
+import autoever_2st.project.external.repository.tmdb.TmdbMovieImageRepository;
+import autoever_2st.project.movie.component.MovieGenreDictionary;
+import autoever_2st.project.movie.entity.Movie;
+import autoever_2st.project.review.Entity.Review;
+import autoever_2st.project.review.Entity.ReviewDetail;
+import autoever_2st.project.review.Repository.ReviewLikeRepository;
+import autoever_2st.project.review.Repository.ReviewRepository;
+import autoever_2st.project.user.Entity.Member;
+import autoever_2st.project.user.dto.ReviewFromFollowingResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리뷰 ID 목록 → 팔로잉 피드 응답 변환기
+ * - 리뷰 수와 무관하게 고정된 개수의 IN 쿼리로 조립: 리뷰+작성자+영화 상세, 장르 매칭, 포스터, 내 좋아요 여부
+ * - 결과는 입력 순서를 유지하고, 삭제되었거나 제재된 리뷰는 제외
+ */
+@Component
+@RequiredArgsConstructor
+public class FollowingReviewHydrator {
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewLikeRepository reviewLikeRepository;
+    private final MovieGenreMatchRepository movieGenreMatchRepository;
+    private final TmdbMovieImageRepository tmdbMovieImageRepository;
+    private final MovieGenreDictionary movieGenreDictionary;
+
+    @Transactional(readOnly = true)
+    public List<ReviewFromFollowingResponseDto> hydrate(List<Long> reviewIds, Long memberId) {
+        if (reviewIds == null || reviewIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 1. 리뷰 + 작성자 + 영화 상세 + 리뷰 상세
+        Map<Long, Review> reviewMap = new HashMap<>();
+        for (Review review : reviewRepository.findFeedReviewsByIds(reviewIds)) {
+            reviewMap.put(review.getId(), review);
+        }
+        if (reviewMap.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> tmdbMovieDetailIds = reviewMap.values().stream()
+                .map(review -> review.getMovie().getTmdbMovieDetail().getId())
+                .distinct()
+                .toList();
+        List<Long> foundReviewIds = new ArrayList<>(reviewMap.keySet());
+
+        // 2. 장르 (movie_genre_match 순서 유지)
+        Map<Long, List<Long>> genreIdMap = new HashMap<>();
+        for (Object[] row : movieGenreMatchRepository.findGenreIdPairsByTmdbMovieDetailIds(tmdbMovieDetailIds)) {
+            genreIdMap.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Long) row[1]);
+        }
+
+        // 3. 포스터
+        Map<Long, String> posterMap = new HashMap<>();
+        for (Object[] row : tmdbMovieImageRepository.findPostersByMovieDetailIds(tmdbMovieDetailIds)) {
+            posterMap.putIfAbsent(((Number) row[0]).longValue(), (String) row[1] + row[2]);
+        }
+
+        // 4. 내 좋아요 여부 (좋아요 수는 review.like_count)
+        Set<Long> likedReviewIds = new HashSet<>(reviewLikeRepository.findLikedReviewIds(memberId, foundReviewIds));
+
+        // 5. 입력 순서대로 조립
+        List<ReviewFromFollowingResponseDto> result = new ArrayList<>(reviewIds.size());
+        for (Long reviewId : reviewIds) {
+            Review review = reviewMap.get(reviewId);
+            if (review == null) {
+                continue;
+            }
+            ReviewDetail detail = review.getReviewDetail();
+            if (detail == null || Boolean.TRUE.equals(detail.getIsBanned())) {
+                continue;
+            }
+            Member followingUser = review.getMember();
+            Movie movie = review.getMovie();
+            TmdbMovieDetail tmdbDetail = movie.getTmdbMovieDetail();
+
+            result.add(ReviewFromFollowingResponseDto.builder()
+                    .movieId(movie.getId())
+                    .title(tmdbDetail.getTitle())
+                    .posterPath(posterMap.get(tmdbDetail.getId()))
+                    .releaseDate(
+                            tmdbDetail.getReleaseDate() != null ?
+                                    tmdbDetail.getReleaseDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDate() :
+                                    null
+                    )
+                    .averageScore(tmdbDetail.getVoteAverage())
+                    .isAdult(tmdbDetail.getIsAdult())
+                    .movieGenre(movieGenreDictionary.getNames(genreIdMap.get(tmdbDetail.getId())))
+
+                    .followingRole(followingUser.getRole() != null ? followingUser.getRole().getName().name() : null)
+                    .followingProfilePath(followingUser.getProfileImgUrl())
+                    .followingNickname(followingUser.getNickname())
+                    .followingMemId(followingUser.getId())
+
+                    .reviewId(review.getId())
+                    .rating(detail.getRating())
+                    .reviewedDate(
+                            detail.getCreatedAt() != null
+                                    ? detail.getCreatedAt().toInstant().atZone(ZoneId.systemDefault()).toLocalDate()
+                                    : null
+                    )
+                    .context(detail.getContent())
+                    .likeCount(review.getLikeCount() != null ? review.getLikeCount() : 0L)
+                    .likeByMe(likedReviewIds.contains(review.getId()))
+                    .build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+package autoever_2st.project.review.component;
+
+import autoever_2st.project.review.dto.KeywordBatchAnalysisRequestDto;
+import autoever_2st.project.review.dto.KeywordBatchAnalysisResponseDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Flask AI 서버 키워드 분석 클라이언트
+ * - 여러 리뷰는 /analyze-batch 로 CHUNK_SIZE건씩 나눠 보내고, 최대 PIPELINE_DEPTH개 요청을 동시에 진행
+ * - 응답은 입력 순서와 같은 N개의 키워드 목록
+ * - 통신 실패는 예외로 그대로 던져 호출 측(KeywordExtractionQueue, 백필 Job)에서 재시도 여부를 결정
+ */
+@Component
+public class KeywordAnalysisClient {
+
+    // Flask /analyze-batch 의 MAX_BATCH_SIZE(64) 이하로 유지
+    private static final int CHUNK_SIZE = 32;
+    private static final int PIPELINE_DEPTH = 4;
+
+    private final RestClient flaskAiRestClient;
+    private final ExecutorService executor;
+
+    public KeywordAnalysisClient(RestClient flaskAiRestClient) {
+        this.flaskAiRestClient = flaskAiRestClient;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(PIPELINE_DEPTH, runnable -> {
+            Thread thread = new Thread(runnable, "keyword-analysis-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 리뷰 여러 건 분석 (입력 순서대로 키워드 목록 반환)
+     */
+    public List<List<String>> analyzeBatch(List<String> reviewContents) {
+        if (reviewContents == null || reviewContents.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (reviewContents.size() <= CHUNK_SIZE) {
+            return requestChunk(reviewContents);
+        }
+
+        List<CompletableFuture<List<List<String>>>> futures = new ArrayList<>();
+        for (int from = 0; from < reviewContents.size(); from += CHUNK_SIZE) {
+            List<String> chunk = reviewContents.subList(from, Math.min(from + CHUNK_SIZE, reviewContents.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> requestChunk(chunk), executor));
+        }
+
+        List<List<String>> results = new ArrayList<>(reviewContents.size());
+        try {
+            for (CompletableFuture<List<List<String>>> future : futures) {
+                results.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private List<List<String>> requestChunk(List<String> chunk) {
+        KeywordBatchAnalysisResponseDto response = flaskAiRestClient.post()
+                .uri("/analyze-batch")
+                .body(new KeywordBatchAnalysisRequestDto(chunk))
+                .retrieve()
+                .body(KeywordBatchAnalysisResponseDto.class);
+
+        if (response == null || response.getKeywords() == null || response.getKeywords().size() != chunk.size()) {
+            throw new IllegalStateException("키워드 일괄 분석 응답 건수가 요청과 다릅니다. 요청: " + chunk.size());
+        }
+
+        List<List<String>> results = new ArrayList<>(chunk.size());
+        for (List<String> keywords : response.getKeywords()) {
+            results.add(keywords != null ? keywords : new ArrayList<>());
+        }
+        return results;
+    }
+}
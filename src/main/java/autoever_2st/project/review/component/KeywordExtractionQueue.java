@@ -0,0 +1,226 @@
+package autoever_2st.project.review.component;
+
+import autoever_2st.project.admin.dto.stats.KeywordQueueStatsDto;
+import autoever_2st.project.review.component.ReviewKeywordWriter.AnalyzedReview;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 리뷰 키워드 비동기 추출 큐
+ * - 리뷰 작성/수정 트랜잭션이 커밋된 뒤 (리뷰 ID, 내용)을 적재하므로 리뷰 요청은 AI 서버를 기다리지 않음
+ * - 워커 스레드 하나가 최대 BATCH_SIZE건 또는 BATCH_LINGER_MILLIS 동안 모은 묶음 단위로 처리
+ * - 같은 리뷰가 묶음 안에 여러 번 있으면 마지막 내용만 분석
+ * - 묶음은 키워드 분석 캐시(KeywordResultCache)를 거쳐, 캐시에 없는 내용만 Flask /analyze-batch 요청 한 번으로 분석
+ * - 분석 실패 시 묶음 전체를 지수 백오프로 MAX_ATTEMPTS회까지 재시도, 그래도 실패하면 버림 (실패 수로 집계)
+ * - 큐가 가득 차면 적재를 거절하고 거절 수로 집계 (리뷰 요청은 막지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordExtractionQueue {
+
+    private static final int CAPACITY = 1000;
+    private static final int BATCH_SIZE = 20;
+    private static final long BATCH_LINGER_MILLIS = 200L;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 500L;
+
+    private final KeywordResultCache keywordResultCache;
+    private final ReviewKeywordWriter reviewKeywordWriter;
+
+    private final BlockingQueue<KeywordJob> queue = new ArrayBlockingQueue<>(CAPACITY);
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder batchCount = new LongAdder();
+    private final LongAdder batchedJobCount = new LongAdder();
+    private final LongAdder processedCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder analyzeCount = new LongAdder();
+    private final LongAdder totalAnalyzeNanos = new LongAdder();
+
+    private volatile Thread worker;
+
+    /**
+     * 키워드 추출 요청 적재 (트랜잭션 안이면 커밋 후 적재)
+     */
+    public void enqueue(Long reviewId, String reviewContent) {
+        KeywordJob job = new KeywordJob(reviewId, reviewContent);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(job);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(job);
+            }
+        });
+    }
+
+    public KeywordQueueStatsDto getStats() {
+        return new KeywordQueueStatsDto(
+                queue.size(),
+                CAPACITY,
+                enqueuedCount.sum(),
+                rejectedCount.sum(),
+                batchCount.sum(),
+                batchedJobCount.sum(),
+                processedCount.sum(),
+                retryCount.sum(),
+                failedCount.sum(),
+                analyzeCount.sum(),
+                totalAnalyzeNanos.sum()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void startWorker() {
+        if (worker != null) {
+            return;
+        }
+        Thread thread = new Thread(this::runWorker, "keyword-extraction-worker");
+        thread.setDaemon(true);
+        thread.start();
+        worker = thread;
+    }
+
+    @PreDestroy
+    public synchronized void stopWorker() {
+        if (worker != null) {
+            worker.interrupt();
+            worker = null;
+        }
+        if (!queue.isEmpty()) {
+            log.warn("처리되지 않은 키워드 추출 요청 {}건을 버리고 종료합니다.", queue.size());
+        }
+    }
+
+    private void offer(KeywordJob job) {
+        if (queue.offer(job)) {
+            enqueuedCount.increment();
+        } else {
+            rejectedCount.increment();
+            log.warn("키워드 추출 큐가 가득 차 요청을 거절합니다. 리뷰 ID: {}", job.reviewId());
+        }
+    }
+
+    private void runWorker() {
+        log.info("키워드 추출 워커 시작");
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<KeywordJob> batch = takeBatch();
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("키워드 추출 묶음 처리 실패: {}", e.getMessage(), e);
+            }
+        }
+        log.info("키워드 추출 워커 종료");
+    }
+
+    /**
+     * 첫 요청이 들어올 때까지 대기한 뒤, BATCH_SIZE건이 차거나 BATCH_LINGER_MILLIS가 지날 때까지 모음
+     */
+    private List<KeywordJob> takeBatch() throws InterruptedException {
+        List<KeywordJob> batch = new ArrayList<>(BATCH_SIZE);
+        batch.add(queue.take());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BATCH_LINGER_MILLIS);
+        while (batch.size() < BATCH_SIZE) {
+            queue.drainTo(batch, BATCH_SIZE - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= BATCH_SIZE || remaining <= 0) {
+                break;
+            }
+            KeywordJob next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void process(List<KeywordJob> batch) throws InterruptedException {
+        batchCount.increment();
+        batchedJobCount.add(batch.size());
+
+        // 같은 리뷰는 마지막 내용만 남김
+        Map<Long, String> pending = new LinkedHashMap<>();
+        for (KeywordJob job : batch) {
+            pending.remove(job.reviewId());
+            pending.put(job.reviewId(), job.reviewContent());
+        }
+
+        long backoff = INITIAL_BACKOFF_MILLIS;
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && !pending.isEmpty(); attempt++) {
+            if (attempt > 1) {
+                retryCount.add(pending.size());
+                Thread.sleep(backoff);
+                backoff *= 2;
+            }
+            analyzeAndWrite(pending, attempt);
+        }
+
+        if (!pending.isEmpty()) {
+            failedCount.add(pending.size());
+            log.error("키워드 분석 {}회 실패로 포기 - 리뷰 ID: {}", MAX_ATTEMPTS, pending.keySet());
+        }
+    }
+
+    /**
+     * 대기 중인 리뷰를 한 번의 일괄 분석 요청으로 보내고, 성공하면 반영 후 pending을 비움
+     */
+    private void analyzeAndWrite(Map<Long, String> pending, int attempt) {
+        List<Long> reviewIds = new ArrayList<>(pending.keySet());
+
+        List<List<String>> results;
+        long start = System.nanoTime();
+        try {
+            results = keywordResultCache.analyzeBatch(new ArrayList<>(pending.values()));
+        } catch (Exception e) {
+            log.warn("키워드 일괄 분석 실패 ({}회차) - {}건, 오류: {}", attempt, reviewIds.size(), e.getMessage());
+            return;
+        } finally {
+            analyzeCount.increment();
+            totalAnalyzeNanos.add(System.nanoTime() - start);
+        }
+
+        Map<Long, AnalyzedReview> analyzedByReviewId = new LinkedHashMap<>();
+        for (int i = 0; i < reviewIds.size(); i++) {
+            analyzedByReviewId.put(reviewIds.get(i), new AnalyzedReview(pending.get(reviewIds.get(i)), results.get(i)));
+        }
+        pending.clear();
+        try {
+            int written = reviewKeywordWriter.replaceKeywords(analyzedByReviewId);
+            processedCount.add(reviewIds.size());
+            if (written < reviewIds.size()) {
+                log.debug("삭제되었거나 그 사이 수정된 리뷰 {}건의 키워드 분석 결과를 버렸습니다.", reviewIds.size() - written);
+            }
+        } catch (Exception e) {
+            failedCount.add(reviewIds.size());
+            log.error("키워드 저장 실패 - 리뷰 ID: {}, 오류: {}", reviewIds, e.getMessage());
+        }
+    }
+
+    private record KeywordJob(Long reviewId, String reviewContent) {
+    }
+}
@@ -0,0 +1,182 @@
+package autoever_2st.project.review.component;
+
+import autoever_2st.project.admin.dto.stats.KeywordCacheStatsDto;
+import autoever_2st.project.review.Entity.KeywordAnalysisResult;
+import autoever_2st.project.review.Repository.KeywordAnalysisResultRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * 리뷰 내용 해시 기반 키워드 분석 캐시 (KeywordAnalysisClient 앞단)
+ * - 키: 정규화한 내용(NFKC, 소문자, 문장부호 제거, 3회 이상 반복 문자 축약, 공백 정리)의 SHA-256
+ * - 1차: 메모리 LRU (MAX_MEMORY_ENTRIES건), 2차: Mongo keyword_analysis_cache 컬렉션
+ * - 두 계층 모두 없는 내용만 모아 Flask /analyze-batch 로 분석하고, 결과를 두 계층에 저장
+ * - 같은 묶음 안의 동일 내용은 한 번만 분석
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordResultCache {
+
+    private static final int MAX_MEMORY_ENTRIES = 10_000;
+
+    private static final Pattern PUNCTUATION = Pattern.compile("[^\\p{L}\\p{N}\\s]");
+    private static final Pattern REPEATED = Pattern.compile("(.)\\1{2,}");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final KeywordAnalysisClient keywordAnalysisClient;
+    private final KeywordAnalysisResultRepository keywordAnalysisResultRepository;
+
+    private final LongAdder memoryHitCount = new LongAdder();
+    private final LongAdder storeHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    private final LinkedHashMap<String, List<String>> memory = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<String>> eldest) {
+            if (size() > MAX_MEMORY_ENTRIES) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * 리뷰 여러 건의 키워드 조회 (입력 순서대로 반환, 캐시에 없는 내용만 분석)
+     */
+    public List<List<String>> analyzeBatch(List<String> reviewContents) {
+        if (reviewContents == null || reviewContents.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<List<String>> results = new ArrayList<>(Collections.nCopies(reviewContents.size(), null));
+
+        // 1. 메모리
+        Map<String, List<Integer>> missingPositions = new LinkedHashMap<>();
+        for (int i = 0; i < reviewContents.size(); i++) {
+            String contentHash = contentHash(reviewContents.get(i));
+            List<String> cached = getFromMemory(contentHash);
+            if (cached != null) {
+                memoryHitCount.increment();
+                results.set(i, cached);
+            } else {
+                missingPositions.computeIfAbsent(contentHash, k -> new ArrayList<>()).add(i);
+            }
+        }
+        if (missingPositions.isEmpty()) {
+            return results;
+        }
+
+        // 2. Mongo
+        for (KeywordAnalysisResult stored : findStored(missingPositions.keySet())) {
+            List<Integer> positions = missingPositions.remove(stored.getContentHash());
+            if (positions == null) {
+                continue;
+            }
+            List<String> keywords = putToMemory(stored.getContentHash(), stored.getKeywords());
+            positions.forEach(position -> results.set(position, keywords));
+            storeHitCount.add(positions.size());
+        }
+        if (missingPositions.isEmpty()) {
+            return results;
+        }
+
+        // 3. 모델 분석 (실패하면 예외 그대로 전달)
+        List<String> contentHashes = new ArrayList<>(missingPositions.keySet());
+        List<String> contents = new ArrayList<>(contentHashes.size());
+        for (String contentHash : contentHashes) {
+            List<Integer> positions = missingPositions.get(contentHash);
+            contents.add(reviewContents.get(positions.get(0)));
+            missCount.add(positions.size());
+        }
+        List<List<String>> analyzed = keywordAnalysisClient.analyzeBatch(contents);
+
+        List<KeywordAnalysisResult> toStore = new ArrayList<>(contentHashes.size());
+        for (int i = 0; i < contentHashes.size(); i++) {
+            String contentHash = contentHashes.get(i);
+            List<String> keywords = putToMemory(contentHash, analyzed.get(i));
+            missingPositions.get(contentHash).forEach(position -> results.set(position, keywords));
+            toStore.add(new KeywordAnalysisResult(contentHash, keywords));
+        }
+        store(toStore);
+        return results;
+    }
+
+    /**
+     * 캐시 키 (정규화한 내용의 SHA-256) - 리뷰 수정 시 내용 변경 여부 비교에도 사용
+     */
+    public static String contentHash(String reviewContent) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(normalize(reviewContent).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public synchronized KeywordCacheStatsDto getStats() {
+        return new KeywordCacheStatsDto(
+                "keywordAnalysis",
+                memory.size(),
+                MAX_MEMORY_ENTRIES,
+                memoryHitCount.sum(),
+                storeHitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum()
+        );
+    }
+
+    static String normalize(String reviewContent) {
+        if (reviewContent == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(reviewContent, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = PUNCTUATION.matcher(normalized).replaceAll(" ");
+        normalized = REPEATED.matcher(normalized).replaceAll("$1$1");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private synchronized List<String> getFromMemory(String contentHash) {
+        return memory.get(contentHash);
+    }
+
+    private synchronized List<String> putToMemory(String contentHash, List<String> keywords) {
+        List<String> value = keywords == null ? List.of() : List.copyOf(keywords);
+        memory.put(contentHash, value);
+        return value;
+    }
+
+    private List<KeywordAnalysisResult> findStored(Iterable<String> contentHashes) {
+        try {
+            return keywordAnalysisResultRepository.findAllById(contentHashes);
+        } catch (Exception e) {
+            log.warn("키워드 분석 캐시 조회 실패, 모델 분석으로 진행: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private void store(List<KeywordAnalysisResult> results) {
+        try {
+            keywordAnalysisResultRepository.saveAll(results);
+        } catch (Exception e) {
+            log.warn("키워드 분석 캐시 저장 실패 - {}건: {}", results.size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package autoever_2st.project.review.component;
+
+import autoever_2st.project.review.Entity.MovieKeywordHistogram;
+import autoever_2st.project.review.Repository.MovieKeywordHistogramRepository;
+import autoever_2st.project.review.Repository.ReviewRepository;
+import autoever_2st.project.review.entity.ReviewKeyword;
+import autoever_2st.project.review.repository.ReviewKeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 영화별 키워드 히스토그램 전체 재구성
+ * - 평소에는 ReviewKeywordWriter가 증분 갱신하고, 여기서는 review_keywords 기준으로 처음부터 다시 계산
+ * - 재구성에서 저장되지 않은(재구성 시작 이후 갱신되지 않은) 히스토그램은 삭제
+ * - 최초 구성은 MovieKeywordHistogramRebuildJobConfig(완료 이력 기준), 리뷰 키워드 백필 Job 마지막 Step에서도 실행
+ * - 재구성은 ReviewKeywordWriter의 잠금 안에서 실행 → 재구성 도중의 증분 갱신은 재구성이 끝난 뒤 반영되어 덮어쓰이지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieKeywordHistogramBuilder {
+
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    private final ReviewRepository reviewRepository;
+    private final ReviewKeywordRepository reviewKeywordRepository;
+    private final MovieKeywordHistogramRepository movieKeywordHistogramRepository;
+    private final ReviewKeywordWriter reviewKeywordWriter;
+
+    /**
+     * 전체 영화의 키워드 히스토그램을 다시 계산해 저장 (재구성 동안 키워드 쓰기는 대기)
+     *
+     * @return 저장한 영화 수
+     */
+    public int rebuildAll() {
+        return reviewKeywordWriter.runExclusively(this::rebuild);
+    }
+
+    private int rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime rebuildStartedAt = LocalDateTime.now();
+
+        Map<Long, Long> movieIdByReviewId = new HashMap<>();
+        for (Object[] row : reviewRepository.findAllMovieIdPairs()) {
+            movieIdByReviewId.put((Long) row[0], (Long) row[1]);
+        }
+
+        Map<Long, Map<String, Integer>> countsByMovieId = new HashMap<>();
+        List<Long> reviewIds = new ArrayList<>(movieIdByReviewId.keySet());
+        for (int from = 0; from < reviewIds.size(); from += QUERY_CHUNK_SIZE) {
+            List<Long> chunk = reviewIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE, reviewIds.size()));
+            for (ReviewKeyword reviewKeyword : reviewKeywordRepository.findByReviewIdIn(chunk)) {
+                Map<String, Integer> counts = countsByMovieId.computeIfAbsent(
+                        movieIdByReviewId.get(reviewKeyword.getReviewId()), k -> new HashMap<>());
+                for (String keyword : new LinkedHashSet<>(reviewKeyword.getKeywords())) {
+                    counts.merge(MovieKeywordHistogram.encodeKey(keyword), 1, Integer::sum);
+                }
+            }
+        }
+
+        List<MovieKeywordHistogram> histograms = new ArrayList<>(countsByMovieId.size());
+        countsByMovieId.forEach((movieId, counts) -> histograms.add(new MovieKeywordHistogram(movieId, counts)));
+        movieKeywordHistogramRepository.saveAll(histograms);
+
+        // 키워드가 모두 사라진 영화의 히스토그램은 이번 재구성에서 저장되지 않았으므로 삭제
+        long deleted = movieKeywordHistogramRepository.deleteByUpdatedAtBefore(rebuildStartedAt);
+
+        log.info("영화별 키워드 히스토그램 재구성 완료 - 영화 {}개, 삭제 {}개, 리뷰 {}건, {}ms",
+                histograms.size(), deleted, reviewIds.size(), System.currentTimeMillis() - start);
+        return histograms.size();
+    }
+}
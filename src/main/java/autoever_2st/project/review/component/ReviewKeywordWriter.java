@@ -0,0 +1,194 @@
+package autoever_2st.project.review.component;
+
+import autoever_2st.project.movie.component.MovieDetailCache;
+import autoever_2st.project.review.Entity.KeywordStatistics;
+import autoever_2st.project.review.Entity.MovieKeywordHistogram;
+import autoever_2st.project.review.Repository.ReviewRepository;
+import autoever_2st.project.review.entity.ReviewKeyword;
+import autoever_2st.project.review.repository.ReviewKeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 리뷰 키워드(review_keywords)와 키워드 통계(keyword_statistics, movie_keyword_histograms) 반영
+ * - 리뷰 여러 건을 한 번에 처리: 기존 키워드와 비교한 증감만 계산
+ * - 통계는 키워드별 $inc, 영화별 히스토그램은 키워드 필드 $inc 를 각각 unordered 벌크 연산 한 번으로 전송
+ * - 키워드가 바뀐 리뷰가 속한 영화의 상세 캐시를 무효화
+ * - 추출 큐 워커, 백필 배치, 리뷰 삭제가 같은 리뷰를 동시에 건드릴 수 있으므로 쓰기는 한 번에 하나씩 처리하고,
+ *   기존 키워드는 항상 쓰기 직전에 다시 읽어 증감이 두 번 반영되지 않게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewKeywordWriter {
+
+    private final ReviewKeywordRepository reviewKeywordRepository;
+    private final ReviewRepository reviewRepository;
+    private final MongoTemplate mongoTemplate;
+    private final MovieDetailCache movieDetailCache;
+
+    /**
+     * 리뷰 여러 건의 키워드를 새 분석 결과로 교체
+     * - 분석을 기다리는 사이 삭제된 리뷰는 건너뜀
+     * - 분석한 내용과 현재 내용이 다른 리뷰(그 사이 수정됨)는 건너뜀 → 최신 내용의 분석 결과가 따로 반영됨
+     *
+     * @return 반영한 리뷰 수
+     */
+    public synchronized int replaceKeywords(Map<Long, AnalyzedReview> analyzedByReviewId) {
+        if (analyzedByReviewId.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> movieIdByReviewId = new HashMap<>();
+        for (Object[] row : reviewRepository.findMovieIdAndContentByIds(analyzedByReviewId.keySet())) {
+            Long reviewId = (Long) row[0];
+            String analyzedContent = analyzedByReviewId.get(reviewId).content();
+            if (KeywordResultCache.contentHash(analyzedContent).equals(KeywordResultCache.contentHash((String) row[2]))) {
+                movieIdByReviewId.put(reviewId, (Long) row[1]);
+            }
+        }
+        if (movieIdByReviewId.isEmpty()) {
+            return 0;
+        }
+        List<Long> reviewIds = new ArrayList<>(movieIdByReviewId.keySet());
+
+        Map<Long, Set<String>> oldKeywordsByReviewId = new HashMap<>();
+        for (ReviewKeyword reviewKeyword : reviewKeywordRepository.findByReviewIdIn(reviewIds)) {
+            oldKeywordsByReviewId.computeIfAbsent(reviewKeyword.getReviewId(), k -> new LinkedHashSet<>())
+                    .addAll(reviewKeyword.getKeywords());
+        }
+
+        KeywordDelta delta = new KeywordDelta();
+        List<ReviewKeyword> toSave = new ArrayList<>();
+        for (Long reviewId : reviewIds) {
+            Set<String> oldKeywords = oldKeywordsByReviewId.getOrDefault(reviewId, Set.of());
+            Set<String> newKeywords = new LinkedHashSet<>(analyzedByReviewId.get(reviewId).keywords());
+            delta.add(movieIdByReviewId.get(reviewId), oldKeywords, newKeywords);
+            if (!newKeywords.isEmpty()) {
+                toSave.add(new ReviewKeyword(reviewId, new ArrayList<>(newKeywords)));
+            }
+        }
+
+        if (!oldKeywordsByReviewId.isEmpty()) {
+            reviewKeywordRepository.deleteByReviewIdIn(oldKeywordsByReviewId.keySet());
+        }
+        if (!toSave.isEmpty()) {
+            reviewKeywordRepository.saveAll(toSave);
+        }
+        applyDelta(delta);
+
+        new HashSet<>(movieIdByReviewId.values()).forEach(movieDetailCache::invalidate);
+        log.info("리뷰 키워드 반영 완료 - 리뷰 {}건, 통계 변경 키워드 {}개", reviewIds.size(), delta.countDelta.size());
+        return reviewIds.size();
+    }
+
+    /**
+     * 리뷰 삭제 시 키워드 정리 (리뷰 삭제가 커밋된 뒤 호출, 리뷰가 이미 없으므로 영화 ID를 함께 받음)
+     */
+    public synchronized void deleteKeywords(Long reviewId, Long movieId) {
+        List<ReviewKeyword> existing = reviewKeywordRepository.findByReviewIdIn(List.of(reviewId));
+        if (existing.isEmpty()) {
+            return;
+        }
+
+        Set<String> oldKeywords = new LinkedHashSet<>();
+        existing.forEach(reviewKeyword -> oldKeywords.addAll(reviewKeyword.getKeywords()));
+
+        KeywordDelta delta = new KeywordDelta();
+        delta.add(movieId, oldKeywords, Set.of());
+        reviewKeywordRepository.deleteByReviewId(reviewId);
+        applyDelta(delta);
+
+        movieDetailCache.invalidate(movieId);
+        log.info("리뷰 ID {}의 키워드 삭제 완료", reviewId);
+    }
+
+    /**
+     * 다른 키워드 쓰기 없이 작업 실행 (히스토그램 전체 재구성이 진행 중인 증분 갱신을 덮어쓰지 않도록)
+     */
+    public synchronized <T> T runExclusively(Supplier<T> task) {
+        return task.get();
+    }
+
+    /**
+     * 키워드 통계 $inc, 영화별 히스토그램 $inc 를 각각 unordered 벌크 한 번으로 전송
+     */
+    private void applyDelta(KeywordDelta delta) {
+        LocalDateTime now = LocalDateTime.now();
+        delta.countDelta.values().removeIf(change -> change == 0);
+
+        if (!delta.countDelta.isEmpty()) {
+            BulkOperations statistics = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, KeywordStatistics.class);
+            delta.countDelta.forEach((keyword, change) -> {
+                Query query = Query.query(Criteria.where("keyword").is(keyword));
+                Update update = new Update()
+                        .inc("count", change)
+                        .set("updatedAt", now);
+                if (change > 0) {
+                    statistics.upsert(query, update.setOnInsert("createdAt", now));
+                } else {
+                    statistics.updateOne(query, update);
+                }
+            });
+            statistics.execute();
+        }
+
+        delta.movieDelta.values().forEach(counts -> counts.values().removeIf(change -> change == 0));
+        delta.movieDelta.values().removeIf(Map::isEmpty);
+        if (!delta.movieDelta.isEmpty()) {
+            BulkOperations histograms = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MovieKeywordHistogram.class);
+            delta.movieDelta.forEach((movieId, counts) -> {
+                Update update = new Update().set("updatedAt", now);
+                counts.forEach((keyword, change) -> update.inc("keywords." + MovieKeywordHistogram.encodeKey(keyword), change));
+                histograms.upsert(Query.query(Criteria.where("_id").is(movieId)), update);
+            });
+            histograms.execute();
+        }
+    }
+
+    /**
+     * 분석에 사용한 리뷰 내용과 그 분석 결과
+     */
+    public record AnalyzedReview(String content, List<String> keywords) {
+    }
+
+    /**
+     * 기존/새 키워드 비교 결과 (키워드별 리뷰 수 증감, 영화별 키워드 수 증감)
+     */
+    private static class KeywordDelta {
+        private final Map<String, Integer> countDelta = new HashMap<>();
+        private final Map<Long, Map<String, Integer>> movieDelta = new HashMap<>();
+
+        private void add(Long movieId, Set<String> oldKeywords, Set<String> newKeywords) {
+            Map<String, Integer> movieCounts = movieDelta.computeIfAbsent(movieId, k -> new HashMap<>());
+            for (String keyword : newKeywords) {
+                if (!oldKeywords.contains(keyword)) {
+                    countDelta.merge(keyword, 1, Integer::sum);
+                    movieCounts.merge(keyword, 1, Integer::sum);
+                }
+            }
+            for (String keyword : oldKeywords) {
+                if (!newKeywords.contains(keyword)) {
+                    countDelta.merge(keyword, -1, Integer::sum);
+                    movieCounts.merge(keyword, -1, Integer::sum);
+                }
+            }
+        }
+    }
+}
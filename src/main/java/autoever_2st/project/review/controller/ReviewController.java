@@ -5,9 +5,9 @@ import autoever_2st.project.review.Service.ReviewLikeService;
 import autoever_2st.project.review.Service.ReviewService;
 import autoever_2st.project.review.dto.ReviewDto;
 import autoever_2st.project.review.dto.request.ReviewRequestDto;
+import autoever_2st.project.review.dto.response.FollowingReviewListResponseDto;
 import autoever_2st.project.review.dto.response.ReviewListResponseDto;
 import autoever_2st.project.user.Service.CustomUserDetails;
-import autoever_2st.project.user.dto.ReviewFromFollowingResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,12 +28,16 @@ public class ReviewController {
 
     // 팔로우 피드
     @GetMapping("/following/reviews")
-    public ResponseEntity<Map<String, Object>> getReviewsFromFollowing(@AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<Map<String, Object>> getReviewsFromFollowing(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size) {
         Long memberId = userDetails.getMember().getId();
-        List<ReviewFromFollowingResponseDto> reviewList = reviewService.getFollowingReviews(memberId);
+        FollowingReviewListResponseDto page = reviewService.getFollowingReviews(memberId, cursor, size);
 
         Map<String, Object> response = new HashMap<>();
-        response.put("reviewList", reviewList);
+        response.put("reviewList", page.getReviewList());
+        response.put("nextCursor", page.getNextCursor());
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,16 @@
+package autoever_2st.project.review.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class KeywordBatchAnalysisRequestDto {
+    private List<String> reviews;
+
+    public KeywordBatchAnalysisRequestDto(List<String> reviews) {
+        this.reviews = reviews;
+    }
+}
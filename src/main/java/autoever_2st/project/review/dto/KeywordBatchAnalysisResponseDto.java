@@ -7,10 +7,10 @@ import java.util.List;
 
 @Getter
 @NoArgsConstructor
-public class KeywordAnalysisResponseDto {
-    private List<String> keywords;
+public class KeywordBatchAnalysisResponseDto {
+    private List<List<String>> keywords;
 
-    public KeywordAnalysisResponseDto(List<String> keywords) {
+    public KeywordBatchAnalysisResponseDto(List<List<String>> keywords) {
         this.keywords = keywords;
     }
-} 
\ No newline at end of file
+}
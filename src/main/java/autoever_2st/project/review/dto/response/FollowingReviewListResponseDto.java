@@ -0,0 +1,20 @@
+package autoever_2st.project.review.dto.response;
+
+import autoever_2st.project.user.dto.ReviewFromFollowingResponseDto;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+public class FollowingReviewListResponseDto {
+    private List<ReviewFromFollowingResponseDto> reviewList;
+    // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+    private Long nextCursor;
+
+    public FollowingReviewListResponseDto(List<ReviewFromFollowingResponseDto> reviewList, Long nextCursor) {
+        this.reviewList = reviewList;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,25 @@
+package autoever_2st.project.review.event;
+
+/**
+ * 리뷰 작성/수정/삭제로 회원의 영화 평점이 바뀌었음을 알리는 이벤트
+ * - 작성: oldRating = null, 삭제: newRating = null
+ * - 평점 없는 리뷰도 있으므로 리뷰 자체의 작성/삭제 여부는 type으로 구분
+ */
+public record ReviewRatingChangedEvent(Type type, Long memberId, Long movieId, Double oldRating, Double newRating) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ReviewRatingChangedEvent created(Long memberId, Long movieId, Double rating) {
+        return new ReviewRatingChangedEvent(Type.CREATED, memberId, movieId, null, rating);
+    }
+
+    public static ReviewRatingChangedEvent updated(Long memberId, Long movieId, Double oldRating, Double newRating) {
+        return new ReviewRatingChangedEvent(Type.UPDATED, memberId, movieId, oldRating, newRating);
+    }
+
+    public static ReviewRatingChangedEvent deleted(Long memberId, Long movieId, Double rating) {
+        return new ReviewRatingChangedEvent(Type.DELETED, memberId, movieId, rating, null);
+    }
+}
@@ -0,0 +1,91 @@
+package autoever_2st.project.reviewer.component;
+
+import autoever_2st.project.batch.dao.ReviewerLeaderboardDao;
+import autoever_2st.project.batch.dao.ReviewerLeaderboardDao.LeaderboardRow;
+import autoever_2st.project.review.event.ReviewRatingChangedEvent;
+import autoever_2st.project.user.event.FollowChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 리뷰어 목록(reviewer_leaderboard) 유지
+ * - 회원 가입, 팔로우/언팔로우, 리뷰 작성/수정/삭제, 닉네임 변경 시 해당 회원 행만 증감
+ * - 팔로우/리뷰 이벤트는 커밋 직전 같은 트랜잭션 안에서 반영되므로 원본과 함께 반영되거나 함께 롤백됨
+ * - 초기 구성은 reviewerLeaderboardRebuildJob (완료 이력이 없으면 기동 시 실행)
+ *   완료되기 전에는 원본 테이블에서 바로 집계해 목록을 응답 (기존 방식과 같은 결과)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReviewerLeaderboard {
+
+    private final ReviewerLeaderboardDao reviewerLeaderboardDao;
+
+    // reviewer_leaderboard를 목록 조회에 사용할 수 있는지 여부 (집계 Job 완료 시 true)
+    private volatile boolean populated;
+
+    /**
+     * 신규 회원을 팔로워 0, 리뷰 0으로 등록
+     */
+    public void onMemberCreated(Long memberId) {
+        reviewerLeaderboardDao.addDelta(memberId, 0L, 0L, 0L, 0.0);
+    }
+
+    /**
+     * 팔로우(+1) / 언팔로우(-1) 시 팔로우 당한 회원의 팔로워 수 증감 (팔로우 관계와 같은 트랜잭션, 커밋 직전)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onFollowChanged(FollowChangedEvent event) {
+        reviewerLeaderboardDao.addDelta(event.targetMemberId(), event.delta(), 0L, 0L, 0.0);
+    }
+
+    public void onNicknameChanged(Long memberId, String nickname) {
+        reviewerLeaderboardDao.updateNickname(memberId, nickname);
+    }
+
+    /**
+     * 리뷰 작성: 리뷰 수 +1 / 삭제: 리뷰 수 -1 (평점 유무와 무관)
+     * 평균은 평점 있는 리뷰만 반영: 평점 있는 리뷰 수와 평점 합계를 기존/새 평점 차이만큼 증감
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReviewRatingChanged(ReviewRatingChangedEvent event) {
+        long reviewDelta = switch (event.type()) {
+            case CREATED -> 1L;
+            case DELETED -> -1L;
+            case UPDATED -> 0L;
+        };
+        long ratedDelta = (event.newRating() != null ? 1L : 0L) - (event.oldRating() != null ? 1L : 0L);
+        double ratingDelta = valueOf(event.newRating()) - valueOf(event.oldRating());
+        if (reviewDelta == 0 && ratedDelta == 0 && ratingDelta == 0.0) {
+            return;
+        }
+        reviewerLeaderboardDao.addDelta(event.memberId(), 0L, reviewDelta, ratedDelta, ratingDelta);
+    }
+
+    public long count() {
+        return populated ? reviewerLeaderboardDao.count() : reviewerLeaderboardDao.countMembers();
+    }
+
+    /**
+     * 팔로워 수 내림차순, 닉네임 오름차순 페이지 조회
+     */
+    public List<LeaderboardRow> findPage(long offset, int size) {
+        return populated
+                ? reviewerLeaderboardDao.findPage(offset, size)
+                : reviewerLeaderboardDao.findLivePage(offset, size);
+    }
+
+    /**
+     * 집계 Job이 완료되었음을 기록 (이후 목록은 reviewer_leaderboard에서 조회)
+     */
+    public void markPopulated() {
+        populated = true;
+    }
+
+    private static double valueOf(Double rating) {
+        return rating == null ? 0.0 : rating;
+    }
+}
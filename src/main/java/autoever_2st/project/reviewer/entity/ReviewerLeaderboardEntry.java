@@ -0,0 +1,45 @@
+package autoever_2st.project.reviewer.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰어 목록(GET /reviewer/all) 읽기 모델 - 회원별 팔로워 수, 리뷰 수, 평점 있는 리뷰 수, 평점 합계를 미리 집계
+ * 팔로우/리뷰 이벤트마다 ReviewerLeaderboardDao로 증감하며, 애플리케이션에서는 읽기 전용으로 사용
+ * 정렬(팔로워 수 내림차순, 닉네임 오름차순)과 같은 순서의 인덱스를 두어 DB에서 바로 페이지 조회
+ */
+@Entity
+@Table(name = "reviewer_leaderboard",
+       indexes = @Index(name = "idx_reviewer_leaderboard_rank", columnList = "follower_count DESC, nickname ASC, member_id ASC"))
+@Getter
+@NoArgsConstructor
+public class ReviewerLeaderboardEntry {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    // 정렬용 닉네임 사본 (프로필 수정 시 갱신)
+    @Column(name = "nickname")
+    private String nickname;
+
+    @Column(name = "follower_count", nullable = false)
+    private Long followerCount;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    // 평점이 있는 리뷰 수 (평균 계산용, 평점 없는 리뷰는 평균에서 제외)
+    @Column(name = "rated_count", nullable = false)
+    private Long ratedCount;
+
+    // 평균 평점 = rating_sum / rated_count
+    @Column(name = "rating_sum", nullable = false)
+    private Double ratingSum;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,10 +1,12 @@
 package autoever_2st.project.security;
 
-import autoever_2st.project.user.Repository.RoleRepository;
-import autoever_2st.project.user.Repository.UserRepository;
+import autoever_2st.project.user.Service.LoginExecutor;
+import autoever_2st.project.user.Service.MemberSnapshotCache;
 import autoever_2st.project.user.filter.JWTFilter;
 import autoever_2st.project.user.filter.LoginFilter;
 import autoever_2st.project.user.jwt.JWTUtil;
+import autoever_2st.project.user.jwt.TokenRevocationStore;
+import autoever_2st.project.user.jwt.VerifiedTokenCache;
 import autoever_2st.project.user.oauth.CustomOauth2UserService;
 import autoever_2st.project.user.oauth.OAuth2SuccessHandler;
 import lombok.extern.slf4j.Slf4j;
@@ -33,17 +35,21 @@ public class SecurityConfig {
 
     private final AuthenticationConfiguration configuration;
     private final JWTUtil jwtUtil;
-    private final RoleRepository roleRepository;  // 추가
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final LoginExecutor loginExecutor;
     private final CustomOauth2UserService customOAuth2UserService;
 
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
 
-    public SecurityConfig(AuthenticationConfiguration configuration, JWTUtil jwtUtil, RoleRepository roleRepository, UserRepository userRepository, CustomOauth2UserService customOAuth2UserService, OAuth2SuccessHandler oAuth2SuccessHandler) {
+    public SecurityConfig(AuthenticationConfiguration configuration, JWTUtil jwtUtil, VerifiedTokenCache verifiedTokenCache, TokenRevocationStore tokenRevocationStore, MemberSnapshotCache memberSnapshotCache, LoginExecutor loginExecutor, CustomOauth2UserService customOAuth2UserService, OAuth2SuccessHandler oAuth2SuccessHandler) {
         this.configuration = configuration;
         this.jwtUtil = jwtUtil;
-        this.roleRepository = roleRepository;
-        this.userRepository = userRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.memberSnapshotCache = memberSnapshotCache;
+        this.loginExecutor = loginExecutor;
         this.customOAuth2UserService = customOAuth2UserService;
         this.oAuth2SuccessHandler = oAuth2SuccessHandler;
     }
@@ -61,7 +67,7 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity httpSecurity) throws Exception {
-        LoginFilter loginFilter = new LoginFilter(authenticationManager(configuration), jwtUtil);
+        LoginFilter loginFilter = new LoginFilter(authenticationManager(configuration), jwtUtil, loginExecutor);
         loginFilter.setFilterProcessesUrl("/api/login");
 
         httpSecurity
@@ -104,10 +110,10 @@ public class SecurityConfig {
 
         // 로그인 필터 이전에 JWTFilter를 넣음
        // httpSecurity.addFilterBefore(new JWTFilter(jwtUtil, roleRepository), LoginFilter.class);
-        httpSecurity.addFilterBefore(new JWTFilter(jwtUtil, roleRepository, userRepository), LoginFilter.class);
+        httpSecurity.addFilterBefore(new JWTFilter(verifiedTokenCache, tokenRevocationStore, memberSnapshotCache), LoginFilter.class);
 
-        // 로그아웃 URL 설정
-        httpSecurity.logout((auth) -> auth.logoutUrl("/logout"));
+        // 로그아웃은 UserController /logout 에서 토큰 폐기로 처리 (세션이 없으므로 기본 LogoutFilter 사용 안 함)
+        httpSecurity.logout(AbstractHttpConfigurer::disable);
 
         return httpSecurity.build();
     }
@@ -9,7 +9,8 @@ import lombok.Setter;
 
 
 @Entity
-@Table(name = "member_follower")
+@Table(name = "member_follower",
+       uniqueConstraints = @UniqueConstraint(name = "uk_member_follower_member_follower", columnNames = {"member_id", "follower_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -8,7 +8,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "member_following")
+@Table(name = "member_following",
+       uniqueConstraints = @UniqueConstraint(name = "uk_member_following_member_following", columnNames = {"member_id", "following_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
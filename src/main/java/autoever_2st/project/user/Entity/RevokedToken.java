@@ -0,0 +1,37 @@
+package autoever_2st.project.user.Entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그아웃 등으로 폐기된 JWT (토큰 원문 대신 SHA-256 digest 저장)
+ * 토큰 만료 시각(expires_at)이 지나면 어차피 검증에서 거절되므로 주기적으로 삭제
+ * 여러 인스턴스가 revoked_at 기준으로 새 항목을 읽어 각자의 메모리 필터에 반영
+ */
+@Entity
+@Table(name = "revoked_token",
+       uniqueConstraints = @UniqueConstraint(name = "uk_revoked_token_digest", columnNames = "token_digest"),
+       indexes = {
+               @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"),
+               @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at")
+       })
+@Getter
+@NoArgsConstructor
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_digest", nullable = false, length = 64)
+    private String tokenDigest;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
@@ -3,7 +3,10 @@ package autoever_2st.project.user.Repository;
 import autoever_2st.project.user.Entity.Member;
 import autoever_2st.project.user.Entity.MemberGenrePreference;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface MemberGenrePreferenceRepository extends JpaRepository<MemberGenrePreference, Long> {
@@ -11,4 +14,14 @@ public interface MemberGenrePreferenceRepository extends JpaRepository<MemberGen
     List<MemberGenrePreference> findByMemberIdOrderByValueDesc(Long memberId);
     void deleteByMember(Member member);
 
+    List<MemberGenrePreference> findByMemberIdAndMovieGenreIdIn(Long memberId, Collection<Long> movieGenreIds);
+
+    // 선호도 점수가 양수인 상위 장르 (프로필/리뷰 표시용)
+    List<MemberGenrePreference> findTop3ByMemberIdAndValueGreaterThanOrderByValueDesc(Long memberId, Integer value);
+
+    // 여러 회원의 선호도 점수가 value보다 큰 장르 (리뷰 목록의 작성자 선호 장르 배치 조회용)
+    @Query("SELECT p FROM MemberGenrePreference p JOIN FETCH p.movieGenre WHERE p.member.id IN :memberIds AND p.value > :value")
+    List<MemberGenrePreference> findWithGenreByMemberIdInAndValueGreaterThan(@Param("memberIds") Collection<Long> memberIds,
+                                                                            @Param("value") Integer value);
+
 }
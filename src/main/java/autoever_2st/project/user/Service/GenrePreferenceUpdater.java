@@ -0,0 +1,85 @@
+package autoever_2st.project.user.Service;
+
+import autoever_2st.project.external.repository.tmdb.MovieGenreMatchRepository;
+import autoever_2st.project.external.repository.tmdb.MovieGenreRepository;
+import autoever_2st.project.movie.entity.Movie;
+import autoever_2st.project.movie.repository.MovieRepository;
+import autoever_2st.project.review.event.ReviewRatingChangedEvent;
+import autoever_2st.project.user.Entity.MemberGenrePreference;
+import autoever_2st.project.user.Repository.MemberGenrePreferenceRepository;
+import autoever_2st.project.user.Repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 리뷰 평점 변경 이벤트로 회원 장르 선호도(member_genre_preference)를 증분 갱신
+ * - 리뷰 1건의 가중치는 평점 기준: (평점 - 2.5) * 2 → 5.0점 +5, 2.5점 0, 0.5점 -4
+ * - 작성/수정/삭제 시 (새 가중치 - 기존 가중치)만큼 해당 영화 장르들의 점수를 더함
+ * - 리뷰 트랜잭션 커밋 직전에 같은 트랜잭션 안에서 실행되므로 리뷰와 선호도가 함께 반영되거나 함께 롤백됨
+ * - 도입 전 리뷰의 가중치는 genrePreferenceRebuildJob이 같은 공식으로 한 번 재계산 (최초 기동 시 자동 실행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GenrePreferenceUpdater {
+
+    private static final double NEUTRAL_RATING = 2.5;
+
+    private final MemberGenrePreferenceRepository memberGenrePreferenceRepository;
+    private final MovieGenreMatchRepository movieGenreMatchRepository;
+    private final MovieGenreRepository movieGenreRepository;
+    private final MovieRepository movieRepository;
+    private final UserRepository userRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReviewRatingChanged(ReviewRatingChangedEvent event) {
+        int delta = weight(event.newRating()) - weight(event.oldRating());
+        if (delta == 0) {
+            return;
+        }
+
+        Movie movie = movieRepository.findById(event.movieId()).orElse(null);
+        if (movie == null || movie.getTmdbMovieDetail() == null) {
+            log.warn("장르 선호도 갱신 대상 영화를 찾을 수 없습니다. Movie ID: {}", event.movieId());
+            return;
+        }
+
+        Set<Long> genreIds = new LinkedHashSet<>(
+                movieGenreMatchRepository.findGenreIdsByTmdbId(movie.getTmdbMovieDetail().getId()));
+        if (genreIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, MemberGenrePreference> preferences = new HashMap<>();
+        for (MemberGenrePreference preference : memberGenrePreferenceRepository.findByMemberIdAndMovieGenreIdIn(event.memberId(), genreIds)) {
+            preferences.putIfAbsent(preference.getMovieGenre().getId(), preference);
+        }
+
+        for (Long genreId : genreIds) {
+            MemberGenrePreference preference = preferences.get(genreId);
+            if (preference == null) {
+                preference = new MemberGenrePreference();
+                preference.setMember(userRepository.getReferenceById(event.memberId()));
+                preference.setMovieGenre(movieGenreRepository.getReferenceById(genreId));
+                preference.setValue(0);
+            }
+            preference.setValue((preference.getValue() == null ? 0 : preference.getValue()) + delta);
+            memberGenrePreferenceRepository.save(preference);
+        }
+    }
+
+    private static int weight(Double rating) {
+        if (rating == null) {
+            return 0;
+        }
+        return (int) Math.round((rating - NEUTRAL_RATING) * 2);
+    }
+}
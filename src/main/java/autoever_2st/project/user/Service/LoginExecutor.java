@@ -0,0 +1,152 @@
+package autoever_2st.project.user.Service;
+
+import autoever_2st.project.admin.dto.stats.LoginExecutorStatsDto;
+import autoever_2st.project.exception.exception_class.business.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 로그인 인증(비밀번호 해시 검증) 전용 실행기
+ * - 해시 검증은 CPU를 많이 쓰므로 Tomcat 요청 스레드가 아닌 전용 스레드(POOL_SIZE개)에서 실행 → 로그인이 몰려도 영화 조회 API 스레드를 잠식하지 않음
+ * - 대기열은 QUEUE_CAPACITY건으로 제한, 가득 차면 즉시 503
+ * - 같은 IP는 MAX_IN_FLIGHT_PER_IP건, 같은 계정은 MAX_IN_FLIGHT_PER_ACCOUNT건까지만 동시에 진행, 초과하면 즉시 429
+ * - 대기 시간/인증 시간/거절 수를 집계해 관리자 지표로 제공
+ */
+@Slf4j
+@Component
+public class LoginExecutor {
+
+    private static final int POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+    private static final int QUEUE_CAPACITY = 100;
+    private static final int MAX_IN_FLIGHT_PER_IP = 16;
+    private static final int MAX_IN_FLIGHT_PER_ACCOUNT = 2;
+
+    private final ThreadPoolExecutor executor;
+
+    private final ConcurrentHashMap<String, Integer> inFlightByIp = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Integer> inFlightByAccount = new ConcurrentHashMap<>();
+
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder queueFullRejectedCount = new LongAdder();
+    private final LongAdder ipLimitRejectedCount = new LongAdder();
+    private final LongAdder accountLimitRejectedCount = new LongAdder();
+    private final LongAdder succeededCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder totalQueueWaitNanos = new LongAdder();
+    private final LongAdder totalAuthenticateNanos = new LongAdder();
+
+    public LoginExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "login-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 인증 작업 제출 (동시성 제한 초과, 대기열 초과 시 BusinessException 즉시 발생)
+     *
+     * @param clientIp 요청 IP (프록시 뒤에서는 WebConfig의 RemoteIpValve가 X-Forwarded-For로 바꾼 실제 클라이언트 IP)
+     * @param account  로그인 아이디 (없으면 계정 제한 생략)
+     */
+    public <T> CompletableFuture<T> submit(String clientIp, String account, Supplier<T> task) {
+        String ipKey = clientIp == null ? "" : clientIp;
+        String accountKey = account == null || account.isBlank() ? null : account.trim().toLowerCase(Locale.ROOT);
+
+        if (!tryAcquire(inFlightByIp, ipKey, MAX_IN_FLIGHT_PER_IP)) {
+            ipLimitRejectedCount.increment();
+            throw new BusinessException("로그인 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS);
+        }
+        if (accountKey != null && !tryAcquire(inFlightByAccount, accountKey, MAX_IN_FLIGHT_PER_ACCOUNT)) {
+            release(inFlightByIp, ipKey);
+            accountLimitRejectedCount.increment();
+            throw new BusinessException("같은 계정의 로그인이 진행 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                totalQueueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    future.complete(task.get());
+                    succeededCount.increment();
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                    failedCount.increment();
+                } finally {
+                    totalAuthenticateNanos.add(System.nanoTime() - startedAt);
+                    release(inFlightByIp, ipKey);
+                    if (accountKey != null) {
+                        release(inFlightByAccount, accountKey);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release(inFlightByIp, ipKey);
+            if (accountKey != null) {
+                release(inFlightByAccount, accountKey);
+            }
+            queueFullRejectedCount.increment();
+            log.warn("로그인 대기열이 가득 차 요청을 거절합니다. 대기 {}건", executor.getQueue().size());
+            throw new BusinessException("로그인 요청이 몰려 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        submittedCount.increment();
+        return future;
+    }
+
+    public LoginExecutorStatsDto getStats() {
+        return new LoginExecutorStatsDto(
+                POOL_SIZE,
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                QUEUE_CAPACITY,
+                submittedCount.sum(),
+                queueFullRejectedCount.sum(),
+                ipLimitRejectedCount.sum(),
+                accountLimitRejectedCount.sum(),
+                succeededCount.sum(),
+                failedCount.sum(),
+                totalQueueWaitNanos.sum(),
+                totalAuthenticateNanos.sum()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static boolean tryAcquire(ConcurrentHashMap<String, Integer> inFlight, String key, int max) {
+        boolean[] acquired = {false};
+        inFlight.compute(key, (k, count) -> {
+            int current = count == null ? 0 : count;
+            if (current >= max) {
+                return count;
+            }
+            acquired[0] = true;
+            return current + 1;
+        });
+        return acquired[0];
+    }
+
+    private static void release(ConcurrentHashMap<String, Integer> inFlight, String key) {
+        inFlight.computeIfPresent(key, (k, count) -> count <= 1 ? null : count - 1);
+    }
+}
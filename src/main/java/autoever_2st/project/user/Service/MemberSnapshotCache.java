@@ -0,0 +1,159 @@
+package autoever_2st.project.user.Service;
+
+import autoever_2st.project.admin.dto.stats.CacheStatsDto;
+import autoever_2st.project.user.Entity.Member;
+import autoever_2st.project.user.Entity.Role;
+import autoever_2st.project.user.Repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JWT 인증용 회원 스냅샷 캐시 (JWTFilter → 인증 principal)
+ * - 키: 로그인 아이디(email), 값: 회원 ID/권한/차단 여부 등 인증에 필요한 필드만 복사한 불변 스냅샷
+ * - 항목은 TTL_MILLIS 동안만 유효, 메모리 LRU (MAX_ENTRIES건)
+ * - 권한 변경/차단/프로필 수정 시 해당 회원 항목을 무효화 (트랜잭션 안이면 커밋 후)
+ * - 캐시에 없는 회원만 DB에서 조회 → 정상 상태에서는 인증 필터가 DB를 조회하지 않음
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberSnapshotCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final UserRepository userRepository;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    private final LinkedHashMap<String, MemberSnapshot> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MemberSnapshot> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * 로그인 아이디로 회원 스냅샷 조회 (없는 회원이면 null)
+     */
+    public MemberSnapshot get(String loginId) {
+        MemberSnapshot cached = getValid(loginId);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+
+        Member member;
+        long start = System.nanoTime();
+        try {
+            member = userRepository.findByEmail(loginId).orElse(null);
+        } catch (RuntimeException e) {
+            loadFailureCount.increment();
+            throw e;
+        } finally {
+            loadCount.increment();
+            totalLoadNanos.add(System.nanoTime() - start);
+        }
+        if (member == null) {
+            return null;
+        }
+
+        MemberSnapshot snapshot = MemberSnapshot.of(member, System.currentTimeMillis() + TTL_MILLIS);
+        synchronized (this) {
+            entries.put(loginId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 회원 정보 변경 시 스냅샷 무효화 (트랜잭션 안이면 커밋 후 무효화해 이전 값이 다시 적재되지 않도록 함)
+     */
+    public void invalidate(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(memberId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(memberId);
+            }
+        });
+    }
+
+    public synchronized CacheStatsDto getStats() {
+        return new CacheStatsDto(
+                "memberSnapshot",
+                entries.size(),
+                (long) entries.size(),
+                (long) MAX_ENTRIES,
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                invalidationCount.sum(),
+                loadCount.sum(),
+                loadFailureCount.sum(),
+                totalLoadNanos.sum()
+        );
+    }
+
+    private synchronized MemberSnapshot getValid(String loginId) {
+        MemberSnapshot cached = entries.get(loginId);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(loginId);
+            return null;
+        }
+        return cached;
+    }
+
+    // 권한 변경/차단은 관리자 작업이라 드물게 발생하므로 전체 순회로 제거
+    private synchronized void remove(Long memberId) {
+        if (entries.values().removeIf(snapshot -> snapshot.memberId().equals(memberId))) {
+            invalidationCount.increment();
+        }
+    }
+
+    /**
+     * 인증에 필요한 회원 필드 스냅샷 (Role은 변경 메서드가 없는 엔티티라 그대로 공유)
+     */
+    public record MemberSnapshot(Long memberId, String email, String nickname, String profileImgUrl,
+                                 Role role, Boolean banned, long expiresAt) {
+
+        private static MemberSnapshot of(Member member, long expiresAt) {
+            return new MemberSnapshot(member.getId(), member.getEmail(), member.getNickname(), member.getProfileImgUrl(),
+                    member.getRole(), member.getIs_banned(), expiresAt);
+        }
+
+        // 요청마다 새로 만드는 영속성 컨텍스트 밖의 Member (principal 전용)
+        public Member toMember() {
+            return Member.builder()
+                    .id(memberId)
+                    .email(email)
+                    .nickname(nickname)
+                    .profile_img_url(profileImgUrl)
+                    .role(role)
+                    .is_banned(banned)
+                    .build();
+        }
+    }
+}
@@ -7,6 +7,7 @@ import autoever_2st.project.external.repository.tmdb.TmdbMovieImageRepository;
 
 import autoever_2st.project.movie.entity.Movie;
 import autoever_2st.project.movie.repository.MovieWishlistRepository;
+import autoever_2st.project.reviewer.component.ReviewerLeaderboard;
 import autoever_2st.project.user.Entity.Follow.MemberFollowing;
 import autoever_2st.project.user.Entity.Member;
 import autoever_2st.project.user.Repository.MemberGenrePreferenceRepository;
@@ -31,6 +32,8 @@ import autoever_2st.project.external.entity.tmdb.ImageType;
 public class UserProfileService {
 
     private final UserRepository userRepository;
+    private final MemberSnapshotCache memberSnapshotCache;
+    private final ReviewerLeaderboard reviewerLeaderboard;
     private final MemberFollowerRepository memberFollowerRepository;
     private final MemberFollowingRepository memberFollowingRepository;
     private final MemberGenrePreferenceRepository memberGenrePreferenceRepository;
@@ -79,7 +82,7 @@ public class UserProfileService {
         String roleName = member.getRole() != null ? member.getRole().getName().name() : "ROLE_USER";
 
         // ✅ Genre Preferences
-        List<String> preferenceGenre = memberGenrePreferenceRepository.findByMemberIdOrderByValueDesc(targetMemberId)
+        List<String> preferenceGenre = memberGenrePreferenceRepository.findTop3ByMemberIdAndValueGreaterThanOrderByValueDesc(targetMemberId, 0)
                 .stream()
                 .map(pref -> {
                     MovieGenre genre = pref.getMovieGenre();
@@ -138,6 +141,8 @@ public class UserProfileService {
 
         if (request.getNickname() != null) {
             member.setNickname(request.getNickname());
+            // 변경감지 flush 전이므로 새 닉네임을 직접 전달
+            reviewerLeaderboard.onNicknameChanged(memberId, request.getNickname());
         }
 
         if (request.getProfilePath() != null) {
@@ -145,5 +150,6 @@ public class UserProfileService {
         }
 
         // 변경감지에 의해 JPA가 자동 업데이트
+        memberSnapshotCache.invalidate(memberId);
     }
 }
@@ -1,5 +1,6 @@
 package autoever_2st.project.user.Service;
 
+import autoever_2st.project.reviewer.component.ReviewerLeaderboard;
 import autoever_2st.project.user.Entity.JwtToken;
 import autoever_2st.project.user.Entity.Member;
 import autoever_2st.project.user.Entity.Role;
@@ -11,11 +12,14 @@ import autoever_2st.project.user.dto.request.LoginRequestDto;
 import autoever_2st.project.user.dto.request.SignupRequestDto;
 import autoever_2st.project.user.dto.response.LoginResponseDto;
 import autoever_2st.project.user.jwt.JWTUtil;
+import autoever_2st.project.user.jwt.TokenRevocationStore;
+import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Date;
 import java.util.Optional;
@@ -29,14 +33,18 @@ public class UserService {
     private final RoleRepository roleRepository;
     private final JWTUtil jwtUtil;
     private final JwtTokenRepository jwtTokenRepository;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final ReviewerLeaderboard reviewerLeaderboard;
 
 
-    public UserService(UserRepository userRepository, BCryptPasswordEncoder bCryptPasswordEncoder, RoleRepository roleRepository, JWTUtil jwtUtil, JwtTokenRepository jwtTokenRepository) {
+    public UserService(UserRepository userRepository, BCryptPasswordEncoder bCryptPasswordEncoder, RoleRepository roleRepository, JWTUtil jwtUtil, JwtTokenRepository jwtTokenRepository, TokenRevocationStore tokenRevocationStore, ReviewerLeaderboard reviewerLeaderboard) {
         this.userRepository = userRepository;
         this.bCryptPasswordEncoder = bCryptPasswordEncoder;
         this.roleRepository = roleRepository;
         this.jwtUtil = jwtUtil;
         this.jwtTokenRepository = jwtTokenRepository;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.reviewerLeaderboard = reviewerLeaderboard;
     }
 
 
@@ -96,6 +104,7 @@ public class UserService {
                 .is_banned(false)
                 .build();
         userRepository.save(member);
+        reviewerLeaderboard.onMemberCreated(member.getId());
     }
 
     //로그인, 토큰 발행
@@ -120,6 +129,7 @@ public class UserService {
         jwtToken.setAccessToken(accessToken);
         jwtToken.setRefreshToken(refreshToken);
         jwtToken.setMember(member);
+        jwtToken.setDeletedAt(null);
         jwtTokenRepository.save(jwtToken);
 
         return LoginResponseDto.builder()
@@ -133,6 +143,36 @@ public class UserService {
                 .build();
     }
 
+    //로그아웃, 토큰 폐기
+    public void logout(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            return;
+        }
+
+        String loginId;
+        try {
+            loginId = jwtUtil.verify(accessToken).loginId();
+        } catch (JwtException | IllegalArgumentException e) {
+            // 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요 없음
+            return;
+        }
+        tokenRevocationStore.revoke(accessToken);
+
+        // 로그인 시 저장한 토큰(refresh 토큰 포함)도 함께 폐기
+        userRepository.findByEmail(loginId)
+                .flatMap(jwtTokenRepository::findByMember)
+                .filter(jwtToken -> jwtToken.getDeletedAt() == null)
+                .ifPresent(jwtToken -> {
+                    if (jwtToken.getAccessToken() != null && !jwtToken.getAccessToken().equals(accessToken)) {
+                        tokenRevocationStore.revoke(jwtToken.getAccessToken());
+                    }
+                    if (jwtToken.getRefreshToken() != null) {
+                        tokenRevocationStore.revoke(jwtToken.getRefreshToken());
+                    }
+                    jwtToken.setDeletedAt(LocalDateTime.now());
+                    jwtTokenRepository.save(jwtToken);
+                });
+    }
 
 //    // 로그인 메서드 추가
 //    public Member login(LoginRequestDto loginRequestDto) {
@@ -1,19 +1,25 @@
 package autoever_2st.project.user.controller;
 
 import autoever_2st.project.common.dto.ApiResponse;
+import autoever_2st.project.exception.exception_class.business.BusinessException;
 import autoever_2st.project.user.Entity.JwtToken;
 import autoever_2st.project.user.Entity.Member;
 import autoever_2st.project.user.Repository.JwtTokenRepository;
+import autoever_2st.project.user.Service.LoginExecutor;
 import autoever_2st.project.user.Service.UserService;
 import autoever_2st.project.user.dto.request.LoginRequestDto;
 import autoever_2st.project.user.dto.request.SignupRequestDto;
 import autoever_2st.project.user.dto.response.LoginResponseDto;
 import autoever_2st.project.user.jwt.JWTUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 
 
 
@@ -23,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserController {
 
     private final UserService userService;
+    private final LoginExecutor loginExecutor;
 //    private final JwtTokenRepository jwtTokenRepository;
 
 
@@ -35,12 +42,19 @@ public class UserController {
     // 로그인 - JWT 토큰 반환
 //    @PostMapping("/login")
     @PostMapping({"/login", "/api/login"})
-    public ApiResponse<LoginResponseDto> login(@RequestBody LoginRequestDto loginRequestDto) {
+    // 비밀번호 해시 검증은 로그인 전용 실행기에서 수행하고, 요청 스레드는 결과를 기다리지 않고 반환 (비동기 응답)
+    public CompletableFuture<ApiResponse<LoginResponseDto>> login(@RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
         try {
-            LoginResponseDto loginResponseDto = userService.loginAndIssueTokens(loginRequestDto);
-            return ApiResponse.success(loginResponseDto, HttpStatus.OK.value());
-        } catch (RuntimeException e) {
-            return ApiResponse.fail(e.getMessage(), HttpStatus.BAD_REQUEST.value());
+            return loginExecutor.submit(request.getRemoteAddr(), loginRequestDto.getEmail(), () -> userService.loginAndIssueTokens(loginRequestDto))
+                    .handle((loginResponseDto, e) -> {
+                        if (e == null) {
+                            return ApiResponse.success(loginResponseDto, HttpStatus.OK.value());
+                        }
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        return ApiResponse.fail(cause.getMessage(), HttpStatus.BAD_REQUEST.value());
+                    });
+        } catch (BusinessException e) {
+            return CompletableFuture.completedFuture(ApiResponse.fail(e.getMessage(), e.getStatus()));
         }
     }
 
@@ -60,8 +74,12 @@ public class UserController {
         return ApiResponse.success(loginResponseDto, HttpStatus.OK.value());
     }
 
+    // 로그아웃 - 요청한 토큰을 폐기해 이후 요청에서 인증되지 않도록 함
     @PostMapping("/logout")
-    public ApiResponse<Void> logout() {
+    public ApiResponse<Void> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            userService.logout(authorization.substring("Bearer ".length()));
+        }
         return ApiResponse.success(null, HttpStatus.OK.value());
     }
 }
\ No newline at end of file
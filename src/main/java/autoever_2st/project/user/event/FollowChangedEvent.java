@@ -0,0 +1,16 @@
+package autoever_2st.project.user.event;
+
+/**
+ * 팔로우 관계가 실제로 추가/삭제되었음을 알리는 이벤트 (member_follower 행이 바뀐 경우에만 발행)
+ * - 팔로우: delta = 1, 언팔로우: delta = -1
+ */
+public record FollowChangedEvent(Long followerId, Long targetMemberId, long delta) {
+
+    public static FollowChangedEvent followed(Long followerId, Long targetMemberId) {
+        return new FollowChangedEvent(followerId, targetMemberId, 1L);
+    }
+
+    public static FollowChangedEvent unfollowed(Long followerId, Long targetMemberId) {
+        return new FollowChangedEvent(followerId, targetMemberId, -1L);
+    }
+}
@@ -1,17 +1,18 @@
 package autoever_2st.project.user.filter;
 
-import autoever_2st.project.user.Entity.Member;
-import autoever_2st.project.user.Entity.Role;
-import autoever_2st.project.user.Entity.RoleType;
-import autoever_2st.project.user.Repository.RoleRepository;
-import autoever_2st.project.user.Repository.UserRepository;
 import autoever_2st.project.user.Service.CustomUserDetails;
+import autoever_2st.project.user.Service.MemberSnapshotCache;
 import autoever_2st.project.user.jwt.JWTUtil;
+import autoever_2st.project.user.jwt.TokenRevocationStore;
+import autoever_2st.project.user.jwt.VerifiedTokenCache;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -19,12 +20,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JWTFilter extends OncePerRequestFilter {
 
-    private final JWTUtil jwtUtil;
-    private final RoleRepository roleRepository;
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationStore tokenRevocationStore;
+    private final MemberSnapshotCache memberSnapshotCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -36,7 +38,7 @@ public class JWTFilter extends OncePerRequestFilter {
         // Authorization 헤더가 비어있거나 "Bearer " 로 시작하지 않은 경우
         if(authorization == null || !authorization.startsWith("Bearer ")){
 
-            System.out.println("token null");
+            log.debug("Authorization 헤더에 Bearer 토큰이 없습니다.");
             // 토큰이 유효하지 않으므로 request와 response를 다음 필터로 넘겨줌
             filterChain.doFilter(request, response);
 
@@ -47,10 +49,29 @@ public class JWTFilter extends OncePerRequestFilter {
         // Authorization에서 Bearer 접두사 제거
         String token = authorization.split(" ")[1];
 
-        // token 소멸 시간 검증
-        // 유효기간이 만료한 경우
-        if(jwtUtil.isExpired(token)){
-            System.out.println("token expired");
+        // token 서명/소멸 시간 검증 (최근 검증한 토큰은 캐시된 클레임 사용)
+        // 유효하지 않거나 유효기간이 만료한 경우
+        String tokenDigest = JWTUtil.digest(token);
+        JWTUtil.VerifiedToken verified;
+        try {
+            verified = verifiedTokenCache.verify(token, tokenDigest);
+        } catch (ExpiredJwtException e) {
+            log.debug("만료된 토큰입니다.");
+            filterChain.doFilter(request, response);
+
+            // 메서드 종료
+            return;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("유효하지 않은 토큰: {}", e.getMessage());
+            filterChain.doFilter(request, response);
+
+            // 메서드 종료
+            return;
+        }
+
+        // 로그아웃으로 폐기된 토큰인지 확인 (폐기되지 않은 토큰은 메모리 필터에서 바로 통과)
+        if (tokenRevocationStore.isRevoked(tokenDigest)) {
+            log.debug("로그아웃으로 폐기된 토큰입니다.");
             filterChain.doFilter(request, response);
 
             // 메서드 종료
@@ -59,25 +80,21 @@ public class JWTFilter extends OncePerRequestFilter {
 
         // 최종적으로 token 검증 완료 => 일시적인 session 생성
         // session에 user 정보 설정
-        String loginId = jwtUtil.getLoginId(token);
-        String roleName = jwtUtil.getRole(token);
-
-        // Role 객체 DB 조회
-        Role role = roleRepository.findByName(RoleType.valueOf(roleName))
-                .orElseThrow(() -> new RuntimeException("Role not found"));
-
-//        Member member = new Member();
-//        member.setEmail(loginId);
-//        // 매번 요청마다 DB 조회해서 password 초기화 할 필요 x => 정확한 비밀번호 넣을 필요 없음
-//        // 따라서 임시 비밀번호 설정!
-//        member.setPassword("임시 비밀번호");
-//        member.setRole(role);
-
-        // 회원 정보 DB에서 조회 (이메일 기준으로)
-        Member member = userRepository.findByEmail(loginId)
-                .orElseThrow(() -> new RuntimeException("Member not found"));
+        String loginId = verified.loginId();
+
+        // 회원 스냅샷 조회 (캐시에 없을 때만 DB 조회)
+        // 토큰의 role 클레임 대신 스냅샷의 권한을 사용 → 관리자가 권한을 바꾸면 즉시 반영
+        MemberSnapshotCache.MemberSnapshot snapshot = memberSnapshotCache.get(loginId);
+        if (snapshot == null) {
+            log.debug("토큰의 회원을 찾을 수 없습니다. loginId: {}", loginId);
+            filterChain.doFilter(request, response);
+
+            // 메서드 종료
+            return;
+        }
+
         // UserDetails에 회원 정보 객체 담기
-        CustomUserDetails customUserDetails = new CustomUserDetails(member);
+        CustomUserDetails customUserDetails = new CustomUserDetails(snapshot.toMember());
 
         // 스프링 시큐리티 인증 토큰 생성
         Authentication authToken = new UsernamePasswordAuthenticationToken(customUserDetails, null, customUserDetails.getAuthorities());
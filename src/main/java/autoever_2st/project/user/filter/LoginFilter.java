@@ -1,14 +1,20 @@
 package autoever_2st.project.user.filter;
 
+import autoever_2st.project.exception.exception_class.business.BusinessException;
 import autoever_2st.project.user.Service.CustomUserDetails;
+import autoever_2st.project.user.Service.LoginExecutor;
 import autoever_2st.project.user.dto.request.LoginRequestDto;
 import autoever_2st.project.user.jwt.JWTUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
@@ -18,16 +24,24 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
+    // 인증 대기 상한 (실행기 대기열 + 해시 검증)
+    private static final long ASYNC_TIMEOUT_MILLIS = 15_000L;
+
     private final AuthenticationManager authenticationManager;
     private final JWTUtil jwtUtil;
+    private final LoginExecutor loginExecutor;
 
-    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil) {
+    public LoginFilter(AuthenticationManager authenticationManager, JWTUtil jwtUtil, LoginExecutor loginExecutor) {
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.loginExecutor = loginExecutor;
     }
 
     @Override
@@ -55,13 +69,81 @@ public class LoginFilter extends UsernamePasswordAuthenticationFilter {
 
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(loginId, password, null);
 
-        return authenticationManager.authenticate(authToken);
+        // 비밀번호 해시 검증은 로그인 전용 실행기에서 수행 (동시성 제한 초과 시 429/503 즉시 응답)
+        CompletableFuture<Authentication> future;
+        try {
+            future = loginExecutor.submit(request.getRemoteAddr(), loginId, () -> authenticationManager.authenticate(authToken));
+        } catch (BusinessException e) {
+            response.setStatus(e.getStatus());
+            return null;
+        }
+
+        // 비동기를 지원하지 않는 경우 요청 스레드에서 결과 대기 (동시성 제한/지표는 동일하게 적용)
+        if (!request.isAsyncSupported()) {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof AuthenticationException authenticationException) {
+                    throw authenticationException;
+                }
+                throw new AuthenticationServiceException("로그인 처리 중 오류가 발생했습니다.", e.getCause());
+            }
+        }
+
+        // 요청 스레드는 바로 반환하고, 인증이 끝나면 실행기 스레드에서 응답 작성
+        // null 반환 → 인증 진행 중이므로 필터 체인을 계속하지 않음
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(ASYNC_TIMEOUT_MILLIS);
+        AtomicBoolean completed = new AtomicBoolean();
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                if (completed.compareAndSet(false, true)) {
+                    ((HttpServletResponse) event.getAsyncContext().getResponse()).setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+                    event.getAsyncContext().complete();
+                }
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                completed.set(true);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        future.whenComplete((authentication, error) -> {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            HttpServletResponse asyncResponse = (HttpServletResponse) asyncContext.getResponse();
+            if (error == null) {
+                writeToken(asyncResponse, authentication);
+            } else if (error.getCause() instanceof AuthenticationException || error instanceof AuthenticationException) {
+                asyncResponse.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            } else {
+                logger.error("로그인 처리 중 오류", error);
+                asyncResponse.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+            asyncContext.complete();
+        });
+        return null;
     }
 
     // 로그인 성공 시
     @Override
     protected void successfulAuthentication(HttpServletRequest request, HttpServletResponse response,
                                             FilterChain chain, Authentication authentication) {
+        writeToken(response, authentication);
+    }
+
+    private void writeToken(HttpServletResponse response, Authentication authentication) {
         // username 추출
         CustomUserDetails customUserDetails = (CustomUserDetails) authentication.getPrincipal();
         String username = customUserDetails.getUsername();
@@ -1,5 +1,8 @@
 package autoever_2st.project.user.jwt;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -7,12 +10,17 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 public class JWTUtil {
 
     private SecretKey secretKey;
+    // 파서는 스레드 안전하므로 한 번만 생성해 재사용
+    private final JwtParser parser;
 
     // @Value : application.yml에서의 특정한 변수 데이터를 가져올 수 있음
     // string key는 jwt에서 사용 안하므로 객체 키 생성!
@@ -20,24 +28,48 @@ public class JWTUtil {
     public JWTUtil(@Value("${spring.jwt.secret}") String secret) {
 
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
+    }
+
+    // 토큰 검증 + 클레임 추출 (서명 검증과 파싱을 한 번만 수행)
+    // 서명 불일치, 형식 오류, 만료 시 JwtException 발생
+    public VerifiedToken verify(String token) {
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new VerifiedToken(claims.get("loginId", String.class), claims.get("role", String.class), claims.getExpiration());
     }
 
     // loginId 반환 메서드
     public String getLoginId(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("loginId", String.class);
+        return verify(token).loginId();
     }
 
     // role 반환 메서드
     public String getRole(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return verify(token).role();
     }
 
     // 토큰이 소멸 (유효기간 만료) 하였는지 검증 메서드
     public Boolean isExpired(String token) {
 
-        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().getExpiration().before(new Date());
+        try {
+            return verify(token).expiration().before(new Date());
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
+    }
+
+    // 토큰 원문의 SHA-256 digest (캐시/폐기 목록의 키, 토큰 원문은 보관하지 않음)
+    public static String digest(String token) {
+
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 
     // 토큰 생성 메서드
@@ -51,4 +83,8 @@ public class JWTUtil {
                 .signWith(secretKey)
                 .compact();
     }
+
+    // 검증된 토큰의 클레임
+    public record VerifiedToken(String loginId, String role, Date expiration) {
+    }
 }
@@ -0,0 +1,55 @@
+package autoever_2st.project.user.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 digest(SHA-256 hex) 전용 블룸 필터
+ * - mightContain 이 false 이면 확실히 없음, true 이면 있을 수도 있음 (오탐률 FALSE_POSITIVE_RATE 목표)
+ * - digest 자체가 균등 분포이므로 앞 32자리를 두 개의 long으로 읽어 이중 해싱
+ * - 추가/조회 모두 락 없이 동작, 삭제는 지원하지 않으므로 필요하면 새 필터로 다시 만듦
+ */
+final class TokenBloomFilter {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    TokenBloomFilter(int expectedInsertions) {
+        int insertions = Math.max(expectedInsertions, 1);
+        long size = (long) Math.ceil(-insertions * Math.log(FALSE_POSITIVE_RATE) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((size + 63) / 64));
+        this.bitSize = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+    }
+
+    void put(String tokenDigest) {
+        long hash1 = Long.parseUnsignedLong(tokenDigest.substring(0, 16), 16);
+        long hash2 = Long.parseUnsignedLong(tokenDigest.substring(16, 32), 16);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String tokenDigest) {
+        long hash1 = Long.parseUnsignedLong(tokenDigest.substring(0, 16), 16);
+        long hash2 = Long.parseUnsignedLong(tokenDigest.substring(16, 32), 16);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
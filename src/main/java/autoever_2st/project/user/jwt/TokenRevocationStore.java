@@ -0,0 +1,156 @@
+package autoever_2st.project.user.jwt;
+
+import autoever_2st.project.admin.dto.stats.TokenRevocationStatsDto;
+import autoever_2st.project.batch.dao.RevokedTokenDao;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * JWT 폐기(로그아웃) 목록
+ * - 저장: revoked_token 테이블 (토큰 digest, 토큰 만료 시각) → 토큰이 만료되면 더 확인할 필요가 없으므로 COMPACTION 주기로 삭제
+ * - 조회: 메모리 블룸 필터로 먼저 거름 → 폐기되지 않은 토큰(대부분)은 I/O 없이 통과, 필터가 "있을 수도 있음"일 때만 DB 확인
+ * - 다른 인스턴스에서 폐기한 토큰은 SYNC_INTERVAL_MILLIS마다 revoked_at 기준으로 읽어 필터에 추가 → 최대 반영 지연 ≈ 동기화 주기
+ * - 블룸 필터는 삭제가 안 되므로 만료 항목 정리 후 남은 항목으로 새로 만들어 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationStore {
+
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final long SYNC_INTERVAL_MILLIS = 5_000L;
+    // 인스턴스 간 시계 차이/늦게 커밋된 기록을 놓치지 않도록 이전 동기화 시각보다 앞에서부터 다시 읽음
+    private static final long SYNC_OVERLAP_SECONDS = 60L;
+
+    private final RevokedTokenDao revokedTokenDao;
+    private final JWTUtil jwtUtil;
+
+    private final LongAdder checkCount = new LongAdder();
+    private final LongAdder filterPassCount = new LongAdder();
+    private final LongAdder storeLookupCount = new LongAdder();
+    private final LongAdder revokedHitCount = new LongAdder();
+    private final LongAdder revokeCount = new LongAdder();
+
+    private volatile TokenBloomFilter filter = new TokenBloomFilter(EXPECTED_REVOCATIONS);
+    private volatile int filterEntries;
+    // 최초 적재 전에는 null → 모든 확인을 DB로 보냄
+    private volatile LocalDateTime lastSyncedAt;
+
+    /**
+     * 토큰 폐기 (이미 무효한 토큰이면 false)
+     */
+    public boolean revoke(String token) {
+        JWTUtil.VerifiedToken verified;
+        try {
+            verified = jwtUtil.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+        if (verified.expiration() == null) {
+            log.warn("만료 시각이 없는 토큰은 폐기 목록에 기록하지 않습니다. loginId: {}", verified.loginId());
+            return false;
+        }
+
+        String digest = JWTUtil.digest(token);
+        LocalDateTime expiresAt = verified.expiration().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
+        revokedTokenDao.insert(digest, expiresAt, LocalDateTime.now());
+        filter.put(digest);
+        revokeCount.increment();
+        return true;
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (필터에 없으면 I/O 없이 false)
+     */
+    public boolean isRevoked(String tokenDigest) {
+        checkCount.increment();
+        if (lastSyncedAt != null && !filter.mightContain(tokenDigest)) {
+            filterPassCount.increment();
+            return false;
+        }
+
+        storeLookupCount.increment();
+        boolean revoked = revokedTokenDao.exists(tokenDigest, LocalDateTime.now());
+        if (revoked) {
+            revokedHitCount.increment();
+        }
+        return revoked;
+    }
+
+    public TokenRevocationStatsDto getStats() {
+        return new TokenRevocationStatsDto(
+                filterEntries,
+                lastSyncedAt,
+                checkCount.sum(),
+                filterPassCount.sum(),
+                storeLookupCount.sum(),
+                revokedHitCount.sum(),
+                revokeCount.sum()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("폐기 토큰 필터 적재 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 폐기한 토큰 반영
+     */
+    @Scheduled(fixedDelay = SYNC_INTERVAL_MILLIS)
+    public synchronized void syncRecent() {
+        try {
+            if (lastSyncedAt == null) {
+                rebuild();
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            List<String> digests = revokedTokenDao.findDigestsRevokedSince(lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS), now);
+            TokenBloomFilter current = filter;
+            digests.forEach(current::put);
+            lastSyncedAt = now;
+        } catch (Exception e) {
+            log.error("폐기 토큰 동기화 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 만료된 폐기 기록 삭제 후 필터 재구성
+     */
+    @Scheduled(cron = "0 0 * * * ?")
+    public synchronized void compact() {
+        try {
+            revokedTokenDao.deleteExpired(LocalDateTime.now());
+            rebuild();
+        } catch (Exception e) {
+            log.error("폐기 토큰 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> digests = revokedTokenDao.findActiveDigests(now);
+
+        TokenBloomFilter rebuilt = new TokenBloomFilter(Math.max(EXPECTED_REVOCATIONS, digests.size() * 2));
+        digests.forEach(rebuilt::put);
+
+        filter = rebuilt;
+        filterEntries = digests.size();
+        lastSyncedAt = now;
+        log.info("폐기 토큰 필터 재구성 완료 - {}건", digests.size());
+    }
+}
@@ -0,0 +1,111 @@
+package autoever_2st.project.user.jwt;
+
+import autoever_2st.project.admin.dto.stats.CacheStatsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 JWT 클레임 캐시 (JWTFilter 앞단)
+ * - 키: 토큰 원문의 SHA-256 (토큰 자체는 보관하지 않음), 값: 검증된 클레임
+ * - 항목은 토큰 만료(exp) 시각까지만 유효하며, 만료된 항목은 조회 시 제거 후 다시 검증 (→ 만료 예외)
+ * - 메모리 LRU (MAX_ENTRIES건)
+ * - 캐시에 없는 토큰만 JWTUtil.verify 로 서명 검증 (실패 시 JwtException 그대로 전달, 실패 결과는 캐시하지 않음)
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final JWTUtil jwtUtil;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+    private final LongAdder verifyCount = new LongAdder();
+    private final LongAdder verifyFailureCount = new LongAdder();
+    private final LongAdder totalVerifyNanos = new LongAdder();
+
+    private final LinkedHashMap<String, JWTUtil.VerifiedToken> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, JWTUtil.VerifiedToken> eldest) {
+            if (size() > MAX_ENTRIES) {
+                evictionCount.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    /**
+     * 토큰 검증 (캐시에 있으면 서명 검증 생략)
+     */
+    public JWTUtil.VerifiedToken verify(String token) {
+        return verify(token, JWTUtil.digest(token));
+    }
+
+    /**
+     * 토큰 검증 (digest를 이미 계산한 경우)
+     */
+    public JWTUtil.VerifiedToken verify(String token, String digest) {
+        JWTUtil.VerifiedToken cached = get(digest);
+        if (cached != null) {
+            hitCount.increment();
+            return cached;
+        }
+        missCount.increment();
+
+        JWTUtil.VerifiedToken verified;
+        long start = System.nanoTime();
+        try {
+            verified = jwtUtil.verify(token);
+        } catch (RuntimeException e) {
+            verifyFailureCount.increment();
+            throw e;
+        } finally {
+            verifyCount.increment();
+            totalVerifyNanos.add(System.nanoTime() - start);
+        }
+
+        if (verified.expiration() != null) {
+            synchronized (this) {
+                entries.put(digest, verified);
+            }
+        }
+        return verified;
+    }
+
+    public synchronized CacheStatsDto getStats() {
+        return new CacheStatsDto(
+                "verifiedToken",
+                entries.size(),
+                (long) entries.size(),
+                (long) MAX_ENTRIES,
+                hitCount.sum(),
+                missCount.sum(),
+                evictionCount.sum(),
+                expiredCount.sum(),
+                verifyCount.sum(),
+                verifyFailureCount.sum(),
+                totalVerifyNanos.sum()
+        );
+    }
+
+    private synchronized JWTUtil.VerifiedToken get(String digest) {
+        JWTUtil.VerifiedToken cached = entries.get(digest);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiration().getTime() <= System.currentTimeMillis()) {
+            entries.remove(digest);
+            expiredCount.increment();
+            return null;
+        }
+        return cached;
+    }
+}
@@ -2,6 +2,7 @@ package autoever_2st.project.user.oauth;
 
 import org.springframework.http.*;
 import org.springframework.web.client.RestTemplate;
+import autoever_2st.project.reviewer.component.ReviewerLeaderboard;
 import autoever_2st.project.user.Entity.Member;
 import autoever_2st.project.user.Entity.OAuth;
 import autoever_2st.project.user.Entity.Role;
@@ -35,6 +36,7 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
     private final UserRepository userRepository;
     private final OAuthRepository oauthRepository;
     private final RoleRepository roleRepository;
+    private final ReviewerLeaderboard reviewerLeaderboard;
 
     // 닉네임 발생기
     private static final String[] KOREAN_ADJECTIVES = {
@@ -165,6 +167,7 @@ public class CustomOauth2UserService extends DefaultOAuth2UserService {
                     .is_banned(false)
                     .build();
             userRepository.save(member);
+            reviewerLeaderboard.onMemberCreated(member.getId());
         } else {
             member = optionalMember.get(); // 또는 orElseThrow 등으로 안전하게 꺼내기
         }
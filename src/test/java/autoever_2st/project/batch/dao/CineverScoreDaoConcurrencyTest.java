@@ -0,0 +1,154 @@
+package autoever_2st.project.batch.dao;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CineverScoreDao 동시 갱신 테스트 (실제 MySQL, Docker가 없으면 건너뜀)
+ * - 같은 영화에 리뷰가 동시에 몰려도 score 합계와 review_count가 유실되지 않는지 확인
+ * - 한 행을 두고 경합하는 upsert가 충분히 겹치도록 수천 건을 32개 스레드로 실행
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class CineverScoreDaoConcurrencyTest {
+
+    // Hikari 기본 풀(10)보다 많은 동시 요청, 인기 영화 하나에 몰리는 수천 건 규모
+    private static final int THREADS = 32;
+    private static final int REVIEWS = 5_000;
+    private static final long MOVIE_ID = 1L;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static CineverScoreDao cineverScoreDao;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        dataSource.setMaximumPoolSize(THREADS);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        cineverScoreDao = new CineverScoreDao(jdbcTemplate);
+
+        jdbcTemplate.execute("CREATE TABLE cinever_score (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "movie_id BIGINT NOT NULL UNIQUE, " +
+                "score DOUBLE NOT NULL, " +
+                "review_count INT NOT NULL)");
+    }
+
+    @AfterAll
+    static void closeDataSource() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void clearTable() {
+        jdbcTemplate.update("DELETE FROM cinever_score");
+    }
+
+    @Test
+    @DisplayName("행이 없는 영화에 동시에 리뷰를 추가해도 한 행에 합계와 건수가 모두 반영된다")
+    void concurrentAddReviewLosesNoUpdates() throws Exception {
+        runConcurrently(REVIEWS, i -> cineverScoreDao.addReview(MOVIE_ID, rating(i)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cinever_score", Long.class)).isEqualTo(1L);
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT score, review_count FROM cinever_score WHERE movie_id = ?", MOVIE_ID);
+        assertThat(((Number) row.get("score")).doubleValue()).isEqualTo(expectedScoreSum(REVIEWS));
+        assertThat(((Number) row.get("review_count")).intValue()).isEqualTo(REVIEWS);
+    }
+
+    @Test
+    @DisplayName("추가/수정/삭제가 섞여 동시에 들어와도 최종 합계와 건수가 맞는다")
+    void concurrentMixedUpdatesLoseNoUpdates() throws Exception {
+        runConcurrently(REVIEWS, i -> cineverScoreDao.addReview(MOVIE_ID, rating(i)));
+
+        // 앞 절반은 평점 5.0으로 수정, 뒤 절반 중 REVIEWS / 5건은 삭제, 나머지는 추가
+        int removed = REVIEWS / 5;
+        runConcurrently(REVIEWS, i -> {
+            if (i < REVIEWS / 2) {
+                cineverScoreDao.replaceRating(MOVIE_ID, rating(i), 5.0);
+            } else if (i < REVIEWS / 2 + removed) {
+                cineverScoreDao.removeReview(MOVIE_ID, rating(i));
+            } else {
+                cineverScoreDao.addReview(MOVIE_ID, rating(i));
+            }
+        });
+
+        double expectedScore = 0;
+        for (int i = 0; i < REVIEWS; i++) {
+            expectedScore += i < REVIEWS / 2 ? 5.0 : rating(i);
+        }
+        for (int i = REVIEWS / 2; i < REVIEWS; i++) {
+            expectedScore += i < REVIEWS / 2 + removed ? -rating(i) : rating(i);
+        }
+        int expectedCount = REVIEWS - removed + (REVIEWS - REVIEWS / 2 - removed);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT score, review_count FROM cinever_score WHERE movie_id = ?", MOVIE_ID);
+        assertThat(((Number) row.get("score")).doubleValue()).isEqualTo(expectedScore);
+        assertThat(((Number) row.get("review_count")).intValue()).isEqualTo(expectedCount);
+    }
+
+    // 0.5 ~ 5.0 (0.5 단위라 double 합계가 정확히 떨어짐)
+    private static double rating(int i) {
+        return (i % 10 + 1) * 0.5;
+    }
+
+    private static double expectedScoreSum(int reviews) {
+        double sum = 0;
+        for (int i = 0; i < reviews; i++) {
+            sum += rating(i);
+        }
+        return sum;
+    }
+
+    private static void runConcurrently(int tasks, IndexedTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks);
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+}
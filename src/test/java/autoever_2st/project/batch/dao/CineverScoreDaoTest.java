@@ -0,0 +1,66 @@
+package autoever_2st.project.batch.dao;
+
+import autoever_2st.project.jdbc.constants.SqlConstants;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CineverScoreDaoTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CineverScoreDao cineverScoreDao = new CineverScoreDao(jdbcTemplate);
+
+    @Test
+    @DisplayName("리뷰 추가는 읽기 없이 upsert 한 문장으로 점수와 리뷰 수를 올린다")
+    void addReviewIsSingleUpsert() {
+        cineverScoreDao.addReview(1L, 4.5);
+
+        verify(jdbcTemplate).update(SqlConstants.UPSERT_CINEVER_SCORE_ADD_REVIEW, 1L, 4.5);
+        assertThat(SqlConstants.UPSERT_CINEVER_SCORE_ADD_REVIEW)
+                .contains("ON DUPLICATE KEY UPDATE")
+                .contains("score = score + VALUES(score)")
+                .contains("review_count = review_count + 1");
+    }
+
+    @Test
+    @DisplayName("평점 수정은 이전 평점을 빼고 새 평점을 더한다")
+    void replaceRatingBindsOldThenNew() {
+        when(jdbcTemplate.update(anyString(), any(), any(), any())).thenReturn(1);
+
+        cineverScoreDao.replaceRating(1L, 3.0, 4.5);
+
+        verify(jdbcTemplate).update(SqlConstants.UPDATE_CINEVER_SCORE_REPLACE_RATING, 3.0, 4.5, 1L);
+        assertThat(SqlConstants.UPDATE_CINEVER_SCORE_REPLACE_RATING).contains("score = score - ? + ?");
+    }
+
+    @Test
+    @DisplayName("리뷰 삭제는 점수와 리뷰 수를 함께 내린다")
+    void removeReviewDecrementsBoth() {
+        when(jdbcTemplate.update(anyString(), any(), any())).thenReturn(1);
+
+        cineverScoreDao.removeReview(1L, 4.5);
+
+        verify(jdbcTemplate).update(SqlConstants.UPDATE_CINEVER_SCORE_REMOVE_REVIEW, 4.5, 1L);
+        assertThat(SqlConstants.UPDATE_CINEVER_SCORE_REMOVE_REVIEW)
+                .contains("score = score - ?")
+                .contains("review_count = review_count - 1");
+    }
+
+    @Test
+    @DisplayName("갱신할 행이 없으면 수정/삭제는 예외")
+    void throwsWhenScoreRowMissing() {
+        when(jdbcTemplate.update(anyString(), any(), any(), any())).thenReturn(0);
+        when(jdbcTemplate.update(anyString(), any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> cineverScoreDao.replaceRating(1L, 3.0, 4.5)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> cineverScoreDao.removeReview(1L, 4.5)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,105 @@
+package autoever_2st.project.batch.dao;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 수(review.like_count) 컬럼 추가 전 리뷰의 좋아요 수 복구 테스트 (실제 MySQL, Docker가 없으면 건너뜀)
+ * - ddl-auto가 기본값 없는 nullable 컬럼을 추가한 상황을 재현해, 기존 좋아요가 있는 리뷰가 올바른 수를 갖는지 확인
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ReviewLikeDaoTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static ReviewLikeDao reviewLikeDao;
+
+    @BeforeAll
+    static void setUpDataSource() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(MYSQL.getJdbcUrl());
+        dataSource.setUsername(MYSQL.getUsername());
+        dataSource.setPassword(MYSQL.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        reviewLikeDao = new ReviewLikeDao(jdbcTemplate);
+    }
+
+    @AfterAll
+    static void closeDataSource() {
+        dataSource.close();
+    }
+
+    @BeforeEach
+    void createTablesWithoutLikeCount() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS review_like");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS review");
+        jdbcTemplate.execute("CREATE TABLE review (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE review_like (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "review_id BIGINT NOT NULL, " +
+                "member_id BIGINT NOT NULL, " +
+                "UNIQUE KEY uk_review_like (review_id, member_id))");
+
+        // 컬럼 추가 전 데이터: 리뷰 1은 좋아요 3개, 리뷰 2는 좋아요 2개, 리뷰 3은 없음
+        jdbcTemplate.update("INSERT INTO review (id) VALUES (1), (2), (3)");
+        jdbcTemplate.update("INSERT INTO review_like (review_id, member_id) VALUES (1, 10), (1, 11), (1, 12), (2, 10), (2, 11)");
+
+        // Review.likeCount 매핑대로 ddl-auto가 추가하는 컬럼 (nullable, 기본값 없음)
+        jdbcTemplate.execute("ALTER TABLE review ADD COLUMN like_count BIGINT");
+    }
+
+    @Test
+    @DisplayName("기동 시 채움은 기존 좋아요가 있는 리뷰에 review_like 개수를 채운다")
+    void fillMissingLikeCountsRestoresExistingLikes() {
+        int updated = reviewLikeDao.fillMissingLikeCounts();
+
+        assertThat(updated).isEqualTo(3);
+        assertThat(likeCount(1L)).isEqualTo(3L);
+        assertThat(likeCount(2L)).isEqualTo(2L);
+        assertThat(likeCount(3L)).isZero();
+        assertThat(reviewLikeDao.fillMissingLikeCounts()).isZero();
+    }
+
+    @Test
+    @DisplayName("채움 전에 좋아요가 취소되어도 음수가 아닌 실제 개수로 채운다")
+    void firstUnlikeBeforeFillUsesActualCount() {
+        // ReviewLikeService.unlikeReview 순서: 삭제 후 증감 (같은 트랜잭션)
+        assertThat(reviewLikeDao.delete(1L, 10L)).isTrue();
+        reviewLikeDao.addLikeCount(1L, -1);
+
+        assertThat(likeCount(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("채움 전 첫 좋아요는 새 좋아요를 포함한 실제 개수로 채우고 이후에는 증감한다")
+    void firstLikeBeforeFillUsesActualCount() {
+        assertThat(reviewLikeDao.insert(2L, 12L)).isTrue();
+        reviewLikeDao.addLikeCount(2L, 1);
+        assertThat(likeCount(2L)).isEqualTo(3L);
+
+        assertThat(reviewLikeDao.insert(2L, 13L)).isTrue();
+        reviewLikeDao.addLikeCount(2L, 1);
+        assertThat(likeCount(2L)).isEqualTo(4L);
+
+        // 이미 채워진 리뷰는 기동 시 채움 대상이 아님
+        reviewLikeDao.fillMissingLikeCounts();
+        assertThat(likeCount(2L)).isEqualTo(4L);
+    }
+
+    private Long likeCount(Long reviewId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM review WHERE id = ?", Long.class, reviewId);
+    }
+}
@@ -0,0 +1,128 @@
+package autoever_2st.project.movie.component;
+
+import autoever_2st.project.exception.exception_class.business.ValidationException;
+import autoever_2st.project.movie.entity.MovieCard;
+import autoever_2st.project.movie.enums.MovieCardSortType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MovieCardCursorCodecTest {
+
+    private final MovieCardCursorCodec codec = new MovieCardCursorCodec();
+
+    @Test
+    @DisplayName("최신순 커서는 개봉일(epoch millis)과 movieId로 복원된다")
+    void roundTripsLatest() {
+        MovieCard card = movieCard(101L, new Date(1_700_000_000_000L), 12.5, 830.0);
+
+        MovieCardCursorCodec.Cursor cursor = codec.decode(MovieCardSortType.LATEST, codec.encode(MovieCardSortType.LATEST, card));
+
+        assertThat(cursor.sortKeyAsLong()).isEqualTo(1_700_000_000_000L);
+        assertThat(cursor.movieId()).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("인기순 커서는 popularity와 movieId로 복원된다")
+    void roundTripsPopular() {
+        MovieCard card = movieCard(202L, new Date(), 1234.5678, 830.0);
+
+        MovieCardCursorCodec.Cursor cursor = codec.decode(MovieCardSortType.POPULAR, codec.encode(MovieCardSortType.POPULAR, card));
+
+        assertThat(cursor.sortKeyAsDouble()).isEqualTo(1234.5678);
+        assertThat(cursor.movieId()).isEqualTo(202L);
+    }
+
+    @Test
+    @DisplayName("평점순 커서는 vote_score와 movieId로 복원된다")
+    void roundTripsTopRated() {
+        MovieCard card = movieCard(303L, new Date(), 12.5, 1.0E7);
+
+        MovieCardCursorCodec.Cursor cursor = codec.decode(MovieCardSortType.TOP_RATED, codec.encode(MovieCardSortType.TOP_RATED, card));
+
+        assertThat(cursor.sortKeyAsDouble()).isEqualTo(1.0E7);
+        assertThat(cursor.movieId()).isEqualTo(303L);
+    }
+
+    @Test
+    @DisplayName("커서는 패딩 없는 URL-safe 문자열이다")
+    void encodesUrlSafeWithoutPadding() {
+        MovieCard card = movieCard(1L, new Date(1L), 0.1, 0.1);
+
+        for (MovieCardSortType sortType : MovieCardSortType.values()) {
+            assertThat(codec.encode(sortType, card)).matches("[A-Za-z0-9_-]+");
+        }
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준에서 발급된 커서는 거부한다")
+    void rejectsCursorOfOtherSortType() {
+        String cursor = codec.encode(MovieCardSortType.POPULAR, movieCard(1L, new Date(), 12.5, 830.0));
+
+        assertThatThrownBy(() -> codec.decode(MovieCardSortType.TOP_RATED, cursor))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("유효하지 않은 커서입니다.")
+                .extracting("status").isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "not-base64!!", "TDoxMjM", "UDphYmM6eHl6", "UDoxLjA6Mjox"})
+    @DisplayName("Base64가 아니거나 형식이 맞지 않는 커서는 거부한다")
+    void rejectsMalformedCursor(String cursor) {
+        assertThatThrownBy(() -> codec.decode(MovieCardSortType.POPULAR, cursor))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("유효하지 않은 커서입니다.")
+                .extracting("status").isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    @DisplayName("movieId가 숫자가 아닌 커서는 거부한다")
+    void rejectsNonNumericMovieId() {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("P:1.0:abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> codec.decode(MovieCardSortType.POPULAR, cursor))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("유효하지 않은 커서입니다.")
+                .extracting("status").isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"P:abc:1", "P:NaN:1", "P:Infinity:1", "P::1"})
+    @DisplayName("정렬 키가 숫자가 아닌 커서는 해석 단계에서 거부한다")
+    void rejectsNonNumericSortKey(String raw) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> codec.decode(MovieCardSortType.POPULAR, cursor))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("최신순 커서의 정렬 키는 정수(epoch millis)여야 한다")
+    void rejectsFractionalLatestSortKey() {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("L:1.5:1".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> codec.decode(MovieCardSortType.LATEST, cursor))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    private MovieCard movieCard(Long movieId, Date releaseDate, Double popularity, Double voteScore) {
+        MovieCard card = new MovieCard();
+        ReflectionTestUtils.setField(card, "movieId", movieId);
+        ReflectionTestUtils.setField(card, "releaseDate", releaseDate);
+        ReflectionTestUtils.setField(card, "popularity", popularity);
+        ReflectionTestUtils.setField(card, "voteScore", voteScore);
+        return card;
+    }
+}
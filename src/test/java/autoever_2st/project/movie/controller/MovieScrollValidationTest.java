@@ -0,0 +1,91 @@
+package autoever_2st.project.movie.controller;
+
+import autoever_2st.project.exception.GlobalExceptionHandler;
+import autoever_2st.project.movie.component.MovieCardCursorCodec;
+import autoever_2st.project.movie.service.impl.MovieServiceImpl;
+import autoever_2st.project.movie.service.impl.MovieWishlistServiceImpl;
+import autoever_2st.project.review.Service.KeywordService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커서 조회의 잘못된 입력(변조된 커서, 범위를 벗어난 size)이 500이 아닌 400으로 응답되는지 확인
+ * - 컨트롤러 → MovieServiceImpl → MovieCardCursorCodec → GlobalExceptionHandler 경로 (DB 조회 전에 거부되므로 저장소는 사용하지 않음)
+ */
+@ExtendWith(MockitoExtension.class)
+class MovieScrollValidationTest {
+
+    @Spy
+    private MovieCardCursorCodec movieCardCursorCodec = new MovieCardCursorCodec();
+
+    @InjectMocks
+    private MovieServiceImpl movieService;
+
+    @Mock
+    private MovieWishlistServiceImpl movieWishlistService;
+
+    @Mock
+    private KeywordService keywordService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new MovieController(movieWishlistService, movieService, keywordService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not-base64!!", "UDphYmM6MQ", "VDoxLjA6MQ"})
+    @DisplayName("변조되었거나 다른 정렬 기준의 커서는 400으로 응답한다")
+    void tamperedCursorReturnsBadRequest(String cursor) throws Exception {
+        mockMvc.perform(get("/movie/popular/scroll").param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("유효하지 않은 커서입니다."));
+    }
+
+    @Test
+    @DisplayName("최신순 커서의 정렬 키가 정수가 아니면 400으로 응답한다")
+    void fractionalLatestSortKeyReturnsBadRequest() throws Exception {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString("L:1.5:1".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/movie/latest/scroll").param("cursor", cursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-1", "1000"})
+    @DisplayName("size가 허용 범위를 벗어나면 400으로 응답한다")
+    void outOfRangeSizeReturnsBadRequest(String size) throws Exception {
+        mockMvc.perform(get("/movie/top-rated/scroll").param("size", size))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("자동완성 size가 허용 범위를 벗어나면 400으로 응답한다")
+    void outOfRangeAutocompleteSizeReturnsBadRequest() throws Exception {
+        mockMvc.perform(get("/movie/autocomplete").param("query", "기생충").param("size", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
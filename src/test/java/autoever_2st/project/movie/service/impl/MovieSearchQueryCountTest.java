@@ -0,0 +1,213 @@
+package autoever_2st.project.movie.service.impl;
+
+import autoever_2st.project.config.querydsl.QuerydslConfig;
+import autoever_2st.project.external.entity.tmdb.ImageType;
+import autoever_2st.project.external.entity.tmdb.MovieGenre;
+import autoever_2st.project.external.entity.tmdb.MovieGenreMatch;
+import autoever_2st.project.external.entity.tmdb.TmdbMember;
+import autoever_2st.project.external.entity.tmdb.TmdbMovieCrew;
+import autoever_2st.project.external.entity.tmdb.TmdbMovieDetail;
+import autoever_2st.project.external.entity.tmdb.TmdbMovieImages;
+import autoever_2st.project.external.enums.Gender;
+import autoever_2st.project.movie.component.AutocompleteIndex;
+import autoever_2st.project.movie.component.BoxOfficeSnapshot;
+import autoever_2st.project.movie.component.MovieCardConverter;
+import autoever_2st.project.movie.component.MovieCardCursorCodec;
+import autoever_2st.project.movie.component.MovieDetailAssembler;
+import autoever_2st.project.movie.component.MovieDetailCache;
+import autoever_2st.project.movie.component.MovieDtoHydrator;
+import autoever_2st.project.movie.component.MovieGenreDictionary;
+import autoever_2st.project.movie.component.MovieTitleIndex;
+import autoever_2st.project.movie.component.OttMovieShelf;
+import autoever_2st.project.movie.component.PersonSearchIndex;
+import autoever_2st.project.movie.component.RandomMovieGenerate;
+import autoever_2st.project.movie.dto.MovieDto;
+import autoever_2st.project.movie.entity.Movie;
+import autoever_2st.project.review.Service.KeywordService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * searchMovieByTitle 페이지당 SQL 문 수 측정 (Hibernate Statistics, 실제 MySQL, Docker가 없으면 건너뜀)
+ * - 페이지 크기가 달라도 실행되는 SQL 문 수가 같아야 함 (행마다 추가 조회가 없어야 함)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({QuerydslConfig.class, MovieServiceImpl.class, MovieGenreDictionary.class})
+class MovieSearchQueryCountTest {
+
+    private static final String TITLE = "쿼리 카운트";
+    private static final int MOVIE_COUNT = 60;
+    private static final int[] PAGE_SIZES = {1, 10, 50};
+
+    // LIKE 검색 + count, 장르 매칭, 포스터, 감독
+    private static final long LIKE_SEARCH_STATEMENTS = 5;
+    // PK 조회, 장르 매칭, 포스터, 감독
+    private static final long INDEX_SEARCH_STATEMENTS = 4;
+
+    @Container
+    @ServiceConnection
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private MovieServiceImpl movieService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MovieGenreDictionary movieGenreDictionary;
+
+    @MockitoBean
+    private MovieTitleIndex movieTitleIndex;
+    @MockitoBean
+    private RandomMovieGenerate randomMovieGenerate;
+    @MockitoBean
+    private KeywordService keywordService;
+    @MockitoBean
+    private MovieDetailAssembler movieDetailAssembler;
+    @MockitoBean
+    private MovieDetailCache movieDetailCache;
+    @MockitoBean
+    private MovieCardConverter movieCardConverter;
+    @MockitoBean
+    private MovieCardCursorCodec movieCardCursorCodec;
+    @MockitoBean
+    private AutocompleteIndex autocompleteIndex;
+    @MockitoBean
+    private PersonSearchIndex personSearchIndex;
+    @MockitoBean
+    private BoxOfficeSnapshot boxOfficeSnapshot;
+    @MockitoBean
+    private OttMovieShelf ottMovieShelf;
+    @MockitoBean
+    private MovieDtoHydrator movieDtoHydrator;
+
+    private Statistics statistics;
+    private final List<Long> tmdbMovieDetailIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        MovieGenre action = entityManager.persist(new MovieGenre(28L, "액션"));
+        MovieGenre drama = entityManager.persist(new MovieGenre(18L, "드라마"));
+
+        // 인기순 정렬 결과와 같은 순서로 ID를 모아 둠 (인덱스 검색 stub 용)
+        for (int i = MOVIE_COUNT; i >= 1; i--) {
+            TmdbMovieDetail detail = entityManager.persist(new TmdbMovieDetail(false, (long) i, TITLE + " " + i, TITLE + " " + i,
+                    "ko", "", "Released", new Date(), 120, false, 7.5, 100L, (double) i, "movie"));
+            Movie movie = new Movie();
+            detail.setMovie(movie);
+            entityManager.persist(movie);
+
+            entityManager.persist(new MovieGenreMatch(detail, action));
+            entityManager.persist(new MovieGenreMatch(detail, drama));
+            entityManager.persist(new TmdbMovieImages("/poster" + i + ".jpg", "https://image.tmdb.org/t/p/original",
+                    500, 750, 0.667, ImageType.POSTER, "en").setTmdbMovieDetail(detail));
+
+            TmdbMember director = entityManager.persist(new TmdbMember(false, 10_000L + i, "Director " + i, "감독 " + i,
+                    "person", Gender.MALE, "/director" + i + ".jpg"));
+            entityManager.persist(new TmdbMovieCrew("credit-" + i, "Directing", "Director")
+                    .setTmdbMovieDetail(detail)
+                    .setTmdbMember(director));
+
+            tmdbMovieDetailIds.add(detail.getId());
+        }
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("LIKE 검색 경로는 페이지 크기와 무관하게 같은 수의 SQL 문을 실행한다")
+    void likeSearchStatementCountIsConstant() {
+        // MovieTitleIndex mock은 null 반환 → 인덱스 구성 전 LIKE 검색으로 대체
+        warmUpGenreDictionary();
+
+        for (int pageSize : PAGE_SIZES) {
+            Page<MovieDto> page = measure(() -> movieService.searchMovieByTitle(TITLE, PageRequest.of(0, pageSize)), LIKE_SEARCH_STATEMENTS);
+
+            assertPageAssembled(page, pageSize);
+        }
+    }
+
+    @Test
+    @DisplayName("제목 인덱스 경로는 페이지 크기와 무관하게 같은 수의 SQL 문을 실행한다")
+    void indexSearchStatementCountIsConstant() {
+        when(movieTitleIndex.search(anyString(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            long offset = invocation.getArgument(1);
+            int limit = invocation.getArgument(2);
+            List<Long> ids = tmdbMovieDetailIds.subList((int) offset, Math.min((int) offset + limit, tmdbMovieDetailIds.size()));
+            return new MovieTitleIndex.SearchResult(new ArrayList<>(ids), tmdbMovieDetailIds.size());
+        });
+        warmUpGenreDictionary();
+
+        for (int pageSize : PAGE_SIZES) {
+            Page<MovieDto> page = measure(() -> movieService.searchMovieByTitle(TITLE, PageRequest.of(0, pageSize)), INDEX_SEARCH_STATEMENTS);
+
+            assertPageAssembled(page, pageSize);
+        }
+    }
+
+    // 장르 사전은 최초 1회만 로딩하므로 이번 테스트 데이터로 다시 채워 둠 (컨텍스트 캐시로 테스트 간 공유됨)
+    private void warmUpGenreDictionary() {
+        movieGenreDictionary.invalidate();
+        movieService.searchMovieByTitle(TITLE, PageRequest.of(0, 1));
+    }
+
+    // 새 요청처럼 영속성 컨텍스트를 비운 뒤 실행한 SQL 문 수를 검증
+    private Page<MovieDto> measure(Supplier<Page<MovieDto>> search, long expectedStatements) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<MovieDto> page = search.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expectedStatements);
+        return page;
+    }
+
+    private void assertPageAssembled(Page<MovieDto> page, int pageSize) {
+        assertThat(page.getContent()).hasSize(pageSize);
+        assertThat(page.getTotalElements()).isEqualTo(MOVIE_COUNT);
+
+        MovieDto first = page.getContent().get(0);
+        assertThat(first.getTitle()).isEqualTo(TITLE + " " + MOVIE_COUNT);
+        assertThat(first.getMovieId()).isNotNull();
+        assertThat(first.getGenre()).containsExactlyInAnyOrder("액션", "드라마");
+        assertThat(first.getPosterPath()).isEqualTo("/poster" + MOVIE_COUNT + ".jpg");
+        assertThat(first.getDirector()).hasSize(1);
+    }
+}
@@ -0,0 +1,43 @@
+package autoever_2st.project.review.Entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MovieKeywordHistogramTest {
+
+    @Test
+    @DisplayName("'.'은 전각 마침표로 바꿔 Mongo 필드명에 쓸 수 있게 한다")
+    void encodesDots() {
+        assertThat(MovieKeywordHistogram.encodeKey("3.5d")).isEqualTo("3．5d");
+        assertThat(MovieKeywordHistogram.encodeKey("a.b.c")).isEqualTo("a．b．c");
+    }
+
+    @Test
+    @DisplayName("맨 앞 '$'만 전각 달러로 바꾸고 중간의 '$'는 그대로 둔다")
+    void encodesOnlyLeadingDollar() {
+        assertThat(MovieKeywordHistogram.encodeKey("$money")).isEqualTo("＄money");
+        assertThat(MovieKeywordHistogram.encodeKey("us$")).isEqualTo("us$");
+        assertThat(MovieKeywordHistogram.encodeKey("$1.5")).isEqualTo("＄1．5");
+    }
+
+    @Test
+    @DisplayName("일반 키워드는 바꾸지 않는다")
+    void keepsPlainKeywords() {
+        assertThat(MovieKeywordHistogram.encodeKey("연기")).isEqualTo("연기");
+        assertThat(MovieKeywordHistogram.decodeKey("연기")).isEqualTo("연기");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"연기", "3.5d", "$money", "$1.5", "us$", ".", "$", "..$"})
+    @DisplayName("encodeKey 후 decodeKey 하면 원래 키워드로 돌아온다")
+    void roundTrips(String keyword) {
+        String encoded = MovieKeywordHistogram.encodeKey(keyword);
+
+        assertThat(encoded).doesNotContain(".").doesNotStartWith("$");
+        assertThat(MovieKeywordHistogram.decodeKey(encoded)).isEqualTo(keyword);
+    }
+}
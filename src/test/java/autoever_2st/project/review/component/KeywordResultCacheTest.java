@@ -0,0 +1,50 @@
+package autoever_2st.project.review.component;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordResultCacheTest {
+
+    @Test
+    @DisplayName("null은 빈 문자열로 정규화한다")
+    void normalizesNullToEmpty() {
+        assertThat(KeywordResultCache.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("NFKC 변환 후 소문자로 바꾼다")
+    void appliesNfkcAndLowercase() {
+        assertThat(KeywordResultCache.normalize("ＧＯＯＤ Movie")).isEqualTo("good movie");
+    }
+
+    @Test
+    @DisplayName("문장부호는 공백으로 바꾸고 연속 공백은 하나로 줄인 뒤 양끝을 자른다")
+    void replacesPunctuationAndCollapsesWhitespace() {
+        assertThat(KeywordResultCache.normalize("  최고의 영화!!  정말,   재밌다... ")).isEqualTo("최고의 영화 정말 재밌다");
+    }
+
+    @Test
+    @DisplayName("세 번 이상 반복된 글자는 두 번으로 줄인다")
+    void collapsesRepeatedCharacters() {
+        assertThat(KeywordResultCache.normalize("재밌다ㅋㅋㅋㅋㅋ ㅠㅠ")).isEqualTo("재밌다ㅋㅋ ㅠㅠ");
+    }
+
+    @Test
+    @DisplayName("표기만 다른 리뷰는 같은 contentHash를 갖는다")
+    void nearIdenticalContentsShareHash() {
+        String hash = KeywordResultCache.contentHash("연기가 정말 좋았다ㅋㅋㅋ");
+
+        assertThat(KeywordResultCache.contentHash("  연기가   정말 좋았다ㅋㅋㅋㅋㅋㅋ!! ")).isEqualTo(hash);
+        assertThat(KeywordResultCache.contentHash("연기가, 정말 좋았다ㅋㅋ")).isEqualTo(hash);
+        assertThat(hash).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("내용이 다르면 contentHash도 다르다")
+    void differentContentsHaveDifferentHash() {
+        assertThat(KeywordResultCache.contentHash("연기가 좋았다"))
+                .isNotEqualTo(KeywordResultCache.contentHash("연출이 좋았다"));
+    }
+}
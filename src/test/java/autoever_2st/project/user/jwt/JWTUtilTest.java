@@ -0,0 +1,70 @@
+package autoever_2st.project.user.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JWTUtilTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-0123456789abcdef";
+
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET);
+
+    @Test
+    @DisplayName("한 번의 검증으로 loginId, role, 만료 시각을 모두 꺼낸다")
+    void verifyReturnsAllClaims() {
+        String token = jwtUtil.createJwt("user@test.com", "ROLE_USER", 60_000L);
+
+        JWTUtil.VerifiedToken verified = jwtUtil.verify(token);
+
+        assertThat(verified.loginId()).isEqualTo("user@test.com");
+        assertThat(verified.role()).isEqualTo("ROLE_USER");
+        assertThat(verified.expiration()).isInTheFuture();
+        assertThat(jwtUtil.isExpired(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 거부한다")
+    void rejectsTamperedToken() {
+        String token = jwtUtil.createJwt("user@test.com", "ROLE_USER", 60_000L);
+        String tampered = tamper(token, jwtUtil.createJwt("admin@test.com", "ROLE_ADMIN", 60_000L));
+
+        assertThatThrownBy(() -> jwtUtil.verify(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명한 토큰은 거부한다")
+    void rejectsTokenSignedWithOtherKey() {
+        String token = new JWTUtil("another-secret-key-for-jwt-util-0123456789ab").createJwt("user@test.com", "ROLE_USER", 60_000L);
+
+        assertThatThrownBy(() -> jwtUtil.verify(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException으로 거부하고 isExpired는 true")
+    void rejectsExpiredToken() {
+        String token = jwtUtil.createJwt("user@test.com", "ROLE_USER", -60_000L);
+
+        assertThatThrownBy(() -> jwtUtil.verify(token)).isInstanceOf(ExpiredJwtException.class);
+        assertThat(jwtUtil.isExpired(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("digest는 토큰별로 고정된 64자리 SHA-256 hex")
+    void digestIsStableSha256Hex() {
+        String token = jwtUtil.createJwt("user@test.com", "ROLE_USER", 60_000L);
+
+        assertThat(JWTUtil.digest(token)).hasSize(64).matches("[0-9a-f]+").isEqualTo(JWTUtil.digest(token));
+        assertThat(JWTUtil.digest(token + "x")).isNotEqualTo(JWTUtil.digest(token));
+    }
+
+    // 서명은 그대로 두고 payload만 다른 토큰의 것으로 바꿔치기
+    private static String tamper(String token, String otherToken) {
+        String[] parts = token.split("\\.");
+        return parts[0] + "." + otherToken.split("\\.")[1] + "." + parts[2];
+    }
+}
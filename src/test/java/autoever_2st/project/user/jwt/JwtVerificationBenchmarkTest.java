@@ -0,0 +1,71 @@
+package autoever_2st.project.user.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWTFilter 요청당 토큰 검증 비용 비교 (변경 전: 요청마다 파서 생성 + 서명 검증 3회, 변경 후: digest + 검증 캐시)
+ * 실행: BENCHMARK=true ./gradlew test --tests '*JwtVerificationBenchmarkTest'
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class JwtVerificationBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtVerificationBenchmarkTest.class);
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-0123456789abcdef";
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 100_000;
+
+    private final SecretKey secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+            Jwts.SIG.HS256.key().build().getAlgorithm());
+    private final JWTUtil jwtUtil = new JWTUtil(SECRET);
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(jwtUtil);
+    private final String token = jwtUtil.createJwt("user@test.com", "ROLE_USER", 3_600_000L);
+
+    @Test
+    @DisplayName("요청당 토큰 검증 시간: 파싱 3회 vs 단일 검증 vs 검증 캐시")
+    void filterVerificationOverheadPerRequest() {
+        double before = measure(this::verifyThreeTimesWithNewParser);
+        double singleParse = measure(() -> jwtUtil.verify(token).loginId());
+        double cached = measure(() -> verifiedTokenCache.verify(token, JWTUtil.digest(token)).loginId());
+
+        log.info("JWT 검증 (요청당 평균) - 변경 전 3회 파싱: {} ns, 단일 검증: {} ns, 검증 캐시: {} ns",
+                Math.round(before), Math.round(singleParse), Math.round(cached));
+        assertThat(singleParse).as("단일 검증이 3회 파싱보다 빨라야 함").isLessThan(before);
+        assertThat(cached).as("검증 캐시가 3회 파싱보다 빨라야 함").isLessThan(before);
+    }
+
+    // 변경 전 JWTFilter: isExpired, getLoginId, getRole 마다 파서를 새로 만들어 서명 검증
+    private String verifyThreeTimesWithNewParser() {
+        Claims expiration = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        Claims loginId = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        Claims role = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return expiration.getExpiration() + loginId.get("loginId", String.class) + role.get("role", String.class);
+    }
+
+    private double measure(Supplier<String> perRequest) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            sink += perRequest.get().length();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink += perRequest.get().length();
+        }
+        double nanosPerOp = (double) (System.nanoTime() - start) / MEASURE_ITERATIONS;
+        assertThat(sink).isPositive();
+        return nanosPerOp;
+    }
+}
@@ -0,0 +1,62 @@
+package autoever_2st.project.user.jwt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBloomFilterTest {
+
+    private static final int EXPECTED_INSERTIONS = 10_000;
+    private static final int PROBES = 100_000;
+
+    private final Random random = new Random(42);
+
+    @Test
+    @DisplayName("추가한 digest는 항상 있을 수도 있음으로 판정한다")
+    void neverReportsFalseNegative() {
+        TokenBloomFilter filter = new TokenBloomFilter(EXPECTED_INSERTIONS);
+        List<String> digests = new ArrayList<>(EXPECTED_INSERTIONS);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            String digest = randomDigest();
+            digests.add(digest);
+            filter.put(digest);
+        }
+
+        assertThat(digests).allMatch(filter::mightContain);
+    }
+
+    @Test
+    @DisplayName("예상 건수만큼 채웠을 때 오탐률은 목표(1%) 근처에 머문다")
+    void falsePositiveRateStaysNearTarget() {
+        TokenBloomFilter filter = new TokenBloomFilter(EXPECTED_INSERTIONS);
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            filter.put(randomDigest());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            if (filter.mightContain(randomDigest())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / PROBES).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 어떤 digest도 포함하지 않는다")
+    void emptyFilterContainsNothing() {
+        TokenBloomFilter filter = new TokenBloomFilter(0);
+
+        assertThat(filter.mightContain(randomDigest())).isFalse();
+    }
+
+    private String randomDigest() {
+        return JWTUtil.digest(Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong()));
+    }
+}
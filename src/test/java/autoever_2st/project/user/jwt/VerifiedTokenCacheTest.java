@@ -0,0 +1,119 @@
+package autoever_2st.project.user.jwt;
+
+import autoever_2st.project.admin.dto.stats.CacheStatsDto;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-util-0123456789abcdef";
+    // VerifiedTokenCache.MAX_ENTRIES
+    private static final int MAX_ENTRIES = 10_000;
+
+    @Test
+    @DisplayName("같은 토큰의 두 번째 검증은 서명 검증 없이 캐시에서 반환한다")
+    void secondVerifyHitsCache() {
+        JWTUtil jwtUtil = spy(new JWTUtil(SECRET));
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil);
+        String token = jwtUtil.createJwt("user@test.com", "ROLE_USER", 60_000L);
+
+        JWTUtil.VerifiedToken first = cache.verify(token);
+        JWTUtil.VerifiedToken second = cache.verify(token);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(second.loginId()).isEqualTo("user@test.com");
+        verify(jwtUtil, times(1)).verify(token);
+
+        CacheStatsDto stats = cache.getStats();
+        assertThat(stats.getHitCount()).isEqualTo(1L);
+        assertThat(stats.getMissCount()).isEqualTo(1L);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목은 제거하고 다시 검증한다")
+    void expiredEntryIsEvictedAndReverified() throws InterruptedException {
+        JWTUtil jwtUtil = mock(JWTUtil.class);
+        when(jwtUtil.verify("token"))
+                .thenReturn(new JWTUtil.VerifiedToken("user@test.com", "ROLE_USER", new Date(System.currentTimeMillis() + 50)))
+                .thenThrow(new ExpiredJwtException(null, null, "expired"));
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil);
+
+        cache.verify("token");
+        Thread.sleep(100);
+
+        assertThatThrownBy(() -> cache.verify("token")).isInstanceOf(ExpiredJwtException.class);
+        verify(jwtUtil, times(2)).verify("token");
+
+        CacheStatsDto stats = cache.getStats();
+        assertThat(stats.getInvalidationCount()).isEqualTo(1L);
+        assertThat(stats.getHitCount()).isZero();
+        assertThat(stats.getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("항목 수는 최대 개수를 넘지 않고 가장 오래 쓰지 않은 토큰부터 밀려난다")
+    void lruIsBounded() {
+        JWTUtil jwtUtil = mock(JWTUtil.class);
+        when(jwtUtil.verify(anyString()))
+                .thenAnswer(invocation -> new JWTUtil.VerifiedToken(invocation.getArgument(0), "ROLE_USER",
+                        new Date(System.currentTimeMillis() + 60_000)));
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil);
+
+        cache.verify("token-0");
+        cache.verify("token-1");
+        for (int i = 2; i < MAX_ENTRIES; i++) {
+            cache.verify("token-" + i);
+        }
+        // token-0을 최근 사용으로 올린 뒤 하나 더 넣으면 token-1이 밀려남
+        cache.verify("token-0");
+        cache.verify("token-" + MAX_ENTRIES);
+
+        CacheStatsDto stats = cache.getStats();
+        assertThat(stats.getSize()).isEqualTo(MAX_ENTRIES);
+        assertThat(stats.getEvictionCount()).isEqualTo(1L);
+
+        cache.verify("token-0");
+        cache.verify("token-1");
+        verify(jwtUtil, times(1)).verify("token-0");
+        verify(jwtUtil, times(2)).verify("token-1");
+    }
+
+    @Test
+    @DisplayName("변조되거나 만료된 토큰은 거부하고 실패 결과는 캐시하지 않는다")
+    void rejectsTamperedAndExpiredTokensWithoutCaching() {
+        JWTUtil jwtUtil = new JWTUtil(SECRET);
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil);
+        String token = jwtUtil.createJwt("user@test.com", "ROLE_USER", 60_000L);
+        String tampered = tamper(token, jwtUtil.createJwt("admin@test.com", "ROLE_ADMIN", 60_000L));
+        String expired = jwtUtil.createJwt("user@test.com", "ROLE_USER", -60_000L);
+
+        assertThatThrownBy(() -> cache.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> cache.verify(tampered)).isInstanceOf(JwtException.class);
+        assertThatThrownBy(() -> cache.verify(expired)).isInstanceOf(ExpiredJwtException.class);
+
+        CacheStatsDto stats = cache.getStats();
+        assertThat(stats.getSize()).isZero();
+        assertThat(stats.getHitCount()).isZero();
+        assertThat(stats.getLoadFailureCount()).isEqualTo(3L);
+    }
+
+    // 서명은 그대로 두고 payload만 다른 토큰의 것으로 바꿔치기
+    private static String tamper(String token, String otherToken) {
+        String[] parts = token.split("\\.");
+        return parts[0] + "." + otherToken.split("\\.")[1] + "." + parts[2];
+    }
+}